@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static org.jenetics.ProbabilitySelector.incremental;
+import static org.jenetics.ProbabilitySelector.indexOf;
+import static org.jenetics.internal.math.arithmetic.normalize;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.util.LCG64ShiftRandom;
+
+/**
+ * Compares the cumulative (binary search) sampling with the alias table
+ * sampling of the {@link ProbabilitySelector}. Both benchmarks draw as many
+ * indexes as there are probabilities, including the table creation.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.8
+ * @since 3.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProbabilitySelectorSamplingPerf {
+
+	@Param({"1000", "100000", "1000000"})
+	public int size;
+
+	private final Random random = new LCG64ShiftRandom(123);
+	private double[] probabilities;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		probabilities = new double[size];
+		for (int i = 0; i < size; ++i) {
+			probabilities[i] = Math.abs(random.nextGaussian()) + 0.1;
+		}
+		normalize(probabilities);
+	}
+
+	@Benchmark
+	public long cumulative() {
+		final double[] prob = incremental(probabilities.clone());
+
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += indexOf(prob, random.nextDouble());
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long alias() {
+		final AliasTable table = AliasTable.of(probabilities.clone());
+
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += table.next(random);
+		}
+		return sum;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + ProbabilitySelectorSamplingPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Compares the full rank sorting of the population with the bounded heap
+ * top-k selection, used by the {@link TruncationSelector}. The population is
+ * copied in every benchmark, to prevent the use of the cached rank order.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.8
+ * @since 3.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TruncationSelectorPerf {
+
+	@Param({"10000", "100000", "500000"})
+	public int populationSize;
+
+	@Param({"100", "1000", "10000"})
+	public int count;
+
+	private Population<DoubleGene, Double> population;
+
+	@Setup
+	public void setup() {
+		RandomRegistry.setRandom(new LCG64ShiftRandom.ThreadSafe(123));
+		population = IntStream.range(0, populationSize)
+			.mapToObj(i -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)), 1,
+				gt -> gt.getGene().getAllele()))
+			.collect(Population.toPopulation());
+		population.forEach(Phenotype::evaluate);
+	}
+
+	@Benchmark
+	public int rank() {
+		return population.copy().rank(Optimize.MAXIMUM)[count - 1];
+	}
+
+	@Benchmark
+	public int top() {
+		return population.copy().top(count, Optimize.MAXIMUM)[count - 1];
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + TruncationSelectorPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+
+/**
+ * Measures the throughput of concurrent fitness cache lookups. The number of
+ * cache segments is given as parameter; one segment corresponds to a cache
+ * with one global lock.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.8
+ * @since 3.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class FitnessCachePerf {
+
+	@Param({"1", "16", "64"})
+	public int segments;
+
+	private Genotype<DoubleGene>[] genotypes;
+	private FitnessCache<DoubleGene, Double> cache;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		final Genotype<DoubleGene> factory =
+			Genotype.of(DoubleChromosome.of(0, 1, 10));
+
+		genotypes = (Genotype<DoubleGene>[])new Genotype<?>[20_000];
+		for (int i = 0; i < genotypes.length; ++i) {
+			genotypes[i] = factory.newInstance();
+		}
+		cache = new FitnessCache<>(
+			gt -> gt.getGene().getAllele(),
+			10_000,
+			segments
+		);
+	}
+
+	@Benchmark
+	public Double apply() {
+		final int index = ThreadLocalRandom.current().nextInt(genotypes.length);
+		return cache.apply(genotypes[index]);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + FitnessCachePerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Mutator;
+import org.jenetics.SinglePointCrossover;
+import org.jenetics.TournamentSelector;
+
+/**
+ * Measures one step of the {@link SteadyStateEngine}. The cost of a step
+ * should only depend on the replacement count, and not on the population
+ * size. Run it with the {@code -prof gc} option, for getting the allocated
+ * bytes per step ({@code gc.alloc.rate.norm}).
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.8
+ * @since 3.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SteadyStateEnginePerf {
+
+	@Param({"1000", "10000", "100000"})
+	public int populationSize;
+
+	@Param({"8"})
+	public int replacementCount;
+
+	private Iterator<EvolutionResult<DoubleGene, Double>> steps;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(populationSize)
+			.offspringSelector(new TournamentSelector<>())
+			.alterers(
+				new Mutator<>(0.01),
+				new SinglePointCrossover<>(0.05))
+			.executor(Runnable::run)
+			.build();
+
+		steps = SteadyStateEngine.of(engine, replacementCount).iterator();
+		steps.next();
+	}
+
+	@Benchmark
+	public EvolutionResult<DoubleGene, Double> step() {
+		return steps.next();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + SteadyStateEnginePerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
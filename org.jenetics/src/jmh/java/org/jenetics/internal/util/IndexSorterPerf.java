@@ -37,7 +37,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 3.0
+ * @version 3.8
  * @since 3.0
  */
 @State(Scope.Benchmark)
@@ -51,6 +51,11 @@ public class IndexSorterPerf {
 	private double[] array160 = new Random().doubles(160).toArray();
 	private double[] array250 = new Random().doubles(250).toArray();
 	private double[] array320 = new Random().doubles(320).toArray();
+	private double[] array500 = new Random().doubles(500).toArray();
+	private double[] array1000 = new Random().doubles(1000).toArray();
+	private double[] array2000 = new Random().doubles(2000).toArray();
+	private double[] array10000 = new Random().doubles(10000).toArray();
+	private double[] array100000 = new Random().doubles(100000).toArray();
 
 
 	@Setup(Level.Iteration)
@@ -61,6 +66,11 @@ public class IndexSorterPerf {
 		array.shuffle(array160);
 		array.shuffle(array250);
 		array.shuffle(array320);
+		array.shuffle(array500);
+		array.shuffle(array1000);
+		array.shuffle(array2000);
+		array.shuffle(array10000);
+		array.shuffle(array100000);
 	}
 
 	//@Benchmark
@@ -123,6 +133,71 @@ public class IndexSorterPerf {
 		return IndexSorter.HEAP_SORTER.sort(array320, IndexSorter.indexes(320))[0];
 	}
 
+	@Benchmark
+	public int heapSort500() {
+		return IndexSorter.HEAP_SORTER.sort(array500, IndexSorter.indexes(500))[0];
+	}
+
+	@Benchmark
+	public int heapSort1000() {
+		return IndexSorter.HEAP_SORTER.sort(array1000, IndexSorter.indexes(1000))[0];
+	}
+
+	@Benchmark
+	public int heapSort2000() {
+		return IndexSorter.HEAP_SORTER.sort(array2000, IndexSorter.indexes(2000))[0];
+	}
+
+	@Benchmark
+	public int heapSort10000() {
+		return IndexSorter.HEAP_SORTER.sort(array10000, IndexSorter.indexes(10000))[0];
+	}
+
+	@Benchmark
+	public int heapSort100000() {
+		return IndexSorter.HEAP_SORTER.sort(array100000, IndexSorter.indexes(100000))[0];
+	}
+
+	@Benchmark
+	public int radixSort160() {
+		return IndexSorter.RADIX_SORTER.sort(array160, IndexSorter.indexes(160))[0];
+	}
+
+	@Benchmark
+	public int radixSort250() {
+		return IndexSorter.RADIX_SORTER.sort(array250, IndexSorter.indexes(250))[0];
+	}
+
+	@Benchmark
+	public int radixSort320() {
+		return IndexSorter.RADIX_SORTER.sort(array320, IndexSorter.indexes(320))[0];
+	}
+
+	@Benchmark
+	public int radixSort500() {
+		return IndexSorter.RADIX_SORTER.sort(array500, IndexSorter.indexes(500))[0];
+	}
+
+	@Benchmark
+	public int radixSort1000() {
+		return IndexSorter.RADIX_SORTER.sort(array1000, IndexSorter.indexes(1000))[0];
+	}
+
+	@Benchmark
+	public int radixSort2000() {
+		return IndexSorter.RADIX_SORTER.sort(array2000, IndexSorter.indexes(2000))[0];
+	}
+
+	@Benchmark
+	public int radixSort10000() {
+		return IndexSorter.RADIX_SORTER.sort(array10000, IndexSorter.indexes(10000))[0];
+	}
+
+	@Benchmark
+	public int radixSort100000() {
+		return IndexSorter.RADIX_SORTER.sort(array100000, IndexSorter.indexes(100000))[0];
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + IndexSorterPerf.class.getSimpleName() + ".*")
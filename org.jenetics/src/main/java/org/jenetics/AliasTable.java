@@ -0,0 +1,124 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.Random;
+
+/**
+ * Alias table for sampling indexes from a discrete probability distribution,
+ * implemented with the <em>Vose</em> alias method. The table is created in
+ * <i>O(n)</i>; drawing an index requires <i>O(1)</i> time and one random
+ * number, independent of the number of probabilities.
+ *
+ * @see <a href="http://www.keithschwarz.com/darts-dice-coins/">
+ *          Darts, Dice, and Coins: Sampling from a Discrete Distribution
+ *      </a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class AliasTable {
+
+	final double[] _probabilities;
+	final int[] _aliases;
+
+	private AliasTable(final double[] probabilities, final int[] aliases) {
+		_probabilities = probabilities;
+		_aliases = aliases;
+	}
+
+	/**
+	 * Return the sampled index for the given uniformly distributed value
+	 * {@code v}.
+	 *
+	 * @param v the random value, within the range {@code [0, 1)}
+	 * @return the sampled index
+	 */
+	int indexOf(final double v) {
+		final double u = v*_probabilities.length;
+		final int index = Math.min((int)u, _probabilities.length - 1);
+		return u - index < _probabilities[index] ? index : _aliases[index];
+	}
+
+	/**
+	 * Return the next sampled index, using the given {@code random} engine.
+	 *
+	 * @param random the random engine used for sampling
+	 * @return the sampled index
+	 */
+	int next(final Random random) {
+		return indexOf(random.nextDouble());
+	}
+
+	/**
+	 * Create a new alias table from the given {@code probabilities}, which
+	 * must sum to one. <em>The given probability array is reused by the
+	 * created table and must not be changed afterwards.</em>
+	 *
+	 * @param probabilities the probabilities of the indexes; the array is
+	 *        overwritten by this method
+	 * @return a new alias table
+	 */
+	static AliasTable of(final double[] probabilities) {
+		final int n = probabilities.length;
+		final int[] aliases = new int[n];
+
+		// The indexes of the 'small' probabilities are pushed from the start,
+		// the indexes of the 'large' probabilities from the end of the array.
+		final int[] work = new int[n];
+		int small = 0;
+		int large = 0;
+
+		for (int i = 0; i < n; ++i) {
+			aliases[i] = i;
+			probabilities[i] *= n;
+			if (probabilities[i] < 1.0) {
+				work[small++] = i;
+			} else {
+				work[n - ++large] = i;
+			}
+		}
+
+		while (small > 0 && large > 0) {
+			final int l = work[--small];
+			final int g = work[n - large--];
+
+			aliases[l] = g;
+			probabilities[g] = (probabilities[g] + probabilities[l]) - 1.0;
+			if (probabilities[g] < 1.0) {
+				work[small++] = g;
+			} else {
+				work[n - ++large] = g;
+			}
+		}
+
+		// Remaining entries are (numerically) one.
+		while (large > 0) {
+			probabilities[work[n - large--]] = 1.0;
+		}
+		while (small > 0) {
+			probabilities[work[--small]] = 1.0;
+		}
+
+		return new AliasTable(probabilities, aliases);
+	}
+
+}
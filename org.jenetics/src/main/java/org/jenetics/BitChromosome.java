@@ -29,6 +29,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Iterator;
 import java.util.ListIterator;
@@ -54,7 +55,7 @@ import org.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.4
+ * @version 3.8
  */
 @XmlJavaTypeAdapter(BitChromosome.Model.Adapter.class)
 public class BitChromosome extends Number
@@ -323,15 +324,62 @@ public class BitChromosome extends Number
 		return data;
 	}
 
+	/**
+	 * Writes the bits of this chromosome into the given {@code long} array.
+	 * The bit with index {@code i} is stored in the word
+	 * {@code words[i >>> 6]} at the bit position {@code i & 63}. Unused bits
+	 * of the last word are set to zero.
+	 *
+	 * @since 3.8
+	 *
+	 * @param words the words which will hold the bits of this chromosome
+	 * @return the number of words written
+	 * @throws IndexOutOfBoundsException
+	 *         if {@code words.length < (int)Math.ceil(length()/64.0)}
+	 * @throws NullPointerException it the give array is {@code null}.
+	 */
+	public int toLongArray(final long[] words) {
+		final int length = (_length + 63) >>> 6;
+		if (words.length < length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		Arrays.fill(words, 0, length, 0L);
+		for (int i = 0; i < _genes.length; ++i) {
+			words[i >>> 3] |= (_genes[i] & 0xFFL) << ((i & 7) << 3);
+		}
+		if ((_length & 63) != 0) {
+			words[length - 1] &= -1L >>> (64 - (_length & 63));
+		}
+
+		return length;
+	}
+
+	/**
+	 * Return the bits of this chromosome as {@code long} array. The length of
+	 * the returned array is {@code (int)Math.ceil(length()/64.0)}.
+	 *
+	 * @since 3.8
+	 *
+	 * @see #toLongArray(long[])
+	 *
+	 * @return a long array which represents this {@code BitChromosome}
+	 */
+	public long[] toLongArray() {
+		final long[] words = new long[(_length + 63) >>> 6];
+		toLongArray(words);
+		return words;
+	}
+
 	/**
 	 * Return the corresponding BitSet of this BitChromosome.
 	 *
 	 * @return The corresponding BitSet of this BitChromosome.
 	 */
 	public BitSet toBitSet() {
-		final BitSet set = new BitSet(length());
-		for (int i = 0, n = length(); i < n; ++i) {
-			set.set(i, getGene(i).getBit());
+		final BitSet set = BitSet.valueOf(_genes);
+		if (set.length() > _length) {
+			set.clear(_length, set.length());
 		}
 		return set;
 	}
@@ -344,8 +392,7 @@ public class BitChromosome extends Number
 	 * @return the indexes of the <i>ones</i> of this bit-chromosome
 	 */
 	public IntStream ones() {
-		return IntStream.range(0, length())
-			.filter(index -> bit.get(_genes, index));
+		return toBitSet().stream();
 	}
 
 	/**
@@ -356,8 +403,9 @@ public class BitChromosome extends Number
 	 * @return the indexes of the <i>zeros</i> of this bit-chromosome
 	 */
 	public IntStream zeros() {
-		return IntStream.range(0, length())
-			.filter(index -> !bit.get(_genes, index));
+		final BitSet set = toBitSet();
+		set.flip(0, _length);
+		return set.stream();
 	}
 
 	@Override
@@ -523,9 +571,17 @@ public class BitChromosome extends Number
 	public boolean equals(final Object obj) {
 		return Equality.of(this, obj).test(c -> {
 			boolean equals = length() == c.length();
-			for (int i = 0, n = length(); equals && i < n; ++i) {
-				equals = getGene(i) == c.getGene(i);
+
+			// Only the used bits of the last byte are compared.
+			final int bytes = _length >>> 3;
+			for (int i = 0; equals && i < bytes; ++i) {
+				equals = _genes[i] == c._genes[i];
+			}
+			if (equals && (_length & 7) != 0) {
+				final int mask = (1 << (_length & 7)) - 1;
+				equals = ((_genes[bytes] ^ c._genes[bytes]) & mask) == 0;
 			}
+
 			return equals;
 		});
 	}
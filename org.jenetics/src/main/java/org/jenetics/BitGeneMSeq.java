@@ -30,12 +30,10 @@ import org.jenetics.internal.collection.ArrayMSeq;
 import org.jenetics.internal.util.bit;
 import org.jenetics.internal.util.require;
 
-import org.jenetics.util.MSeq;
-
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.4
+ * @version 3.8
  */
 final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 
@@ -59,23 +57,21 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 		bit.set(bytes, j, temp);
 	}
 
-	@Override
-	public void swap(
-		final int start, final int end,
-		final MSeq<BitGene> other, final int otherStart
-	) {
-		if (other instanceof BitGeneMSeq) {
-			checkIndex(start, end, otherStart, other.length());
-			final BitGeneMSeq otherMSeq = (BitGeneMSeq)other;
-			final BitGeneStore thisStore = (BitGeneStore)array.store();
-			final BitGeneStore otherStore = (BitGeneStore)otherMSeq.array.store();
-
-			array.copyIfSealed();
-			otherMSeq.array.copyIfSealed();
-			thisStore.swap(start, end, otherStore, otherStart);
-		} else {
-			super.swap(start, end, other, otherStart);
-		}
+	/**
+	 * Swap all bits of {@code this} and the {@code other} sequence, which are
+	 * set in the given {@code mask}. The sequences are processed byte wise.
+	 *
+	 * @param other the other bit sequence
+	 * @param mask the bits to swap
+	 */
+	void swap(final BitGeneMSeq other, final byte[] mask) {
+		array.copyIfSealed();
+		other.array.copyIfSealed();
+		bit.swap(
+			((BitGeneStore)array.store()).array,
+			((BitGeneStore)other.array.store()).array,
+			mask
+		);
 	}
 
 	@Override
@@ -131,7 +127,7 @@ final class BitGeneISeq extends ArrayISeq<BitGene> {
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.4
+ * @version 3.8
  */
 final class BitGeneStore implements Array.Store<BitGene>, Serializable {
 	private static final long serialVersionUID = 1L;
@@ -162,11 +158,18 @@ final class BitGeneStore implements Array.Store<BitGene>, Serializable {
 		bit.set(array, index, value.booleanValue());
 	}
 
-	void swap(
-		final int start, final int end,
-		final BitGeneStore other, final int otherStart
+	@Override
+	public void swap(
+		final int from,
+		final int until,
+		final Array.Store<BitGene> other,
+		final int otherFrom
 	) {
-		bit.swap(array, start, end, other.array, otherStart);
+		if (other instanceof BitGeneStore) {
+			bit.swap(array, from, until, ((BitGeneStore)other).array, otherFrom);
+		} else {
+			Array.Store.super.swap(from, until, other, otherFrom);
+		}
 	}
 
 	@Override
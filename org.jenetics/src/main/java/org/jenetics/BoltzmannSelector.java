@@ -56,7 +56,7 @@ import org.jenetics.internal.util.Hash;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.2
+ * @version 3.8
  */
 public final class BoltzmannSelector<
 	G extends Gene<?, G>,
@@ -75,6 +75,22 @@ public final class BoltzmannSelector<
 	 * @param b the <i>b</i> value of this BoltzmannSelector
 	 */
 	public BoltzmannSelector(final double b) {
+		this(b, Sampling.CUMULATIVE);
+	}
+
+	/**
+	 * Create a new BoltzmannSelector with the given <i>b</i> value and
+	 * {@code sampling} strategy.
+	 *
+	 * @since 3.8
+	 *
+	 * @param b the <i>b</i> value of this BoltzmannSelector
+	 * @param sampling the strategy used for drawing the selected individuals
+	 * @throws NullPointerException if the given {@code sampling} strategy is
+	 *         {@code null}
+	 */
+	public BoltzmannSelector(final double b, final Sampling sampling) {
+		super(false, sampling);
 		_b = b;
 	}
 
@@ -127,13 +143,14 @@ public final class BoltzmannSelector<
 
 	@Override
 	public int hashCode() {
-		return Hash.of(getClass()).and(_b).value();
+		return Hash.of(getClass()).and(_b).and(getSampling()).value();
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
 		return obj instanceof BoltzmannSelector &&
-			Double.compare(((BoltzmannSelector)obj)._b, _b) == 0;
+			Double.compare(((BoltzmannSelector)obj)._b, _b) == 0 &&
+			((BoltzmannSelector)obj).getSampling() == getSampling();
 	}
 
 	@Override
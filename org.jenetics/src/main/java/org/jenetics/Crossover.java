@@ -42,7 +42,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.6
+ * @version 3.8
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -84,7 +84,22 @@ public abstract class Crossover<
 		final MSeq<G> genes1 = c1.get(chIndex).toSeq().copy();
 		final MSeq<G> genes2 = c2.get(chIndex).toSeq().copy();
 
-		crossover(genes1, genes2);
+		// Recording the changed genes for incremental fitness functions.
+		final GenotypeDelta.Recorder recorder1 = pt1.isIncremental()
+			? new GenotypeDelta.Recorder(gt1.length())
+			: null;
+		final GenotypeDelta.Recorder recorder2 = pt2.isIncremental()
+			? new GenotypeDelta.Recorder(gt2.length())
+			: null;
+
+		if (recorder1 != null || recorder2 != null) {
+			crossover(
+				recorder1 != null ? recorder1.record(chIndex, genes1) : genes1,
+				recorder2 != null ? recorder2.record(chIndex, genes2) : genes2
+			);
+		} else {
+			crossover(genes1, genes2);
+		}
 
 		c1.set(chIndex, c1.get(chIndex).newInstance(genes1.toISeq()));
 		c2.set(chIndex, c2.get(chIndex).newInstance(genes2.toISeq()));
@@ -92,11 +107,19 @@ public abstract class Crossover<
 		//Creating two new Phenotypes and exchanging it with the old.
 		population.set(
 			individuals[0],
-			pt1.newInstance(gt1.newInstance(c1.toISeq()), generation)
+			pt1.newInstance(
+				gt1.newInstance(c1.toISeq()),
+				generation,
+				recorder1 != null ? recorder1.toDelta() : null
+			)
 		);
 		population.set(
 			individuals[1],
-			pt2.newInstance(gt1.newInstance(c2.toISeq()), generation)
+			pt2.newInstance(
+				gt1.newInstance(c2.toISeq()),
+				generation,
+				recorder2 != null ? recorder2.toDelta() : null
+			)
 		);
 
 		return getOrder();
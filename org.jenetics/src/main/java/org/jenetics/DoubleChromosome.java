@@ -20,6 +20,7 @@
 package org.jenetics;
 
 import static org.jenetics.util.ISeq.toISeq;
+import static org.jenetics.util.RandomRegistry.getRandom;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -41,14 +42,23 @@ import org.jenetics.internal.util.Hash;
 
 import org.jenetics.util.DoubleRange;
 import org.jenetics.util.ISeq;
-import org.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 64 bit floating point numbers.
+ * <p>
+ * The alleles of the chromosome are stored in one {@code double[]} array,
+ * and all genes share the {@code min} and {@code max} value of the
+ * chromosome. The {@link DoubleGene} objects are not stored, but created on
+ * demand: every call of {@link #getGene(int)}, and every element access of
+ * the {@link #toSeq()} sequence, creates a new gene object. Two accesses of
+ * the same gene therefore return <em>equal</em>, but not <em>identical</em>
+ * gene objects. Loops over the alleles of the chromosome should use
+ * {@link #doubleValue(int)} or {@link #toArray()}, which don't create any
+ * gene objects.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 3.2
+ * @version 3.8
  */
 @XmlJavaTypeAdapter(DoubleChromosome.Model.Adapter.class)
 public class DoubleChromosome
@@ -59,6 +69,9 @@ public class DoubleChromosome
 {
 	private static final long serialVersionUID = 1L;
 
+	// The gene store of the _genes sequence.
+	private transient DoubleGeneStore _store;
+
 	/**
 	 * Create a new chromosome from the given genes array.
 	 *
@@ -67,7 +80,8 @@ public class DoubleChromosome
 	 * @throws NullPointerException if the {@code genes} are {@code null}.
 	 */
 	protected DoubleChromosome(final ISeq<DoubleGene> genes) {
-		super(genes);
+		super(DoubleGeneStore.pack(genes));
+		_store = DoubleGeneStore.of(_genes);
 	}
 
 	/**
@@ -80,7 +94,7 @@ public class DoubleChromosome
 	 * @throws IllegalArgumentException if the length is smaller than one
 	 */
 	public DoubleChromosome(final Double min,final Double max,final int length) {
-		this(DoubleGene.seq(min, max, length));
+		this(DoubleGeneStore.seq(min, max, length, getRandom()));
 		_valid = true;
 	}
 
@@ -113,10 +127,7 @@ public class DoubleChromosome
 		final double[] a = array.length >= length() ?
 			array : new double[length()];
 
-		for (int i = length(); --i >= 0;) {
-			a[i] = doubleValue(i);
-		}
-
+		System.arraycopy(_store.values, 0, a, 0, _store.values.length);
 		return a;
 	}
 
@@ -202,6 +213,20 @@ public class DoubleChromosome
 		return new DoubleChromosome(range.getMin(), range.getMax());
 	}
 
+	@Override
+	public double doubleValue(final int index) {
+		return _store.values[index];
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_valid == null) {
+			_valid = _store.isValid();
+		}
+
+		return _valid;
+	}
+
 	@Override
 	public DoubleChromosome newInstance(final ISeq<DoubleGene> genes) {
 		return new DoubleChromosome(genes);
@@ -236,8 +261,8 @@ public class DoubleChromosome
 		out.writeDouble(_min);
 		out.writeDouble(_max);
 
-		for (DoubleGene gene : _genes) {
-			out.writeDouble(gene.getAllele());
+		for (double value : _store.values) {
+			out.writeDouble(value);
 		}
 	}
 
@@ -246,15 +271,16 @@ public class DoubleChromosome
 	{
 		in.defaultReadObject();
 
-		final MSeq<DoubleGene> genes = MSeq.ofLength(in.readInt());
+		final double[] values = new double[in.readInt()];
 		_min = in.readDouble();
 		_max = in.readDouble();
 
-		for (int i = 0; i < genes.length(); ++i) {
-			genes.set(i, new DoubleGene(in.readDouble(), _min, _max));
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readDouble();
 		}
 
-		_genes = genes.toISeq();
+		_store = new DoubleGeneStore(values, _min, _max);
+		_genes = DoubleGeneStore.seq(_store);
 	}
 
 	/* *************************************************************************
@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.Double.compare;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.math.random.nextDouble;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.util.ISeq;
+
+/**
+ * Array store for {@link DoubleGene}s, which keeps the alleles in one
+ * {@code double[]} array. All genes share the same {@code min} and
+ * {@code max} value.
+ *
+ * @see GeneStore
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class DoubleGeneStore extends GeneStore<DoubleGene, DoubleGeneStore> {
+	private static final long serialVersionUID = 1L;
+
+	final double[] values;
+	final Double min;
+	final Double max;
+
+	private DoubleGeneStore(
+		final double[] values,
+		final Double min,
+		final Double max,
+		final Object[] genes
+	) {
+		super(genes);
+		this.values = requireNonNull(values);
+		this.min = requireNonNull(min);
+		this.max = requireNonNull(max);
+	}
+
+	DoubleGeneStore(final double[] values, final Double min, final Double max) {
+		this(values, min, max, null);
+	}
+
+	@Override
+	DoubleGene gene(final int index) {
+		return new DoubleGene(values[index], min, max);
+	}
+
+	@Override
+	boolean put(final int index, final DoubleGene gene) {
+		values[index] = gene._value;
+		return min.equals(gene._min) && max.equals(gene._max);
+	}
+
+	@Override
+	boolean isValid(final int index) {
+		return compare(values[index], min) >= 0 &&
+			compare(values[index], max) <= 0;
+	}
+
+	@Override
+	void mean(final int index, final DoubleGeneStore other) {
+		values[index] = values[index] + (other.values[index] - values[index])/2.0;
+	}
+
+	@Override
+	void swapValues(
+		final int from,
+		final int until,
+		final DoubleGeneStore other,
+		final int otherFrom
+	) {
+		for (int i = until - from; --i >= 0;) {
+			final double temp = values[i + from];
+			values[i + from] = other.values[otherFrom + i];
+			other.values[otherFrom + i] = temp;
+		}
+	}
+
+	@Override
+	boolean hasBounds(final DoubleGeneStore other) {
+		return min.equals(other.min) && max.equals(other.max);
+	}
+
+	@Override
+	DoubleGeneStore copy(final int from, final int until, final Object[] genes) {
+		return new DoubleGeneStore(
+			Arrays.copyOfRange(values, from, until), min, max, genes
+		);
+	}
+
+	@Override
+	public DoubleGeneStore newInstance(final int length) {
+		return new DoubleGeneStore(new double[length], min, max);
+	}
+
+	@Override
+	public int length() {
+		return values.length;
+	}
+
+	/**
+	 * Return the store of the given gene sequence, if the sequence is an
+	 * immutable view of a whole {@code DoubleGeneStore}.
+	 *
+	 * @param genes the gene sequence
+	 * @return the store of the gene sequence, or {@code null}
+	 */
+	static DoubleGeneStore of(final ISeq<DoubleGene> genes) {
+		return of(genes, DoubleGeneStore.class);
+	}
+
+	/**
+	 * Return the given gene sequence as sequence, which is backed by a
+	 * {@code DoubleGeneStore}. The bounds of the store are taken from the first
+	 * gene.
+	 *
+	 * @param genes the gene sequence to pack
+	 * @return a gene sequence backed by a {@code DoubleGeneStore}, or the given
+	 *         {@code genes} if they are {@code null} or empty
+	 */
+	static ISeq<DoubleGene> pack(final ISeq<DoubleGene> genes) {
+		return pack(genes, DoubleGeneStore.class, g -> new DoubleGeneStore(
+			new double[g.length()], g.get(0)._min, g.get(0)._max
+		));
+	}
+
+	/**
+	 * Create a new gene sequence with the given {@code length} and random
+	 * alleles within the given range.
+	 *
+	 * @param min the min value of the genes
+	 * @param max the max value of the genes
+	 * @param length the length of the gene sequence
+	 * @param random the random engine used for creating the alleles
+	 * @return a new random gene sequence, backed by a {@code DoubleGeneStore}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one
+	 */
+	static ISeq<DoubleGene> seq(
+		final Double min,
+		final Double max,
+		final int length,
+		final Random random
+	) {
+		require.positive(length);
+
+		final double a = min;
+		final double b = max;
+		final double[] values = new double[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = nextDouble(random, a, b);
+		}
+
+		return seq(new DoubleGeneStore(values, min, max));
+	}
+
+}
@@ -50,7 +50,7 @@ import org.jenetics.internal.util.Hash;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.8
  */
 public final class ExponentialRankSelector<
 	G extends Gene<?, G>,
@@ -69,7 +69,24 @@ public final class ExponentialRankSelector<
 	 *         {@code [0..1)}.
 	 */
 	public ExponentialRankSelector(final double c) {
-		super(true);
+		this(c, Sampling.CUMULATIVE);
+	}
+
+	/**
+	 * Create a new exponential rank selector with the given {@code sampling}
+	 * strategy.
+	 *
+	 * @since 3.8
+	 *
+	 * @param c the <i>c</i> value.
+	 * @param sampling the strategy used for drawing the selected individuals
+	 * @throws IllegalArgumentException if {@code c} is not within the range
+	 *         {@code [0..1)}.
+	 * @throws NullPointerException if the given {@code sampling} strategy is
+	 *         {@code null}
+	 */
+	public ExponentialRankSelector(final double c, final Sampling sampling) {
+		super(true, sampling);
 
 		if (c < 0.0 || c >= 1.0) {
 			throw new IllegalArgumentException(format(
@@ -113,13 +130,14 @@ public final class ExponentialRankSelector<
 
 	@Override
 	public int hashCode() {
-		return Hash.of(getClass()).and(_c).value();
+		return Hash.of(getClass()).and(_c).and(getSampling()).value();
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
 		return obj instanceof ExponentialRankSelector &&
-			eq(((ExponentialRankSelector)obj)._c, _c);
+			eq(((ExponentialRankSelector)obj)._c, _c) &&
+			((ExponentialRankSelector)obj).getSampling() == getSampling();
 	}
 
 	@Override
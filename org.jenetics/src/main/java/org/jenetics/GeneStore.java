@@ -0,0 +1,368 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import org.jenetics.internal.collection.Array;
+import org.jenetics.internal.collection.ArrayISeq;
+import org.jenetics.internal.collection.ArraySeq;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.Mean;
+
+/**
+ * Base class of the array stores for bounded, numeric genes, which keep the
+ * alleles of the genes in one primitive array. All genes share the bounds
+ * of the store. The gene objects are created on demand, when they are read
+ * from the store.
+ * <p>
+ * Genes with other bounds than the store can still be written to the
+ * store. They are kept in an additional array, which is only created if
+ * needed. The primitive array always contains the alleles of all genes.
+ *
+ * @param <G> the gene type
+ * @param <S> the concrete store type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+abstract class GeneStore<
+	G extends Gene<?, G>,
+	S extends GeneStore<G, S>
+>
+	implements Array.Store<G>, Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	// Genes, whose bounds differ from the bounds of the store.
+	private Object[] _genes;
+
+	GeneStore(final Object[] genes) {
+		_genes = genes;
+	}
+
+	/**
+	 * Create the gene at the given {@code index} from the primitive allele
+	 * and the bounds of the store.
+	 *
+	 * @param index the gene index
+	 * @return a new gene object
+	 */
+	abstract G gene(final int index);
+
+	/**
+	 * Write the allele of the given {@code gene} to the primitive array.
+	 *
+	 * @param index the gene index
+	 * @param gene the gene to write
+	 * @return {@code true} if the bounds of the given {@code gene} are the
+	 *         bounds of the store, {@code false} otherwise
+	 */
+	abstract boolean put(final int index, final G gene);
+
+	/**
+	 * Test whether the primitive allele at the given {@code index} is within
+	 * the bounds of the store.
+	 *
+	 * @param index the gene index
+	 * @return {@code true} if the allele is within the bounds of the store
+	 */
+	abstract boolean isValid(final int index);
+
+	/**
+	 * Replace the primitive allele at the given {@code index} with the mean
+	 * of this allele and the allele of the {@code other} store, in the same
+	 * way as the {@link Mean#mean(Object)} method of the genes does.
+	 *
+	 * @param index the gene index
+	 * @param other the other store
+	 */
+	abstract void mean(final int index, final S other);
+
+	/**
+	 * Swap the primitive alleles of the given ranges.
+	 *
+	 * @param from the start index of this store (inclusively)
+	 * @param until the end index of this store (exclusively)
+	 * @param other the other store
+	 * @param otherFrom the start index of the {@code other} store
+	 */
+	abstract void swapValues(
+		final int from,
+		final int until,
+		final S other,
+		final int otherFrom
+	);
+
+	/**
+	 * Test whether the {@code other} store has the same bounds.
+	 *
+	 * @param other the other store
+	 * @return {@code true} if both stores have the same bounds
+	 */
+	abstract boolean hasBounds(final S other);
+
+	/**
+	 * Return a new store with the copied range of the primitive alleles
+	 * and the given additional {@code genes}.
+	 *
+	 * @param from the start index (inclusively)
+	 * @param until the end index (exclusively)
+	 * @param genes the genes with other bounds than the store, may be
+	 *        {@code null}
+	 * @return a new store
+	 */
+	abstract S copy(final int from, final int until, final Object[] genes);
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final G get(final int index) {
+		return _genes != null && _genes[index] != null
+			? (G)_genes[index]
+			: gene(index);
+	}
+
+	@Override
+	public final void set(final int index, final G gene) {
+		if (put(index, gene)) {
+			if (_genes != null) {
+				_genes[index] = null;
+			}
+		} else {
+			if (_genes == null) {
+				_genes = new Object[length()];
+			}
+			_genes[index] = gene;
+		}
+	}
+
+	@Override
+	public final void sort(
+		final int from,
+		final int until,
+		final Comparator<? super G> comparator
+	) {
+		final Object[] genes = new Object[until - from];
+		for (int i = from; i < until; ++i) {
+			genes[i - from] = get(i);
+		}
+
+		@SuppressWarnings("unchecked")
+		final Comparator<Object> cmp = comparator != null
+			? (Comparator<Object>)comparator
+			: null;
+		Arrays.sort(genes, cmp);
+
+		for (int i = from; i < until; ++i) {
+			@SuppressWarnings("unchecked")
+			final G gene = (G)genes[i - from];
+			set(i, gene);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void swap(
+		final int from,
+		final int until,
+		final Array.Store<G> other,
+		final int otherFrom
+	) {
+		if (getClass() == other.getClass() && hasBounds((S)other)) {
+			final GeneStore<G, S> that = (S)other;
+			swapValues(from, until, (S)other, otherFrom);
+
+			if (_genes != null || that._genes != null) {
+				if (_genes == null) {
+					_genes = new Object[length()];
+				}
+				if (that._genes == null) {
+					that._genes = new Object[that.length()];
+				}
+				for (int i = until - from; --i >= 0;) {
+					final Object temp = _genes[i + from];
+					_genes[i + from] = that._genes[otherFrom + i];
+					that._genes[otherFrom + i] = temp;
+				}
+			}
+		} else {
+			Array.Store.super.swap(from, until, other, otherFrom);
+		}
+	}
+
+	@Override
+	public final S copy(final int from, final int until) {
+		return copy(
+			from,
+			until,
+			_genes != null ? Arrays.copyOfRange(_genes, from, until) : null
+		);
+	}
+
+	/**
+	 * Test whether all genes of the store are valid, without creating the
+	 * gene objects.
+	 *
+	 * @return {@code true} if all genes are valid, {@code false} otherwise
+	 */
+	final boolean isValid() {
+		boolean valid = true;
+		for (int i = 0, n = length(); i < n && valid; ++i) {
+			valid = _genes != null && _genes[i] != null
+				? ((Gene<?, ?>)_genes[i]).isValid()
+				: isValid(i);
+		}
+
+		return valid;
+	}
+
+	/**
+	 * Return a new store, which contains the gene-wise mean values of this
+	 * and the {@code other} store.
+	 *
+	 * @param other the other store
+	 * @return a new store with the mean values
+	 */
+	@SuppressWarnings("unchecked")
+	final S mean(final S other) {
+		final S mean = copy(0, length());
+		for (int i = 0, n = length(); i < n; ++i) {
+			mean.mean(i, other);
+		}
+
+		if (_genes != null) {
+			for (int i = 0; i < _genes.length; ++i) {
+				if (_genes[i] != null) {
+					mean.set(i, ((Mean<G>)_genes[i]).mean(other.get(i)));
+				}
+			}
+		}
+
+		return mean;
+	}
+
+
+	/* *************************************************************************
+	 * Static helper methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return the store of the given gene sequence, if the sequence is an
+	 * immutable view of the whole store.
+	 *
+	 * @param genes the gene sequence
+	 * @param type the expected store type
+	 * @param <G> the gene type
+	 * @param <S> the store type
+	 * @return the store of the gene sequence, or {@code null} if the gene
+	 *         sequence isn't backed by a whole store of the given type
+	 */
+	static <G extends Gene<?, G>, S extends GeneStore<G, S>>
+	S of(final ISeq<G> genes, final Class<S> type) {
+		if (genes instanceof ArrayISeq<?>) {
+			final Array<G> array = ((ArraySeq<G>)genes).array;
+			final Array.Store<G> store = array.store();
+
+			if (array.isSealed() &&
+				type.isInstance(store) &&
+				store.length() == array.length())
+			{
+				return type.cast(store);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Return the given gene sequence as sequence, which is backed by a
+	 * store of the given type. If the given sequence already is such a
+	 * sequence, it is returned unchanged.
+	 *
+	 * @param genes the gene sequence to pack
+	 * @param type the store type
+	 * @param factory creates an empty store for the given gene sequence
+	 * @param <G> the gene type
+	 * @param <S> the store type
+	 * @return a gene sequence backed by a store of the given type, or the
+	 *         given {@code genes} if they are {@code null} or empty
+	 */
+	static <G extends Gene<?, G>, S extends GeneStore<G, S>>
+	ISeq<G> pack(
+		final ISeq<G> genes,
+		final Class<S> type,
+		final Function<? super ISeq<G>, ? extends S> factory
+	) {
+		if (genes == null || genes.isEmpty() || of(genes, type) != null) {
+			return genes;
+		}
+
+		final S store = factory.apply(genes);
+		for (int i = 0; i < genes.length(); ++i) {
+			store.set(i, genes.get(i));
+		}
+
+		return seq(store);
+	}
+
+	/**
+	 * Create a new immutable gene sequence, backed by the given store.
+	 *
+	 * @param store the gene store
+	 * @param <G> the gene type
+	 * @return a new gene sequence
+	 */
+	static <G extends Gene<?, G>> ISeq<G> seq(final Array.Store<G> store) {
+		return new ArrayISeq<>(Array.of(store).seal());
+	}
+
+	/**
+	 * Calculate the gene-wise mean of the given gene sequences directly on
+	 * the primitive alleles, if both sequences are backed by stores of the
+	 * same type.
+	 *
+	 * @param a the first gene sequence, which determines the bounds of the
+	 *        mean genes
+	 * @param b the second gene sequence
+	 * @param <G> the gene type
+	 * @return the mean genes, or {@code null} if the gene sequences are not
+	 *         backed by gene stores of the same type
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static <G extends Gene<?, G> & Mean<G>> ISeq<G> mean(
+		final ISeq<G> a,
+		final ISeq<G> b
+	) {
+		final GeneStore sa = of(a, GeneStore.class);
+		final GeneStore sb = of(b, GeneStore.class);
+
+		return sa != null && sb != null &&
+			sa.getClass() == sb.getClass() &&
+			sa.length() <= sb.length()
+				? seq(sa.mean(sb))
+				: null;
+	}
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import org.jenetics.internal.collection.Array;
+import org.jenetics.internal.collection.ArrayMSeq;
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.util.MSeq;
+
+/**
+ * Contains the positions of the genes which have been changed by the alterers,
+ * compared to the parent genotype. The delta may also contain positions where
+ * the gene has been replaced by an equal one, but it contains all positions
+ * with changed genes.
+ *
+ * @see IncrementalFitness
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+public final class GenotypeDelta {
+
+	private static final int[] EMPTY = new int[0];
+
+	// The sorted gene indexes, for every chromosome.
+	private final int[][] _genes;
+	private final int _count;
+
+	private GenotypeDelta(final int[][] genes) {
+		_genes = genes;
+		_count = Arrays.stream(genes).mapToInt(g -> g.length).sum();
+	}
+
+	/**
+	 * Return the number of changed genes.
+	 *
+	 * @return the number of changed genes
+	 */
+	public int count() {
+		return _count;
+	}
+
+	/**
+	 * Return {@code true} if no genes have been changed.
+	 *
+	 * @return {@code true} if no genes have been changed
+	 */
+	public boolean isEmpty() {
+		return _count == 0;
+	}
+
+	/**
+	 * Return the indexes of the chromosomes with changed genes, in ascending
+	 * order.
+	 *
+	 * @return the indexes of the changed chromosomes
+	 */
+	public IntStream chromosomes() {
+		return IntStream.range(0, _genes.length)
+			.filter(i -> _genes[i].length > 0);
+	}
+
+	/**
+	 * Return the indexes of the changed genes of the chromosome with the given
+	 * index, in ascending order.
+	 *
+	 * @param chromosome the chromosome index
+	 * @return the indexes of the changed genes of the given chromosome
+	 */
+	public IntStream genes(final int chromosome) {
+		return chromosome >= 0 && chromosome < _genes.length
+			? IntStream.of(_genes[chromosome])
+			: IntStream.empty();
+	}
+
+	/**
+	 * Return a new delta, which contains the changed genes of {@code this}
+	 * and the {@code other} delta.
+	 *
+	 * @param other the other delta
+	 * @return the merged delta
+	 */
+	GenotypeDelta merge(final GenotypeDelta other) {
+		final int[][] genes = new int[max(_genes.length, other._genes.length)][];
+		for (int i = 0; i < genes.length; ++i) {
+			final BitSet changes = new BitSet();
+			genes(i).forEach(changes::set);
+			other.genes(i).forEach(changes::set);
+			genes[i] = changes.stream().toArray();
+		}
+
+		return new GenotypeDelta(genes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass()).and(Arrays.deepHashCode(_genes)).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(delta ->
+			Arrays.deepEquals(_genes, delta._genes)
+		);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[count=%d, genes=%s]",
+			getClass().getSimpleName(), _count, Arrays.deepToString(_genes)
+		);
+	}
+
+	/**
+	 * Create a new delta from the given changed genes.
+	 *
+	 * @param changes the changed genes, for every chromosome
+	 * @return a new genotype delta
+	 */
+	static GenotypeDelta of(final BitSet... changes) {
+		final int[][] genes = new int[changes.length][];
+		for (int i = 0; i < genes.length; ++i) {
+			genes[i] = changes[i] != null ? changes[i].stream().toArray() : EMPTY;
+		}
+
+		return new GenotypeDelta(genes);
+	}
+
+
+	/* *************************************************************************
+	 * Recording of changed genes.
+	 **************************************************************************/
+
+	/**
+	 * Records the changed genes of the chromosomes of one genotype.
+	 */
+	static final class Recorder {
+		private final BitSet[] _changes;
+		private boolean _complete = true;
+
+		Recorder(final int length) {
+			_changes = new BitSet[length];
+		}
+
+		/**
+		 * Return a sequence which writes through to the given {@code genes}
+		 * and records the changed genes of the chromosome with the given
+		 * index.
+		 *
+		 * @param chromosome the chromosome index
+		 * @param genes the genes of the chromosome
+		 * @param <G> the gene type
+		 * @return a recording view of the given {@code genes}
+		 */
+		@SuppressWarnings("unchecked")
+		<G> MSeq<G> record(final int chromosome, final MSeq<G> genes) {
+			final MSeq<G> seq;
+			if (genes instanceof ArrayMSeq<?>) {
+				if (_changes[chromosome] == null) {
+					_changes[chromosome] = new BitSet();
+				}
+
+				seq = new ArrayMSeq<>(Array.of(new RecordingStore<>(
+					((ArrayMSeq<G>)genes).array.store(),
+					_changes[chromosome]
+				)));
+			} else {
+				_complete = false;
+				seq = genes;
+			}
+
+			return seq;
+		}
+
+		/**
+		 * Return the recorded delta, or {@code null} if not all changes could
+		 * have been recorded.
+		 *
+		 * @return the recorded delta, or {@code null}
+		 */
+		GenotypeDelta toDelta() {
+			return _complete ? of(_changes) : null;
+		}
+	}
+
+	/**
+	 * Array store, which records the indexes of the written elements.
+	 */
+	private static final class RecordingStore<T> implements Array.Store<T> {
+		private final Array.Store<T> _store;
+		private final BitSet _changes;
+
+		RecordingStore(final Array.Store<T> store, final BitSet changes) {
+			_store = store;
+			_changes = changes;
+		}
+
+		@Override
+		public T get(final int index) {
+			return _store.get(index);
+		}
+
+		@Override
+		public void set(final int index, final T value) {
+			_changes.set(index);
+			_store.set(index, value);
+		}
+
+		@Override
+		public void sort(
+			final int from,
+			final int until,
+			final Comparator<? super T> comparator
+		) {
+			_changes.set(from, until);
+			_store.sort(from, until, comparator);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void swap(
+			final int from,
+			final int until,
+			final Array.Store<T> other,
+			final int otherFrom
+		) {
+			if (other instanceof RecordingStore<?>) {
+				final RecordingStore<T> store = (RecordingStore<T>)other;
+				_changes.set(from, until);
+				store._changes.set(otherFrom, otherFrom + until - from);
+				_store.swap(from, until, store._store, otherFrom);
+			} else {
+				Array.Store.super.swap(from, until, other, otherFrom);
+			}
+		}
+
+		@Override
+		public Array.Store<T> copy(final int from, final int until) {
+			return _store.copy(from, until);
+		}
+
+		@Override
+		public Array.Store<T> newInstance(final int length) {
+			return _store.newInstance(length);
+		}
+
+		@Override
+		public int length() {
+			return _store.length();
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.function.Function;
+
+/**
+ * Fitness function, which is able to calculate the fitness of an offspring
+ * <em>incrementally</em>, from the fitness of its parent and the genes which
+ * have been changed by the alterers. The {@link Mutator} and the
+ * {@link Crossover} record the changed genes of the offspring, if the fitness
+ * function of the altered phenotype implements this interface.
+ * <pre>{@code
+ * final IncrementalFitness<BitGene, Integer> ff =
+ *     new IncrementalFitness<BitGene, Integer>() {
+ *         public Integer apply(final Genotype<BitGene> gt) {
+ *             return ((BitChromosome)gt.getChromosome()).bitCount();
+ *         }
+ *         public Integer apply(
+ *             final Genotype<BitGene> gt,
+ *             final Genotype<BitGene> parent,
+ *             final Integer fitness,
+ *             final GenotypeDelta delta
+ *         ) {
+ *             return fitness + delta.genes(0)
+ *                 .map(i -> value(gt, i) - value(parent, i))
+ *                 .sum();
+ *         }
+ *     };
+ * }</pre>
+ *
+ * The incremental evaluation is only performed for offspring of already
+ * evaluated parents. All other phenotypes are evaluated with the
+ * {@link #apply(Object)} method.
+ *
+ * @see GenotypeDelta
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+public interface IncrementalFitness<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Function<Genotype<G>, C>
+{
+
+	/**
+	 * Calculates the fitness of the given {@code genotype} from the fitness
+	 * of its {@code parent} genotype. The result must be the same as the
+	 * fitness value returned by {@code apply(genotype)}.
+	 *
+	 * @param genotype the genotype to evaluate
+	 * @param parent the parent genotype, the {@code genotype} is derived from
+	 * @param fitness the (raw) fitness value of the {@code parent} genotype
+	 * @param delta the genes which have been changed, compared to the
+	 *        {@code parent} genotype
+	 * @return the fitness value of the given {@code genotype}
+	 */
+	public C apply(
+		final Genotype<G> genotype,
+		final Genotype<G> parent,
+		final C fitness,
+		final GenotypeDelta delta
+	);
+
+}
@@ -19,6 +19,8 @@
  */
 package org.jenetics;
 
+import static org.jenetics.util.RandomRegistry.getRandom;
+
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -39,14 +41,23 @@ import org.jenetics.internal.util.Hash;
 
 import org.jenetics.util.ISeq;
 import org.jenetics.util.IntRange;
-import org.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 32 bit integer numbers.
+ * <p>
+ * The alleles of the chromosome are stored in one {@code int[]} array,
+ * and all genes share the {@code min} and {@code max} value of the
+ * chromosome. The {@link IntegerGene} objects are not stored, but created on
+ * demand: every call of {@link #getGene(int)}, and every element access of
+ * the {@link #toSeq()} sequence, creates a new gene object. Two accesses of
+ * the same gene therefore return <em>equal</em>, but not <em>identical</em>
+ * gene objects. Loops over the alleles of the chromosome should use
+ * {@link #intValue(int)} or {@link #toArray()}, which don't create any
+ * gene objects.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz  Wilhelmstötter</a>
  * @since 2.0
- * @version 3.2
+ * @version 3.8
  */
 @XmlJavaTypeAdapter(IntegerChromosome.Model.Adapter.class)
 public class IntegerChromosome
@@ -57,6 +68,9 @@ public class IntegerChromosome
 {
 	private static final long serialVersionUID = 1L;
 
+	// The gene store of the _genes sequence.
+	private transient IntegerGeneStore _store;
+
 	/**
 	 * Create a new chromosome from the given genes array.
 	 *
@@ -65,7 +79,8 @@ public class IntegerChromosome
 	 * @throws NullPointerException if the {@code genes} are {@code null}.
 	 */
 	protected IntegerChromosome(final ISeq<IntegerGene> genes) {
-		super(genes);
+		super(IntegerGeneStore.pack(genes));
+		_store = IntegerGeneStore.of(_genes);
 	}
 
 	/**
@@ -83,7 +98,7 @@ public class IntegerChromosome
 		final Integer max,
 		final int length
 	) {
-		this(IntegerGene.seq(min, max, length));
+		this(IntegerGeneStore.seq(min, max, length, getRandom()));
 		_valid = true;
 	}
 
@@ -116,10 +131,7 @@ public class IntegerChromosome
 		final int[] a = array.length >= length() ?
 			array : new int[length()];
 
-		for (int i = length(); --i >= 0;) {
-			a[i] = intValue(i);
-		}
-
+		System.arraycopy(_store.values, 0, a, 0, _store.values.length);
 		return a;
 	}
 
@@ -203,6 +215,20 @@ public class IntegerChromosome
 		return new IntegerChromosome(range.getMin(), range.getMax());
 	}
 
+	@Override
+	public int intValue(final int index) {
+		return _store.values[index];
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_valid == null) {
+			_valid = _store.isValid();
+		}
+
+		return _valid;
+	}
+
 	@Override
 	public IntegerChromosome newInstance(final ISeq<IntegerGene> genes) {
 		return new IntegerChromosome(genes);
@@ -236,8 +262,8 @@ public class IntegerChromosome
 		out.writeInt(_min);
 		out.writeInt(_max);
 
-		for (IntegerGene gene : _genes) {
-			out.writeInt(gene.getAllele());
+		for (int value : _store.values) {
+			out.writeInt(value);
 		}
 	}
 
@@ -246,15 +272,16 @@ public class IntegerChromosome
 	{
 		in.defaultReadObject();
 
-		final MSeq<IntegerGene> genes = MSeq.ofLength(in.readInt());
+		final int[] values = new int[in.readInt()];
 		_min = in.readInt();
 		_max = in.readInt();
 
-		for (int i = 0; i < genes.length(); ++i) {
-			genes.set(i, new IntegerGene(in.readInt(), _min, _max));
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readInt();
 		}
 
-		_genes = genes.toISeq();
+		_store = new IntegerGeneStore(values, _min, _max);
+		_genes = IntegerGeneStore.seq(_store);
 	}
 
 	/* *************************************************************************
@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.Integer.compare;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.math.random.nextInt;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.util.ISeq;
+
+/**
+ * Array store for {@link IntegerGene}s, which keeps the alleles in one
+ * {@code int[]} array. All genes share the same {@code min} and
+ * {@code max} value.
+ *
+ * @see GeneStore
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class IntegerGeneStore extends GeneStore<IntegerGene, IntegerGeneStore> {
+	private static final long serialVersionUID = 1L;
+
+	final int[] values;
+	final Integer min;
+	final Integer max;
+
+	private IntegerGeneStore(
+		final int[] values,
+		final Integer min,
+		final Integer max,
+		final Object[] genes
+	) {
+		super(genes);
+		this.values = requireNonNull(values);
+		this.min = requireNonNull(min);
+		this.max = requireNonNull(max);
+	}
+
+	IntegerGeneStore(final int[] values, final Integer min, final Integer max) {
+		this(values, min, max, null);
+	}
+
+	@Override
+	IntegerGene gene(final int index) {
+		return new IntegerGene(values[index], min, max);
+	}
+
+	@Override
+	boolean put(final int index, final IntegerGene gene) {
+		values[index] = gene._value;
+		return min.equals(gene._min) && max.equals(gene._max);
+	}
+
+	@Override
+	boolean isValid(final int index) {
+		return compare(values[index], min) >= 0 &&
+			compare(values[index], max) <= 0;
+	}
+
+	@Override
+	void mean(final int index, final IntegerGeneStore other) {
+		values[index] = values[index] + (other.values[index] - values[index])/2;
+	}
+
+	@Override
+	void swapValues(
+		final int from,
+		final int until,
+		final IntegerGeneStore other,
+		final int otherFrom
+	) {
+		for (int i = until - from; --i >= 0;) {
+			final int temp = values[i + from];
+			values[i + from] = other.values[otherFrom + i];
+			other.values[otherFrom + i] = temp;
+		}
+	}
+
+	@Override
+	boolean hasBounds(final IntegerGeneStore other) {
+		return min.equals(other.min) && max.equals(other.max);
+	}
+
+	@Override
+	IntegerGeneStore copy(final int from, final int until, final Object[] genes) {
+		return new IntegerGeneStore(
+			Arrays.copyOfRange(values, from, until), min, max, genes
+		);
+	}
+
+	@Override
+	public IntegerGeneStore newInstance(final int length) {
+		return new IntegerGeneStore(new int[length], min, max);
+	}
+
+	@Override
+	public int length() {
+		return values.length;
+	}
+
+	/**
+	 * Return the store of the given gene sequence, if the sequence is an
+	 * immutable view of a whole {@code IntegerGeneStore}.
+	 *
+	 * @param genes the gene sequence
+	 * @return the store of the gene sequence, or {@code null}
+	 */
+	static IntegerGeneStore of(final ISeq<IntegerGene> genes) {
+		return of(genes, IntegerGeneStore.class);
+	}
+
+	/**
+	 * Return the given gene sequence as sequence, which is backed by a
+	 * {@code IntegerGeneStore}. The bounds of the store are taken from the first
+	 * gene.
+	 *
+	 * @param genes the gene sequence to pack
+	 * @return a gene sequence backed by a {@code IntegerGeneStore}, or the given
+	 *         {@code genes} if they are {@code null} or empty
+	 */
+	static ISeq<IntegerGene> pack(final ISeq<IntegerGene> genes) {
+		return pack(genes, IntegerGeneStore.class, g -> new IntegerGeneStore(
+			new int[g.length()], g.get(0)._min, g.get(0)._max
+		));
+	}
+
+	/**
+	 * Create a new gene sequence with the given {@code length} and random
+	 * alleles within the given range.
+	 *
+	 * @param min the min value of the genes
+	 * @param max the max value of the genes
+	 * @param length the length of the gene sequence
+	 * @param random the random engine used for creating the alleles
+	 * @return a new random gene sequence, backed by a {@code IntegerGeneStore}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one
+	 */
+	static ISeq<IntegerGene> seq(
+		final Integer min,
+		final Integer max,
+		final int length,
+		final Random random
+	) {
+		require.positive(length);
+
+		final int a = min;
+		final int b = max;
+		final int[] values = new int[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = nextInt(random, a, b);
+		}
+
+		return seq(new IntegerGeneStore(values, min, max));
+	}
+
+}
@@ -55,7 +55,7 @@ import org.jenetics.internal.util.Hash;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.8
  */
 public final class LinearRankSelector<
 	G extends Gene<?, G>,
@@ -74,7 +74,24 @@ public final class LinearRankSelector<
 	 * @throws IllegalArgumentException if {@code nminus < 0}.
 	 */
 	public LinearRankSelector(final double nminus) {
-		super(true);
+		this(nminus, Sampling.CUMULATIVE);
+	}
+
+	/**
+	 * Create a new LinearRankSelector with the given values for {@code nminus}
+	 * and the given {@code sampling} strategy.
+	 *
+	 * @since 3.8
+	 *
+	 * @param nminus {@code nminus/N} is the probability of the worst phenotype
+	 *         to be selected.
+	 * @param sampling the strategy used for drawing the selected individuals
+	 * @throws IllegalArgumentException if {@code nminus < 0}.
+	 * @throws NullPointerException if the given {@code sampling} strategy is
+	 *         {@code null}
+	 */
+	public LinearRankSelector(final double nminus, final Sampling sampling) {
+		super(true, sampling);
 
 		if (nminus < 0) {
 			throw new IllegalArgumentException(format(
@@ -124,14 +141,18 @@ public final class LinearRankSelector<
 
 	@Override
 	public int hashCode() {
-		return Hash.of(getClass()).and(_nminus).and(_nplus).value();
+		return Hash.of(getClass())
+			.and(_nminus)
+			.and(_nplus)
+			.and(getSampling()).value();
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
 		return obj instanceof LinearRankSelector &&
 			eq(((LinearRankSelector)obj)._nminus, _nminus) &&
-			eq(((LinearRankSelector)obj)._nplus, _nplus);
+			eq(((LinearRankSelector)obj)._nplus, _nplus) &&
+			((LinearRankSelector)obj).getSampling() == getSampling();
 	}
 
 	@Override
@@ -20,6 +20,7 @@
 package org.jenetics;
 
 import static org.jenetics.util.ISeq.toISeq;
+import static org.jenetics.util.RandomRegistry.getRandom;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -41,14 +42,23 @@ import org.jenetics.internal.util.Hash;
 
 import org.jenetics.util.ISeq;
 import org.jenetics.util.LongRange;
-import org.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 64 bit integer numbers.
+ * <p>
+ * The alleles of the chromosome are stored in one {@code long[]} array,
+ * and all genes share the {@code min} and {@code max} value of the
+ * chromosome. The {@link LongGene} objects are not stored, but created on
+ * demand: every call of {@link #getGene(int)}, and every element access of
+ * the {@link #toSeq()} sequence, creates a new gene object. Two accesses of
+ * the same gene therefore return <em>equal</em>, but not <em>identical</em>
+ * gene objects. Loops over the alleles of the chromosome should use
+ * {@link #longValue(int)} or {@link #toArray()}, which don't create any
+ * gene objects.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 3.2
+ * @version 3.8
  */
 @XmlJavaTypeAdapter(LongChromosome.Model.Adapter.class)
 public class LongChromosome
@@ -59,9 +69,13 @@ public class LongChromosome
 {
 	private static final long serialVersionUID = 1L;
 
+	// The gene store of the _genes sequence.
+	private transient LongGeneStore _store;
+
 
 	protected LongChromosome(final ISeq<LongGene> genes) {
-		super(genes);
+		super(LongGeneStore.pack(genes));
+		_store = LongGeneStore.of(_genes);
 	}
 
 	/**
@@ -75,7 +89,7 @@ public class LongChromosome
 	 *         one.
 	 */
 	public LongChromosome(final Long min, final Long max, final int length) {
-		this(LongGene.seq(min, max, length));
+		this(LongGeneStore.seq(min, max, length, getRandom()));
 		_valid = true;
 	}
 
@@ -108,10 +122,7 @@ public class LongChromosome
 		final long[] a = array.length >= length() ?
 			array : new long[length()];
 
-		for (int i = length(); --i >= 0;) {
-			a[i] = longValue(i);
-		}
-
+		System.arraycopy(_store.values, 0, a, 0, _store.values.length);
 		return a;
 	}
 
@@ -198,6 +209,20 @@ public class LongChromosome
 		return new LongChromosome(range.getMin(), range.getMax());
 	}
 
+	@Override
+	public long longValue(final int index) {
+		return _store.values[index];
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_valid == null) {
+			_valid = _store.isValid();
+		}
+
+		return _valid;
+	}
+
 	@Override
 	public LongChromosome newInstance(final ISeq<LongGene> genes) {
 		return new LongChromosome(genes);
@@ -231,8 +256,8 @@ public class LongChromosome
 		out.writeLong(_min);
 		out.writeLong(_max);
 
-		for (LongGene gene : _genes) {
-			out.writeLong(gene.getAllele());
+		for (long value : _store.values) {
+			out.writeLong(value);
 		}
 	}
 
@@ -241,15 +266,16 @@ public class LongChromosome
 	{
 		in.defaultReadObject();
 
-		final MSeq<LongGene> genes = MSeq.ofLength(in.readInt());
+		final long[] values = new long[in.readInt()];
 		_min = in.readLong();
 		_max = in.readLong();
 
-		for (int i = 0; i < genes.length(); ++i) {
-			genes.set(i, new LongGene(in.readLong(), _min, _max));
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readLong();
 		}
 
-		_genes = genes.toISeq();
+		_store = new LongGeneStore(values, _min, _max);
+		_genes = LongGeneStore.seq(_store);
 	}
 
 	/* *************************************************************************
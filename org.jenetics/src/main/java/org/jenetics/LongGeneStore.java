@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.Long.compare;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.math.random.nextLong;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.util.ISeq;
+
+/**
+ * Array store for {@link LongGene}s, which keeps the alleles in one
+ * {@code long[]} array. All genes share the same {@code min} and
+ * {@code max} value.
+ *
+ * @see GeneStore
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class LongGeneStore extends GeneStore<LongGene, LongGeneStore> {
+	private static final long serialVersionUID = 1L;
+
+	final long[] values;
+	final Long min;
+	final Long max;
+
+	private LongGeneStore(
+		final long[] values,
+		final Long min,
+		final Long max,
+		final Object[] genes
+	) {
+		super(genes);
+		this.values = requireNonNull(values);
+		this.min = requireNonNull(min);
+		this.max = requireNonNull(max);
+	}
+
+	LongGeneStore(final long[] values, final Long min, final Long max) {
+		this(values, min, max, null);
+	}
+
+	@Override
+	LongGene gene(final int index) {
+		return new LongGene(values[index], min, max);
+	}
+
+	@Override
+	boolean put(final int index, final LongGene gene) {
+		values[index] = gene._value;
+		return min.equals(gene._min) && max.equals(gene._max);
+	}
+
+	@Override
+	boolean isValid(final int index) {
+		return compare(values[index], min) >= 0 &&
+			compare(values[index], max) <= 0;
+	}
+
+	@Override
+	void mean(final int index, final LongGeneStore other) {
+		values[index] = values[index] + (other.values[index] - values[index])/2;
+	}
+
+	@Override
+	void swapValues(
+		final int from,
+		final int until,
+		final LongGeneStore other,
+		final int otherFrom
+	) {
+		for (int i = until - from; --i >= 0;) {
+			final long temp = values[i + from];
+			values[i + from] = other.values[otherFrom + i];
+			other.values[otherFrom + i] = temp;
+		}
+	}
+
+	@Override
+	boolean hasBounds(final LongGeneStore other) {
+		return min.equals(other.min) && max.equals(other.max);
+	}
+
+	@Override
+	LongGeneStore copy(final int from, final int until, final Object[] genes) {
+		return new LongGeneStore(
+			Arrays.copyOfRange(values, from, until), min, max, genes
+		);
+	}
+
+	@Override
+	public LongGeneStore newInstance(final int length) {
+		return new LongGeneStore(new long[length], min, max);
+	}
+
+	@Override
+	public int length() {
+		return values.length;
+	}
+
+	/**
+	 * Return the store of the given gene sequence, if the sequence is an
+	 * immutable view of a whole {@code LongGeneStore}.
+	 *
+	 * @param genes the gene sequence
+	 * @return the store of the gene sequence, or {@code null}
+	 */
+	static LongGeneStore of(final ISeq<LongGene> genes) {
+		return of(genes, LongGeneStore.class);
+	}
+
+	/**
+	 * Return the given gene sequence as sequence, which is backed by a
+	 * {@code LongGeneStore}. The bounds of the store are taken from the first
+	 * gene.
+	 *
+	 * @param genes the gene sequence to pack
+	 * @return a gene sequence backed by a {@code LongGeneStore}, or the given
+	 *         {@code genes} if they are {@code null} or empty
+	 */
+	static ISeq<LongGene> pack(final ISeq<LongGene> genes) {
+		return pack(genes, LongGeneStore.class, g -> new LongGeneStore(
+			new long[g.length()], g.get(0)._min, g.get(0)._max
+		));
+	}
+
+	/**
+	 * Create a new gene sequence with the given {@code length} and random
+	 * alleles within the given range.
+	 *
+	 * @param min the min value of the genes
+	 * @param max the max value of the genes
+	 * @param length the length of the gene sequence
+	 * @param random the random engine used for creating the alleles
+	 * @return a new random gene sequence, backed by a {@code LongGeneStore}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one
+	 */
+	static ISeq<LongGene> seq(
+		final Long min,
+		final Long max,
+		final int length,
+		final Random random
+	) {
+		require.positive(length);
+
+		final long a = min;
+		final long b = max;
+		final long[] values = new long[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = nextLong(random, a, b);
+		}
+
+		return seq(new LongGeneStore(values, min, max));
+	}
+
+}
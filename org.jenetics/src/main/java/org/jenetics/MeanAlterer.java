@@ -39,7 +39,7 @@ import org.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.6
+ * @version 3.8
  */
 public final class MeanAlterer<
 	G extends Gene<?, G> & Mean<G>,
@@ -86,12 +86,12 @@ public final class MeanAlterer<
 		final ISeq<Chromosome<G>> c2 = gt2.toSeq();
 
 		// Calculate the mean value of the gene array.
-		final MSeq<G> mean = mean(
-			c1.get(cindex).toSeq().copy(),
+		final ISeq<G> mean = mean(
+			c1.get(cindex).toSeq(),
 			c2.get(cindex).toSeq()
 		);
 
-		c1.set(cindex, c1.get(cindex).newInstance(mean.toISeq()));
+		c1.set(cindex, c1.get(cindex).newInstance(mean));
 
 		population.set(
 			individuals[0],
@@ -101,6 +101,14 @@ public final class MeanAlterer<
 		return 1;
 	}
 
+	// The mean of primitive gene stores is calculated without creating
+	// the gene objects.
+	private static <G extends Gene<?, G> & Mean<G>>
+	ISeq<G> mean(final ISeq<G> a, final ISeq<G> b) {
+		final ISeq<G> mean = GeneStore.mean(a, b);
+		return mean != null ? mean : mean(a.copy(), b).toISeq();
+	}
+
 	private static <G extends Gene<?, G> & Mean<G>>
 	MSeq<G> mean(final MSeq<G> a, final Seq<G> b) {
 		for (int i = a.length(); --i >= 0;) {
@@ -37,7 +37,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.8
  */
 public final class MonteCarloSelector<
 	G extends Gene<?, G>,
@@ -54,6 +54,15 @@ public final class MonteCarloSelector<
 		final Population<G, C> population,
 		final int count,
 		final Optimize opt
+	) {
+		return population.select(selectIndexes(population, count, opt));
+	}
+
+	@Override
+	public int[] selectIndexes(
+		final Population<G, C> population,
+		final int count,
+		final Optimize opt
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
@@ -64,14 +73,15 @@ public final class MonteCarloSelector<
 			));
 		}
 
-		final Population<G, C> selection = new Population<>(count);
-		if (count > 0 && !population.isEmpty()) {
-			final Random random = RandomRegistry.getRandom();
-			final int size = population.size();
-			for (int i = 0; i < count; ++i) {
-				final int pos = random.nextInt(size);
-				selection.add(population.get(pos));
-			}
+		if (count == 0 || population.isEmpty()) {
+			return new int[0];
+		}
+
+		final Random random = RandomRegistry.getRandom();
+		final int size = population.size();
+		final int[] selection = new int[count];
+		for (int i = 0; i < count; ++i) {
+			selection[i] = random.nextInt(size);
 		}
 
 		return selection;
@@ -66,7 +66,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 3.8
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -112,35 +112,52 @@ public class Mutator<
 			final Phenotype<G, C> pt = population.get(i);
 
 			final Genotype<G> gt = pt.getGenotype();
-			final Genotype<G> mgt = mutate(gt, p, alterations);
-
-			final Phenotype<G, C> mpt = pt.newInstance(mgt, generation);
+			final GenotypeDelta.Recorder recorder = pt.isIncremental()
+				? new GenotypeDelta.Recorder(gt.length())
+				: null;
+			final Genotype<G> mgt = mutate(gt, p, alterations, recorder);
+
+			final Phenotype<G, C> mpt = pt.newInstance(
+				mgt,
+				generation,
+				recorder != null ? recorder.toDelta() : null
+			);
 			population.set(i, mpt);
 		});
 
 		return alterations.value;
 	}
 
+	// The recorder, which records the changed genes, may be null.
 	private Genotype<G> mutate(
 		final Genotype<G> genotype,
 		final double p,
-		final IntRef alterations
+		final IntRef alterations,
+		final GenotypeDelta.Recorder recorder
 	) {
 		final MSeq<Chromosome<G>> chromosomes = genotype.toSeq().copy();
 
 		alterations.value +=
 			indexes(RandomRegistry.getRandom(), genotype.length(), p)
-				.map(i -> mutate(chromosomes, i, p))
+				.map(i -> mutate(chromosomes, i, p, recorder))
 				.sum();
 
 		return genotype.newInstance(chromosomes.toISeq());
 	}
 
-	private int mutate(final MSeq<Chromosome<G>> c, final int i, final double p) {
+	private int mutate(
+		final MSeq<Chromosome<G>> c,
+		final int i,
+		final double p,
+		final GenotypeDelta.Recorder recorder
+	) {
 		final Chromosome<G> chromosome = c.get(i);
 		final MSeq<G> genes = chromosome.toSeq().copy();
 
-		final int mutations = mutate(genes, p);
+		final int mutations = mutate(
+			recorder != null ? recorder.record(i, genes) : genes,
+			p
+		);
 		if (mutations > 0) {
 			c.set(i, chromosome.newInstance(genes.toISeq()));
 		}
@@ -19,8 +19,10 @@
  */
 package org.jenetics;
 
+import static java.lang.Math.max;
 import static java.lang.String.format;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import org.jenetics.internal.math.base;
@@ -75,7 +77,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.6
+ * @version 3.8
  */
 public final class PartiallyMatchedCrossover<T, C extends Comparable<? super C>>
 	extends Crossover<EnumGene<T>, C>
@@ -102,31 +104,67 @@ public final class PartiallyMatchedCrossover<T, C extends Comparable<? super C>>
 			final int[] points = base.subset(that.length(), 2, random);
 
 			that.swap(points[0], points[1], other, points[0]);
-			repair(that, other, points[0], points[1]);
-			repair(other, that, points[0], points[1]);
+
+			final int[] positions = newPositions(that, other, points[0], points[1]);
+			repair(that, other, points[0], points[1], positions);
+			repair(other, that, points[0], points[1], positions);
 		}
 
 		return 1;
 	}
 
-	private static <T> void repair(
-		final MSeq<T> that, final MSeq<T> other,
+	// Creates the position array, which is needed for the repair step. The
+	// array is indexed by the allele index of the genes in the crossing region.
+	private static <T> int[] newPositions(
+		final MSeq<EnumGene<T>> that, final MSeq<EnumGene<T>> other,
 		final int begin, final int end
 	) {
+		int length = 0;
+		for (int i = begin; i < end; ++i) {
+			length = max(length, that.get(i).getAlleleIndex() + 1);
+			length = max(length, other.get(i).getAlleleIndex() + 1);
+		}
+
+		final int[] positions = new int[length];
+		Arrays.fill(positions, -1);
+		return positions;
+	}
+
+	// The positions array maps the allele index of the genes in the crossing
+	// region to its position, which replaces the 'indexOf' search within the
+	// crossing region. All values are reset to -1 after the repair.
+	private static <T> void repair(
+		final MSeq<EnumGene<T>> that, final MSeq<EnumGene<T>> other,
+		final int begin, final int end,
+		final int[] positions
+	) {
+		for (int i = end; --i >= begin;) {
+			positions[that.get(i).getAlleleIndex()] = i;
+		}
+
 		for (int i = 0; i < begin; ++i) {
-			int index = that.indexOf(that.get(i), begin, end);
+			int index = position(positions, that.get(i));
 			while (index != -1) {
 				that.set(i, other.get(index));
-				index = that.indexOf(that.get(i), begin, end);
+				index = position(positions, that.get(i));
 			}
 		}
 		for (int i = end, n = that.length(); i < n; ++i) {
-			int index = that.indexOf(that.get(i), begin, end);
+			int index = position(positions, that.get(i));
 			while (index != -1) {
 				that.set(i, other.get(index));
-				index = that.indexOf(that.get(i), begin, end);
+				index = position(positions, that.get(i));
 			}
 		}
+
+		for (int i = begin; i < end; ++i) {
+			positions[that.get(i).getAlleleIndex()] = -1;
+		}
+	}
+
+	private static int position(final int[] positions, final EnumGene<?> gene) {
+		final int index = gene.getAlleleIndex();
+		return index < positions.length ? positions[index] : -1;
 	}
 
 	@Override
@@ -0,0 +1,276 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jenetics.internal.util.Concurrency;
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Alterer which splits the population into partitions of a fixed size and
+ * alters the partitions in parallel, with the given executor. Every
+ * partition is altered by the wrapped alterer, as if it would be a
+ * population of its own. This means that a {@link Recombinator} only
+ * recombines individuals of the same partition.
+ * <p>
+ * Every partition uses its own, independent random number stream. The
+ * streams are created by <i>leap-frogging</i> a {@link LCG64ShiftRandom},
+ * seeded with a random value of the registered random engine. Within the
+ * alteration of a partition, the partition stream is the registered random
+ * engine of the altering thread. The altered population is therefore
+ * reproducible, independent of the number of available threads.
+ * <p>
+ * The thread which calls the {@link #alter(Population, long)} method alters
+ * partitions itself and doesn't wait for partitions which haven't been
+ * started by the executor. It is therefore save to call this alterer from a
+ * thread of the given executor.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(fitness, DoubleChromosome.of(0.0, 1.0, 1_000_000))
+ *     .alterers(PartitionAlterer.of(new Mutator<>(0.01), 32, executor))
+ *     .executor(executor)
+ *     .build();
+ * }</pre>
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+public final class PartitionAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Alterer<G, C>
+{
+
+	/**
+	 * The default partition size.
+	 */
+	public static final int DEFAULT_PARTITION_SIZE = 32;
+
+	private final Alterer<G, C> _alterer;
+	private final int _partitionSize;
+	private final Executor _executor;
+
+	private PartitionAlterer(
+		final Alterer<G, C> alterer,
+		final int partitionSize,
+		final Executor executor
+	) {
+		_alterer = requireNonNull(alterer, "Alterer");
+		_executor = requireNonNull(executor, "Executor");
+		if (partitionSize < 2) {
+			throw new IllegalArgumentException(format(
+				"Partition size must be greater than one, but was %d.",
+				partitionSize
+			));
+		}
+		_partitionSize = partitionSize;
+	}
+
+	@Override
+	public int alter(final Population<G, C> population, final long generation) {
+		final int size = population.size();
+		if (size <= _partitionSize) {
+			return _alterer.alter(population, generation);
+		}
+
+		final long seed = RandomRegistry.getRandom().nextLong();
+		final int partitions = (size + _partitionSize - 1)/_partitionSize;
+		final int[] counts = new int[partitions];
+
+		final AtomicInteger next = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(partitions);
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		final Runnable worker = () -> {
+			for (int p = next.getAndIncrement();
+				p < partitions;
+				p = next.getAndIncrement())
+			{
+				try {
+					counts[p] = alter(population, p, partitions, seed, generation);
+				} catch (Throwable e) {
+					error.compareAndSet(null, e);
+				} finally {
+					latch.countDown();
+				}
+			}
+		};
+
+		// The calling thread is also working on the partitions.
+		for (int i = min(partitions, Concurrency.CORES) - 1; --i >= 0;) {
+			_executor.execute(worker);
+		}
+		worker.run();
+
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw (CancellationException)new CancellationException(e.getMessage())
+				.initCause(e);
+		}
+		if (error.get() != null) {
+			throw (CancellationException)new CancellationException(
+				error.get().getMessage()).initCause(error.get());
+		}
+
+		int count = 0;
+		for (int c : counts) {
+			count += c;
+		}
+		return count;
+	}
+
+	// Alters the partition with the given index and writes the altered
+	// individuals back to the population.
+	private int alter(
+		final Population<G, C> population,
+		final int partition,
+		final int partitions,
+		final long seed,
+		final long generation
+	) {
+		final int start = partition*_partitionSize;
+		final int end = min(start + _partitionSize, population.size());
+
+		final Population<G, C> part =
+			new Population<>(population.subList(start, end));
+
+		final LCG64ShiftRandom random = new LCG64ShiftRandom(seed);
+		random.split(partitions, partition);
+		final int count = RandomRegistry.with(random, r ->
+			_alterer.alter(part, generation)
+		);
+
+		for (int i = start; i < end; ++i) {
+			population.set(i, part.get(i - start));
+		}
+
+		return count;
+	}
+
+	/**
+	 * Return the wrapped alterer, which alters the single partitions.
+	 *
+	 * @return the wrapped alterer
+	 */
+	public Alterer<G, C> getAlterer() {
+		return _alterer;
+	}
+
+	/**
+	 * Return the number of individuals of one partition.
+	 *
+	 * @return the partition size
+	 */
+	public int getPartitionSize() {
+		return _partitionSize;
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass())
+			.and(_alterer)
+			.and(_partitionSize)
+			.and(_executor).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(a ->
+			_alterer.equals(a._alterer) &&
+			_partitionSize == a._partitionSize &&
+			_executor.equals(a._executor)
+		);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[%s, partitionSize=%d]",
+			getClass().getSimpleName(), _alterer, _partitionSize
+		);
+	}
+
+	/**
+	 * Create a new partition alterer.
+	 *
+	 * @param alterer the alterer used for altering the single partitions
+	 * @param partitionSize the number of individuals of one partition
+	 * @param executor the executor used for altering the partitions in
+	 *        parallel
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new partition alterer
+	 * @throws NullPointerException if the {@code alterer} or the
+	 *         {@code executor} is {@code null}
+	 * @throws IllegalArgumentException if the {@code partitionSize} is
+	 *         smaller than two
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PartitionAlterer<G, C> of(
+		final Alterer<G, C> alterer,
+		final int partitionSize,
+		final Executor executor
+	) {
+		return new PartitionAlterer<>(alterer, partitionSize, executor);
+	}
+
+	/**
+	 * Create a new partition alterer with the
+	 * {@link #DEFAULT_PARTITION_SIZE}.
+	 *
+	 * @param alterer the alterer used for altering the single partitions
+	 * @param executor the executor used for altering the partitions in
+	 *        parallel
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new partition alterer
+	 * @throws NullPointerException if the {@code alterer} or the
+	 *         {@code executor} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PartitionAlterer<G, C> of(
+		final Alterer<G, C> alterer,
+		final Executor executor
+	) {
+		return of(alterer, DEFAULT_PARTITION_SIZE, executor);
+	}
+
+}
@@ -38,6 +38,7 @@ import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import org.jenetics.internal.util.FitnessScaler;
 import org.jenetics.internal.util.Hash;
 import org.jenetics.internal.util.Lazy;
 import org.jenetics.internal.util.jaxb;
@@ -64,7 +65,7 @@ import org.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.7
+ * @version 3.8
  */
 @XmlJavaTypeAdapter(Phenotype.Model.Adapter.class)
 public final class Phenotype<
@@ -88,6 +89,10 @@ public final class Phenotype<
 	private final Lazy<C> _rawFitness;
 	private final Lazy<C> _fitness;
 
+	// The evaluated parent and the changed genes, if the fitness function is
+	// an 'IncrementalFitness'. Cleared after the fitness evaluation.
+	private transient volatile Origin<G, C> _origin;
+
 	/**
 	 * Create a new phenotype from the given arguments.
 	 *
@@ -104,6 +109,42 @@ public final class Phenotype<
 		final long generation,
 		final Function<? super Genotype<G>, ? extends C> function,
 		final Function<? super C, ? extends C> scaler
+	) {
+		this(genotype, generation, function, scaler, null);
+	}
+
+	/**
+	 * Create a new phenotype from the given arguments. If the given
+	 * {@code rawFitness} is not {@code null}, the fitness {@code function}
+	 * is not called for calculating the raw fitness value.
+	 *
+	 * @param genotype the genotype of this phenotype.
+	 * @param generation the current generation of the generated phenotype.
+	 * @param function the fitness function of this phenotype.
+	 * @param scaler the fitness scaler.
+	 * @param rawFitness the already calculated raw fitness, or {@code null}
+	 * @throws NullPointerException if one of the arguments, except the
+	 *         {@code rawFitness}, is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code generation} is
+	 *         {@code < 0}.
+	 */
+	private Phenotype(
+		final Genotype<G> genotype,
+		final long generation,
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Function<? super C, ? extends C> scaler,
+		final C rawFitness
+	) {
+		this(genotype, generation, function, scaler, rawFitness, null);
+	}
+
+	private Phenotype(
+		final Genotype<G> genotype,
+		final long generation,
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Function<? super C, ? extends C> scaler,
+		final C rawFitness,
+		final Origin<G, C> origin
 	) {
 		_genotype = requireNonNull(genotype, "Genotype");
 		_function = requireNonNull(function, "Fitness function");
@@ -115,8 +156,27 @@ public final class Phenotype<
 		}
 		_generation = generation;
 
-		_rawFitness = Lazy.of(() -> _function.apply(_genotype));
-		_fitness = Lazy.of(() -> _scaler.apply(_rawFitness.get()));
+		_origin = origin;
+		_rawFitness = rawFitness != null
+			? Lazy.ofValue(rawFitness)
+			: Lazy.of(this::evaluateRawFitness);
+		_fitness = FitnessScaler.isIdentity(_scaler)
+			? _rawFitness
+			: Lazy.of(() -> _scaler.apply(_rawFitness.get()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private C evaluateRawFitness() {
+		final Origin<G, C> origin = _origin;
+		_origin = null;
+
+		return origin != null
+			? ((IncrementalFitness<G, C>)(Object)_function).apply(
+				_genotype,
+				origin.parent._genotype,
+				origin.parent.getRawFitness(),
+				origin.delta)
+			: _function.apply(_genotype);
 	}
 
 	/**
@@ -141,6 +201,19 @@ public final class Phenotype<
 		return this;
 	}
 
+	/**
+	 * Test whether the (raw) fitness value of this phenotype has already been
+	 * calculated.
+	 *
+	 * @since 3.8
+	 *
+	 * @return {@code true} if the raw fitness has already been calculated,
+	 *         {@code false} otherwise
+	 */
+	public boolean isEvaluated() {
+		return _rawFitness.isEvaluated();
+	}
+
 	/**
 	 * This method simply calls the {@link #evaluate()} method. The purpose of
 	 * this method is to have a simple way for concurrent fitness calculation
@@ -263,6 +336,91 @@ public final class Phenotype<
 		return of(genotype, _generation, _function, _scaler);
 	}
 
+	/**
+	 * Create a new {@code Phenotype} with the same {@code genotype},
+	 * {@code generation}, fitness {@code function} and fitness {@code scaler},
+	 * but with the given, already calculated, raw fitness value. The fitness
+	 * function is not called for the returned phenotype. This method allows
+	 * to evaluate the fitness of the phenotypes <i>outside</i>, e.g. for a
+	 * whole population at once.
+	 *
+	 * @since 3.8
+	 *
+	 * @param rawFitness the raw fitness value of the new phenotype
+	 * @return a new {@code phenotype} with the given raw fitness
+	 * @throws NullPointerException if the given {@code rawFitness} is
+	 *         {@code null}.
+	 */
+	public Phenotype<G, C> withRawFitness(final C rawFitness) {
+		return new Phenotype<>(
+			_genotype,
+			_generation,
+			_function,
+			_scaler,
+			requireNonNull(rawFitness, "Raw fitness")
+		);
+	}
+
+	/**
+	 * Create a new {@code Phenotype}, with the same fitness {@code function}
+	 * and fitness {@code scaler}, for the given {@code genotype}, which has
+	 * been derived from the genotype of this phenotype by changing the
+	 * genes given by the {@code delta}. If the fitness function is an
+	 * {@link IncrementalFitness}, the fitness of the new phenotype is
+	 * calculated incrementally from the fitness of this phenotype. If this
+	 * phenotype is not evaluated yet, but has been derived from an evaluated
+	 * phenotype itself, the fitness is calculated from this evaluated
+	 * phenotype and the merged deltas.
+	 *
+	 * @since 3.8
+	 *
+	 * @param genotype the new genotype of the new phenotype.
+	 * @param generation date of birth (generation) of the new phenotype.
+	 * @param delta the changed genes of the new genotype, or {@code null} if
+	 *        the changed genes are not known
+	 * @return a new phenotype with the given genotype
+	 * @throws NullPointerException if the {@code genotype} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code generation} is
+	 *         {@code < 0}.
+	 */
+	public Phenotype<G, C> newInstance(
+		final Genotype<G> genotype,
+		final long generation,
+		final GenotypeDelta delta
+	) {
+		final Origin<G, C> origin = _origin;
+
+		final Origin<G, C> next;
+		if (delta == null || !isIncrementalFunction()) {
+			next = null;
+		} else if (origin != null) {
+			next = new Origin<>(origin.parent, origin.delta.merge(delta));
+		} else if (_rawFitness.isEvaluated()) {
+			next = new Origin<>(this, delta);
+		} else {
+			next = null;
+		}
+
+		return new Phenotype<>(
+			genotype, generation, _function, _scaler, null, next
+		);
+	}
+
+	/**
+	 * Return {@code true} if the fitness of phenotypes derived from this
+	 * phenotype can be calculated incrementally.
+	 *
+	 * @return {@code true} if the fitness can be calculated incrementally
+	 */
+	boolean isIncremental() {
+		return isIncrementalFunction() &&
+			(_origin != null || _rawFitness.isEvaluated());
+	}
+
+	private boolean isIncrementalFunction() {
+		return (Object)_function instanceof IncrementalFitness<?, ?>;
+	}
+
 	/**
 	 * Factory method for creating a new {@link Phenotype} with the same
 	 * {@link Function} and age as this {@link Phenotype}.
@@ -316,7 +474,7 @@ public final class Phenotype<
 		final long generation,
 		final Function<? super Genotype<G>, ? extends C> function
 	) {
-		return of(_genotype, generation, function, a -> a);
+		return of(_genotype, generation, function, FitnessScaler.identity());
 	}
 
 	/**
@@ -343,9 +501,7 @@ public final class Phenotype<
 			genotype,
 			generation,
 			function,
-			function instanceof Serializable
-				? (Function<? super C, ? extends C> & Serializable)a -> a
-				: a -> a
+			FitnessScaler.<C>identity()
 		);
 	}
 
@@ -379,6 +535,21 @@ public final class Phenotype<
 	}
 
 
+	// The evaluated parent phenotype and the changed genes.
+	private static final class Origin<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		final Phenotype<G, C> parent;
+		final GenotypeDelta delta;
+
+		Origin(final Phenotype<G, C> parent, final GenotypeDelta delta) {
+			this.parent = parent;
+			this.delta = delta;
+		}
+	}
+
+
 	/**************************************************************************
 	 *  Java object serialization
 	 *************************************************************************/
@@ -404,7 +575,7 @@ public final class Phenotype<
 		reflect.setField(this, "_rawFitness", Lazy.ofValue(in.readObject()));
 
 		reflect.setField(this, "_function", Function.identity());
-		reflect.setField(this, "_scaler", Function.identity());
+		reflect.setField(this, "_scaler", FitnessScaler.identity());
 	}
 
 	/* *************************************************************************
@@ -448,7 +619,7 @@ public final class Phenotype<
 					Genotype.Model.ADAPTER.unmarshal(m.genotype),
 					m.generation,
 					Function.identity(),
-					Function.identity()
+					FitnessScaler.identity()
 				);
 
 				reflect.setField(pt, "_fitness", Lazy.ofValue(m.fitness));
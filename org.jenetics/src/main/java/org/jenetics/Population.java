@@ -26,6 +26,7 @@ import static org.jenetics.internal.util.Equality.eq;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -45,8 +46,11 @@ import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import org.jenetics.internal.collection.ChunkedList;
+import org.jenetics.internal.collection.ChunkedStore;
 import org.jenetics.internal.util.Equality;
 import org.jenetics.internal.util.Hash;
+import org.jenetics.internal.util.IndexSorter;
 import org.jenetics.internal.util.jaxb;
 
 import org.jenetics.util.Copyable;
@@ -62,7 +66,7 @@ import org.jenetics.util.Factory;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.8
  */
 @XmlJavaTypeAdapter(Population.Model.Adapter.class)
 public class Population<G extends Gene<?, G>, C extends Comparable<? super C>>
@@ -79,8 +83,15 @@ public class Population<G extends Gene<?, G>, C extends Comparable<? super C>>
 		new Population(Collections.EMPTY_LIST);
 
 
+	// Populations with this size and bigger are ranked in parallel.
+	private static final int PARALLEL_RANK_THRESHOLD = 1 << 13;
+
 	private final List<Phenotype<G, C>> _population;
 
+	// The cached rank orders, for maximization and minimization.
+	private transient volatile RankOrder _maxRank;
+	private transient volatile RankOrder _minRank;
+
 	/**
 	 * Private <i>primary</i> constructor which assigns the underlying
 	 * population without copying and precondition check.
@@ -237,6 +248,230 @@ public class Population<G extends Gene<?, G>, C extends Comparable<? super C>>
 		);
 	}
 
+	/**
+	 * Return the indexes of the phenotypes of this population, ordered from
+	 * the best to the worst phenotype, according to the given optimization
+	 * strategy. The order of phenotypes with equal fitness values is the same
+	 * as after a call of {@code sortWith(opt.descending())}. The population
+	 * itself is not changed.
+	 * <p>
+	 * The rank order is cached. Consecutive calls, e.g. by the survivors and
+	 * the offspring selector of one generation, return the cached order, as
+	 * long as the population contains the same phenotypes. <em>The returned
+	 * array is shared and must not be changed.</em> This method is
+	 * thread-safe, if the population is not modified concurrently.
+	 *
+	 * @param opt the optimization strategy which defines the rank order
+	 * @return the phenotype indexes, ordered from best to worst
+	 */
+	int[] rank(final Optimize opt) {
+		final boolean max = opt == Optimize.MAXIMUM;
+
+		RankOrder rank = max ? _maxRank : _minRank;
+		if (rank == null || !rank.isValid(_population)) {
+			synchronized (_population) {
+				rank = max ? _maxRank : _minRank;
+				if (rank == null || !rank.isValid(_population)) {
+					rank = new RankOrder(_population.toArray(), order(opt));
+					if (max) {
+						_maxRank = rank;
+					} else {
+						_minRank = rank;
+					}
+				}
+			}
+		}
+
+		return rank.order;
+	}
+
+	/**
+	 * Return the cached rank order for the given optimization strategy, or
+	 * {@code null} if no valid rank order has been calculated yet.
+	 *
+	 * @see #rank(Optimize)
+	 *
+	 * @param opt the optimization strategy which defines the rank order
+	 * @return the cached rank order, or {@code null}
+	 */
+	int[] cachedRank(final Optimize opt) {
+		final RankOrder rank = opt == Optimize.MAXIMUM ? _maxRank : _minRank;
+		return rank != null && rank.isValid(_population) ? rank.order : null;
+	}
+
+	/**
+	 * Return the indexes of the {@code k} best phenotypes of this population,
+	 * ordered from the best to the worst phenotype. The result is equal to
+	 * the first {@code k} elements of the {@link #rank(Optimize)} order, but
+	 * the population is not sorted. Instead, a bounded heap is used, which
+	 * leads to a runtime complexity of <i>O(n </i>log<i>(k))</i>.
+	 *
+	 * @param k the number of best phenotypes, within {@code [0, size()]}
+	 * @param opt the optimization strategy which defines the rank order
+	 * @return the indexes of the {@code k} best phenotypes, ordered from
+	 *         best to worst
+	 */
+	int[] top(final int k, final Optimize opt) {
+		final double[] fitness = doubleFitness();
+		final int[] heap = new int[k];
+		for (int i = 0; i < k; ++i) {
+			heap[i] = i;
+		}
+
+		// The root of the heap is the worst of the k best phenotypes.
+		for (int i = k/2; --i >= 0;) {
+			sink(heap, i, k, opt, fitness);
+		}
+		for (int i = k, n = _population.size(); i < n && k > 0; ++i) {
+			if (worse(heap[0], i, opt, fitness)) {
+				heap[0] = i;
+				sink(heap, 0, k, opt, fitness);
+			}
+		}
+
+		// Sort down, which moves the worse phenotypes to the end.
+		for (int end = k; --end > 0;) {
+			final int temp = heap[0];
+			heap[0] = heap[end];
+			heap[end] = temp;
+			sink(heap, 0, end, opt, fitness);
+		}
+
+		return heap;
+	}
+
+	private void sink(
+		final int[] heap,
+		final int start,
+		final int end,
+		final Optimize opt,
+		final double[] fitness
+	) {
+		int m = start;
+		while (2*m + 1 < end) {
+			int j = 2*m + 1;
+			if (j < end - 1 && worse(heap[j + 1], heap[j], opt, fitness)) ++j;
+			if (!worse(heap[j], heap[m], opt, fitness)) break;
+
+			final int temp = heap[m];
+			heap[m] = heap[j];
+			heap[j] = temp;
+			m = j;
+		}
+	}
+
+	// Return true if the phenotype at index a is ranked behind the phenotype
+	// at index b. Phenotypes with equal fitness are ranked by its index. The
+	// 'double' fitness values are used, if available.
+	private boolean worse(
+		final int a,
+		final int b,
+		final Optimize opt,
+		final double[] fitness
+	) {
+		final int cmp;
+		if (fitness != null) {
+			cmp = opt == Optimize.MAXIMUM
+				? Double.compare(fitness[a], fitness[b])
+				: Double.compare(fitness[b], fitness[a]);
+		} else {
+			cmp = opt.compare(
+				_population.get(a).getFitness(),
+				_population.get(b).getFitness()
+			);
+		}
+		return cmp < 0 || (cmp == 0 && a > b);
+	}
+
+	// Return the fitness values as 'double' array, if all fitness values are
+	// of type 'Double', or null otherwise. The fitness values can then be
+	// compared without unboxing and without accessing the phenotypes.
+	private double[] doubleFitness() {
+		final double[] fitness = new double[_population.size()];
+		for (int i = 0; i < fitness.length; ++i) {
+			final Object value = _population.get(i).getFitness();
+			if (!(value instanceof Double)) {
+				return null;
+			}
+			fitness[i] = (Double)value;
+		}
+		return fitness;
+	}
+
+	// 'Double' fitness values are sorted with the (stable) radix sorter.
+	private int[] order(final Optimize opt) {
+		final double[] fitness = doubleFitness();
+		return fitness != null
+			? IndexSorter.sort(fitness, opt == Optimize.MAXIMUM)
+			: order(opt.<C>descending());
+	}
+
+	// Big populations are sorted in parallel.
+	private int[] order(final Comparator<? super C> comparator) {
+		final Integer[] indexes = new Integer[_population.size()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = i;
+		}
+
+		final List<C> fitness = new ArrayList<>(_population.size());
+		for (Phenotype<G, C> pt : _population) {
+			fitness.add(pt.getFitness());
+		}
+
+		// Both sort methods are stable.
+		final Comparator<Integer> cmp = (a, b) ->
+			comparator.compare(fitness.get(a), fitness.get(b));
+		if (indexes.length >= PARALLEL_RANK_THRESHOLD) {
+			Arrays.parallelSort(indexes, cmp);
+		} else {
+			Arrays.sort(indexes, cmp);
+		}
+
+		final int[] result = new int[indexes.length];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = indexes[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Cached rank order of the population. The order is valid as long as the
+	 * population contains the same phenotype instances, at the same
+	 * positions, as the population snapshot.
+	 */
+	private static final class RankOrder {
+		final Object[] population;
+		final int[] order;
+
+		RankOrder(final Object[] population, final int[] order) {
+			this.population = population;
+			this.order = order;
+		}
+
+		boolean isValid(final List<?> population) {
+			boolean valid = population.size() == this.population.length;
+			for (int i = 0; i < this.population.length && valid; ++i) {
+				valid = population.get(i) == this.population[i];
+			}
+			return valid;
+		}
+	}
+
+	/**
+	 * Return a new population with the phenotypes at the given
+	 * {@code indexes}.
+	 *
+	 * @param indexes the indexes of the phenotypes of the new population
+	 * @return a new population with the indexed phenotypes
+	 */
+	Population<G, C> select(final int[] indexes) {
+		final List<Phenotype<G, C>> population = new ArrayList<>(indexes.length);
+		for (int index : indexes) {
+			population.add(_population.get(index));
+		}
+		return new Population<>(population, true);
+	}
+
 	/**
 	 * Reverse the order of the population.
 	 */
@@ -309,9 +544,28 @@ public class Population<G extends Gene<?, G>, C extends Comparable<? super C>>
 		return _population.toArray(a);
 	}
 
+	/**
+	 * Return a copy of this population. Populations with at least
+	 * {@link ChunkedStore#MIN_LENGTH} phenotypes are copied into a
+	 * copy-on-write list, which shares its chunks with the copies of the
+	 * copy. Copying such a population again is therefore cheap, and setting
+	 * a phenotype only copies the affected chunk. Adding or removing
+	 * phenotypes moves the phenotypes into an array list again.
+	 *
+	 * @return a copy of this population
+	 */
 	@Override
 	public Population<G, C> copy() {
-		return new Population<>(new ArrayList<>(_population), true);
+		final List<Phenotype<G, C>> population;
+		if (_population instanceof ChunkedList<?>) {
+			population = ((ChunkedList<Phenotype<G, C>>)_population).copy();
+		} else if (_population.size() >= ChunkedStore.MIN_LENGTH) {
+			population = ChunkedList.of(_population);
+		} else {
+			population = new ArrayList<>(_population);
+		}
+
+		return new Population<>(population, true);
 	}
 
 	@Override
@@ -45,11 +45,13 @@ import org.jenetics.util.RandomRegistry;
  * runtime complexity of the implemented probability selectors is
  * <i>O(n+</i>log<i>(n))</i> instead of <i>O(n<sup>2</sup>)</i> as for the naive
  * approach: <i>A binary (index) search is performed on the summed probability
- * array.</i>
+ * array.</i> With the {@link Sampling#ALIAS} sampling strategy, an alias table
+ * is created in <i>O(n)</i> and every selected individual is drawn in constant
+ * time, which pays off for big populations and big selection counts.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.2
+ * @version 3.8
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -61,10 +63,59 @@ public abstract class ProbabilitySelector<
 
 	private static final long MAX_ULP_DISTANCE = pow(10, 10);
 
+	/**
+	 * The strategy used for drawing the selected individuals from the
+	 * calculated selection probabilities.
+	 *
+	 * @since 3.8
+	 */
+	public enum Sampling {
+
+		/**
+		 * The selection probabilities are summed up and an index search is
+		 * performed on the summed probability array for every selected
+		 * individual. Each draw needs <i>O(</i>log<i>(n))</i> time.
+		 */
+		CUMULATIVE,
+
+		/**
+		 * An alias table is created from the selection probabilities
+		 * (<em>Vose</em> alias method), which allows to draw every selected
+		 * individual in <i>O(1)</i> time.
+		 */
+		ALIAS
+
+	}
+
 	private final boolean _sorted;
+	private final Sampling _sampling;
 	private final Function<double[], double[]> _reverter;
 
 
+	/**
+	 * Create a new {@code ProbabilitySelector} with the given {@code sorting}
+	 * flag and {@code sampling} strategy. <em>The sorting flag must set to
+	 * {@code true} if the selector implementation is sorting the population
+	 * in the {@link #probabilities(Population, int)} method.</em>
+	 *
+	 * @since 3.8
+	 *
+	 * @param sorted {@code true} if the implementation is sorting the
+	 *        population when calculating the selection probabilities,
+	 *        {@code false} otherwise.
+	 * @param sampling the strategy used for drawing the selected individuals
+	 * @throws NullPointerException if the given {@code sampling} strategy is
+	 *         {@code null}
+	 */
+	protected ProbabilitySelector(
+		final boolean sorted,
+		final Sampling sampling
+	) {
+		_sorted = sorted;
+		_sampling = requireNonNull(sampling, "Sampling");
+		_reverter = sorted ? array::revert : ProbabilitySelector::sortAndRevert;
+	}
+
 	/**
 	 * Create a new {@code ProbabilitySelector} with the given {@code sorting}
 	 * flag. <em>This flag must set to {@code true} if the selector
@@ -76,8 +127,7 @@ public abstract class ProbabilitySelector<
 	 *        {@code false} otherwise.
 	 */
 	protected ProbabilitySelector(final boolean sorted) {
-		_sorted = sorted;
-		_reverter = sorted ? array::revert : ProbabilitySelector::sortAndRevert;
+		this(sorted, Sampling.CUMULATIVE);
 	}
 
 	/**
@@ -92,6 +142,15 @@ public abstract class ProbabilitySelector<
 		final Population<G, C> population,
 		final int count,
 		final Optimize opt
+	) {
+		return population.select(selectIndexes(population, count, opt));
+	}
+
+	@Override
+	public int[] selectIndexes(
+		final Population<G, C> population,
+		final int count,
+		final Optimize opt
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
@@ -102,37 +161,66 @@ public abstract class ProbabilitySelector<
 			));
 		}
 
-		final Population<G, C> selection = new Population<>(count);
-		if (count > 0 && !population.isEmpty()) {
-			final Population<G, C> pop = copy(population);
+		if (count == 0 || population.isEmpty()) {
+			return new int[0];
+		}
+
+		final int[] order = order(population);
+		final Population<G, C> pop = order != null
+			? population.select(order)
+			: population;
 
-			final double[] prob = probabilities(pop, count, opt);
-			assert pop.size() == prob.length
-				: "Population size and probability length are not equal.";
+		final double[] prob = probabilities(pop, count, opt);
+		assert pop.size() == prob.length
+			: "Population size and probability length are not equal.";
 
-			checkAndCorrect(prob);
-			assert sum2one(prob) : "Probabilities doesn't sum to one.";
+		checkAndCorrect(prob);
+		assert sum2one(prob) : "Probabilities doesn't sum to one.";
 
+		final int[] selection = new int[count];
+		final Random random = RandomRegistry.getRandom();
+		if (_sampling == Sampling.ALIAS) {
+			final AliasTable table = AliasTable.of(prob);
+			for (int i = 0; i < count; ++i) {
+				selection[i] = table.next(random);
+			}
+		} else {
 			incremental(prob);
+			for (int i = 0; i < count; ++i) {
+				selection[i] = indexOf(prob, random.nextDouble());
+			}
+		}
 
-			final Random random = RandomRegistry.getRandom();
-			selection.fill(
-				() -> pop.get(indexOf(prob, random.nextDouble())),
-				count
-			);
+		if (order != null) {
+			for (int i = 0; i < count; ++i) {
+				selection[i] = order[selection[i]];
+			}
 		}
 
 		return selection;
 	}
 
-	Population<G, C> copy(final Population<G, C> population) {
-		Population<G, C> pop = population;
-		if (_sorted) {
-			pop = population.copy();
-			pop.populationSort();
-		}
+	/**
+	 * Return the sort order of the given population, if the selector
+	 * implementation needs a sorted population, or {@code null} otherwise.
+	 * The population is sorted in descending order, like
+	 * {@link Population#populationSort()} does.
+	 */
+	int[] order(final Population<G, C> population) {
+		return _sorted
+			? population.rank(Optimize.MAXIMUM)
+			: null;
+	}
 
-		return pop;
+	/**
+	 * Return the strategy used for drawing the selected individuals.
+	 *
+	 * @since 3.8
+	 *
+	 * @return the sampling strategy of this selector
+	 */
+	public Sampling getSampling() {
+		return _sampling;
 	}
 
 	/**
@@ -157,7 +245,8 @@ public abstract class ProbabilitySelector<
 			: probabilities(population, count);
 	}
 
-	// Package private for testing.
+	// Package private for testing. Big arrays are sorted in linear time by
+	// the radix sort of the index sorter.
 	static double[] sortAndRevert(final double[] array) {
 		final int[] indexes = sort(array);
 
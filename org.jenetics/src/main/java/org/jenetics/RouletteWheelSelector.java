@@ -38,7 +38,7 @@ import org.jenetics.internal.util.Hash;
  *      </a>
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.2
+ * @version 3.8
  */
 public class RouletteWheelSelector<
 	G extends Gene<?, G>,
@@ -51,6 +51,20 @@ public class RouletteWheelSelector<
 		this(false);
 	}
 
+	/**
+	 * Create a new roulette-wheel selector with the given {@code sampling}
+	 * strategy.
+	 *
+	 * @since 3.8
+	 *
+	 * @param sampling the strategy used for drawing the selected individuals
+	 * @throws NullPointerException if the given {@code sampling} strategy is
+	 *         {@code null}
+	 */
+	public RouletteWheelSelector(final Sampling sampling) {
+		super(false, sampling);
+	}
+
 	protected RouletteWheelSelector(final boolean sorted) {
 		super(sorted);
 	}
@@ -86,12 +100,14 @@ public class RouletteWheelSelector<
 
 	@Override
 	public int hashCode() {
-		return Hash.of(getClass()).value();
+		return Hash.of(getClass()).and(getSampling()).value();
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
-		return Equality.ofType(this, obj);
+		return Equality.of(this, obj).test(selector ->
+			getSampling() == selector.getSampling()
+		);
 	}
 
 	@Override
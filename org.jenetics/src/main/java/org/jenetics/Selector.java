@@ -19,6 +19,9 @@
  */
 package org.jenetics;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * Selectors are responsible for selecting a given number of individuals from
  * the population. The selectors are used to divide the population into
@@ -32,12 +35,17 @@ package org.jenetics;
  *     .build();
  * }</pre>
  *
+ * Besides selecting a new population, a selector is able to return the
+ * <em>indexes</em> of the selected individuals, with the
+ * {@link #selectIndexes(Population, int, Optimize)} method. The index based
+ * selection doesn't materialize a new population of phenotype references.
+ *
  * @param <G> The gene type this GA evaluates,
  * @param <C> The result type (of the fitness function).
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 1.0
+ * @version 3.8
  */
 @FunctionalInterface
 public interface Selector<
@@ -64,4 +72,65 @@ public interface Selector<
 		final Optimize opt
 	);
 
+	/**
+	 * Select phenotypes from the Population and return the indexes of the
+	 * selected phenotypes, instead of the phenotypes itself. The selection
+	 * is equivalent to
+	 * <pre>{@code
+	 * final int[] indexes = selector.selectIndexes(population, count, opt);
+	 * final Population<G, C> selection = Arrays.stream(indexes)
+	 *     .mapToObj(population::get)
+	 *     .collect(Population.toPopulation());
+	 * }</pre>
+	 *
+	 * The default implementation performs the selection with the
+	 * {@link #select(Population, int, Optimize)} method and looks up the
+	 * indexes of the selected phenotypes. If a phenotype instance is contained
+	 * more than once in the given population, the smallest index is returned.
+	 * The selectors of the library are overriding this method and select the
+	 * indexes directly.
+	 *
+	 * @since 3.8
+	 *
+	 * @param population The population to select from.
+	 * @param count The number of phenotypes to select.
+	 * @param opt Determines whether the individuals with higher fitness values
+	 *        or lower fitness values must be selected. This parameter determines
+	 *        whether the GA maximizes or minimizes the fitness function.
+	 * @return The indexes of the selected phenotypes. The returned array has
+	 *         the length {@code count}, or length zero if the given population
+	 *         is empty.
+	 * @throws NullPointerException if the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the select count is smaller than zero.
+	 * @throws IllegalStateException if the {@link #select(Population, int, Optimize)}
+	 *         method returns phenotypes which are not part of the given
+	 *         population.
+	 */
+	public default int[] selectIndexes(
+		final Population<G, C> population,
+		final int count,
+		final Optimize opt
+	) {
+		final Population<G, C> selection = select(population, count, opt);
+
+		final Map<Phenotype<G, C>, Integer> indexes =
+			new IdentityHashMap<>(population.size());
+		for (int i = population.size(); --i >= 0;) {
+			indexes.put(population.get(i), i);
+		}
+
+		final int[] result = new int[selection.size()];
+		for (int i = 0; i < result.length; ++i) {
+			final Integer index = indexes.get(selection.get(i));
+			if (index == null) {
+				throw new IllegalStateException(
+					"Selected phenotype is not part of the population."
+				);
+			}
+			result[i] = index;
+		}
+
+		return result;
+	}
+
 }
@@ -46,7 +46,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.2
+ * @version 3.8
  */
 public class StochasticUniversalSelector<
 	G extends Gene<?, G>,
@@ -61,11 +61,11 @@ public class StochasticUniversalSelector<
 
 	/**
 	 * This method sorts the population in descending order while calculating the
-	 * selection probabilities. (The method {@link Population#populationSort()} is called
-	 * by this method.)
+	 * selection probabilities. (The population itself is not changed by this
+	 * method.)
 	 */
 	@Override
-	public Population<G, N> select(
+	public int[] selectIndexes(
 		final Population<G, N> population,
 		final int count,
 		final Optimize opt
@@ -78,12 +78,12 @@ public class StochasticUniversalSelector<
 			);
 		}
 
-		final Population<G, N> selection = new Population<>(count);
 		if (count == 0 || population.isEmpty()) {
-			return selection;
+			return new int[0];
 		}
 
-		final Population<G, N> pop = copy(population);
+		final int[] order = order(population);
+		final Population<G, N> pop = population.select(order);
 		final double[] probabilities = probabilities(pop, count, opt);
 		assert  pop.size() == probabilities.length;
 
@@ -95,6 +95,7 @@ public class StochasticUniversalSelector<
 			points[i] = delta*i;
 		}
 
+		final int[] selection = new int[count];
 		int j = 0;
 		double prop = 0;
 		for (int i = 0; i < count; ++i) {
@@ -102,7 +103,7 @@ public class StochasticUniversalSelector<
 				prop += probabilities[j];
 				++j;
 			}
-			selection.add(pop.get(j%pop.size()));
+			selection[i] = order[j%pop.size()];
 		}
 
 		return selection;
@@ -19,17 +19,21 @@
  */
 package org.jenetics;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.maxBy;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Random;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.concurrent.Executor;
 
+import org.jenetics.internal.util.Concurrency;
 import org.jenetics.internal.util.Equality;
 import org.jenetics.internal.util.Hash;
 
+import org.jenetics.util.LCG64ShiftRandom;
 import org.jenetics.util.RandomRegistry;
 
 /**
@@ -41,12 +45,21 @@ import org.jenetics.util.RandomRegistry;
  * in all the tournaments it participates. The selection pressure can be varied
  * by changing the tournament size <i>s</i> . For large values of <i>s</i>, weak
  * individuals have less chance being selected.
+ * <p>
+ * A tournament selector, created with an {@link Executor}, performs the
+ * tournaments in parallel. The selection count is split into blocks of
+ * tournaments, and every block uses its own, independent random number stream.
+ * The streams are created by <i>leap-frogging</i> a {@link LCG64ShiftRandom},
+ * seeded with a random value of the registered random engine. The selected
+ * individuals are therefore reproducible, independent of the number of
+ * available threads. Selection counts which fit into one block are performed
+ * serially.
  *
  * @see <a href="http://en.wikipedia.org/wiki/Tournament_selection">Tournament selection</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.8
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -55,7 +68,11 @@ public class TournamentSelector<
 	implements Selector<G, C>
 {
 
+	// The number of tournaments performed with one random number stream.
+	private static final int BLOCK_SIZE = 1024;
+
 	private final int _sampleSize;
+	private final Executor _executor;
 
 	/**
 	 * Create a tournament selector with the give sample size. The sample size
@@ -71,6 +88,30 @@ public class TournamentSelector<
 			);
 		}
 		_sampleSize = sampleSize;
+		_executor = null;
+	}
+
+	/**
+	 * Create a tournament selector with the give sample size, which performs
+	 * the tournaments in parallel, using the given {@code executor}. The
+	 * sample size must be greater than one.
+	 *
+	 * @since 3.8
+	 *
+	 * @param sampleSize the number of individuals involved in one tournament
+	 * @param executor the executor used for performing the tournaments
+	 * @throws IllegalArgumentException if the sample size is smaller than two.
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}.
+	 */
+	public TournamentSelector(final int sampleSize, final Executor executor) {
+		if (sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be greater than one, but was " + sampleSize
+			);
+		}
+		_sampleSize = sampleSize;
+		_executor = requireNonNull(executor, "Executor");
 	}
 
 	/**
@@ -85,6 +126,15 @@ public class TournamentSelector<
 		final Population<G, C> population,
 		final int count,
 		final Optimize opt
+	) {
+		return population.select(selectIndexes(population, count, opt));
+	}
+
+	@Override
+	public int[] selectIndexes(
+		final Population<G, C> population,
+		final int count,
+		final Optimize opt
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
@@ -96,22 +146,71 @@ public class TournamentSelector<
 		}
 
 		final Random random = RandomRegistry.getRandom();
-		return population.isEmpty()
-			? new Population<>(0)
-			: new Population<G, C>(count)
-				.fill(() -> select(population, opt, _sampleSize, random), count);
+		if (population.isEmpty()) {
+			return new int[0];
+		} else if (_executor == null || count <= BLOCK_SIZE) {
+			final int[] selection = new int[count];
+			for (int i = 0; i < count; ++i) {
+				selection[i] = select(population, opt, _sampleSize, random);
+			}
+			return selection;
+		} else {
+			return select(population, count, opt, random.nextLong());
+		}
 	}
 
-	private Phenotype<G, C> select(
+	private int[] select(
+		final Population<G, C> population,
+		final int count,
+		final Optimize opt,
+		final long seed
+	) {
+		final int[] selection = new int[count];
+		final int blocks = (count + BLOCK_SIZE - 1)/BLOCK_SIZE;
+
+		final List<Runnable> tasks = new ArrayList<>(blocks);
+		for (int b = 0; b < blocks; ++b) {
+			final int block = b;
+			tasks.add(() -> {
+				final LCG64ShiftRandom random = new LCG64ShiftRandom(seed);
+				random.split(blocks, block);
+
+				final int end = min((block + 1)*BLOCK_SIZE, count);
+				for (int i = block*BLOCK_SIZE; i < end; ++i) {
+					selection[i] = select(population, opt, _sampleSize, random);
+				}
+			});
+		}
+
+		try (Concurrency c = Concurrency.with(_executor)) {
+			c.execute(tasks);
+		}
+
+		return selection;
+	}
+
+	// Performs one tournament and returns the index of the winner.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	int select(
 		final Population<G, C> population,
 		final Optimize opt,
 		final int sampleSize,
 		final Random random
 	) {
 		final int N = population.size();
-		return Stream.generate(() -> population.get(random.nextInt(N)))
-			.limit(sampleSize)
-			.collect(maxBy(opt.ascending())).get();
+
+		int winner = random.nextInt(N);
+		C fitness = population.get(winner).getFitness();
+		for (int i = 1; i < sampleSize; ++i) {
+			final int candidate = random.nextInt(N);
+			final C candidateFitness = population.get(candidate).getFitness();
+			if (opt.compare(fitness, candidateFitness) < 0) {
+				winner = candidate;
+				fitness = candidateFitness;
+			}
+		}
+
+		return winner;
 	}
 
 	@Override
@@ -121,7 +220,10 @@ public class TournamentSelector<
 
 	@Override
 	public boolean equals(final Object obj) {
-		return Equality.of(this, obj).test(s -> _sampleSize == s._sampleSize);
+		return Equality.of(this, obj).test(s ->
+			_sampleSize == s._sampleSize &&
+			Objects.equals(_executor, s._executor)
+		);
 	}
 
 	@Override
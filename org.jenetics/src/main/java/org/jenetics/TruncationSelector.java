@@ -37,7 +37,7 @@ import org.jenetics.internal.util.Hash;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.8
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -53,11 +53,13 @@ public final class TruncationSelector<
 	}
 
 	/**
-	 * This method sorts the population in descending order while calculating
-	 * the selection probabilities. (The method
-	 * {@link Population#sortWith(java.util.Comparator)} )} is called by this
-	 * method.) If the selection size is greater the the population size, the
-	 * whole population is duplicated until the desired sample size is reached.
+	 * This method selects the {@code count} best individuals of the
+	 * population. (The population itself is not changed by this method.) If
+	 * the selection count is smaller than the population size, only the best
+	 * individuals are determined, with a runtime complexity of
+	 * <i>O(n </i>log<i>(count))</i>. If the selection size is greater the the
+	 * population size, the whole population is duplicated until the desired
+	 * sample size is reached.
 	 *
 	 * @throws NullPointerException if the {@code population} is {@code null}.
 	 */
@@ -66,6 +68,15 @@ public final class TruncationSelector<
 		final Population<G, C> population,
 		final int count,
 		final Optimize opt
+	) {
+		return population.select(selectIndexes(population, count, opt));
+	}
+
+	@Override
+	public int[] selectIndexes(
+		final Population<G, C> population,
+		final int count,
+		final Optimize opt
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
@@ -76,17 +87,24 @@ public final class TruncationSelector<
 			));
 		}
 
-		final Population<G, C> selection = new Population<>(count);
-		if (count > 0 && !population.isEmpty()) {
-			final Population<G, C> copy = population.copy();
-			copy.sortWith(opt.<C>descending());
+		if (count == 0 || population.isEmpty()) {
+			return new int[0];
+		}
+
+		// Only the best 'count' individuals are needed, if the selection count
+		// is smaller than the population size. They are found with a bounded
+		// heap, unless the population rank order is already cached.
+		final int size = population.size();
+		final int[] cached = population.cachedRank(opt);
+		final int[] order = cached != null
+			? cached
+			: count < size
+				? population.top(count, opt)
+				: population.rank(opt);
 
-			int size = count;
-			do {
-				final int length = Math.min(copy.size(), size);
-				selection.addAll(copy.subList(0, length));
-				size -= length;
-			} while (size > 0);
+		final int[] selection = new int[count];
+		for (int i = 0; i < count; ++i) {
+			selection[i] = order[i%order.length];
 		}
 
 		return selection;
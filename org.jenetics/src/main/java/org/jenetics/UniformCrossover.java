@@ -22,6 +22,9 @@ package org.jenetics;
 import static java.lang.Math.min;
 import static org.jenetics.internal.math.random.indexes;
 
+import java.util.stream.IntStream;
+
+import org.jenetics.internal.util.bit;
 import org.jenetics.internal.util.require;
 
 import org.jenetics.util.MSeq;
@@ -113,9 +116,33 @@ public class UniformCrossover<
 	@Override
 	protected int crossover(final MSeq<G> that, final MSeq<G> other) {
 		final int length = min(that.length(), other.length());
-		return (int)indexes(RandomRegistry.getRandom(), length, _swapProbability)
-			.peek(i -> swap(i, that, other))
-			.count();
+		final IntStream indexes = indexes(
+			RandomRegistry.getRandom(), length, _swapProbability
+		);
+
+		if (that instanceof BitGeneMSeq && other instanceof BitGeneMSeq) {
+			return swap(indexes, length, (BitGeneMSeq)that, (BitGeneMSeq)other);
+		}
+
+		final int[] swaps = indexes.toArray();
+		for (int i : swaps) {
+			swap(i, that, other);
+		}
+		return swaps.length;
+	}
+
+	// The bits to swap are collected into a mask, which allows to swap the
+	// bits of the two sequences byte wise.
+	private static int swap(
+		final IntStream indexes,
+		final int length,
+		final BitGeneMSeq that,
+		final BitGeneMSeq other
+	) {
+		final byte[] mask = bit.newArray(length);
+		indexes.forEach(i -> bit.set(mask, i));
+		that.swap(other, mask);
+		return bit.count(mask);
 	}
 
 	private static <T> void swap(
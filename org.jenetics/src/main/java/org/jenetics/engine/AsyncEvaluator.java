@@ -0,0 +1,172 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Evaluation strategy for <em>asynchronous</em> fitness functions. The fitness
+ * function is called for all not yet evaluated phenotypes of the population,
+ * without waiting for the result. After all fitness calculations have been
+ * started, the evaluator waits for their completion. No executor thread is
+ * blocked by a running fitness calculation.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class AsyncEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	private final Function<
+		? super Genotype<G>,
+		? extends CompletionStage<? extends C>
+	> _function;
+
+	private final FitnessCache<G, C> _cache;
+
+	/**
+	 * Create a new asynchronous evaluator.
+	 *
+	 * @param function the asynchronous fitness function
+	 * @param cache the fitness cache of the engine, or {@code null} if the
+	 *        fitness cache is disabled
+	 * @throws NullPointerException if the given {@code function} is
+	 *         {@code null}
+	 */
+	AsyncEvaluator(
+		final Function<? super Genotype<G>, ? extends CompletionStage<? extends C>>
+			function,
+		final FitnessCache<G, C> cache
+	) {
+		_function = requireNonNull(function);
+		_cache = cache;
+	}
+
+	@Override
+	public Population<G, C> evaluate(final Population<G, C> population) {
+		final int[] indexes = new int[population.size()];
+		final List<CompletableFuture<? extends C>> futures = new ArrayList<>();
+
+		int count = 0;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (!pt.isEvaluated()) {
+				final C fitness = _cache != null
+					? _cache.get(pt.getGenotype())
+					: null;
+
+				if (fitness != null) {
+					population.set(i, pt.withRawFitness(fitness));
+				} else {
+					indexes[count] = i;
+					futures.add(_function.apply(pt.getGenotype())
+						.toCompletableFuture());
+					++count;
+				}
+			}
+		}
+
+		if (count > 0) {
+			CompletableFuture
+				.allOf(futures.toArray(new CompletableFuture<?>[count]))
+				.join();
+
+			for (int i = 0; i < count; ++i) {
+				final Phenotype<G, C> pt = population.get(indexes[i]);
+				final C fitness = futures.get(i).join();
+				if (_cache != null) {
+					_cache.put(pt.getGenotype(), fitness);
+				}
+				population.set(indexes[i], pt.withRawFitness(fitness));
+			}
+		}
+
+		return population;
+	}
+
+	/**
+	 * Starts the evaluation of the given phenotype, without waiting for the
+	 * result. The fitness value is put into the fitness cache, even if the
+	 * returned future has been cancelled.
+	 *
+	 * @param phenotype the phenotype to evaluate
+	 * @return the future of the evaluated phenotype
+	 */
+	CompletableFuture<Phenotype<G, C>> evaluateAsync(
+		final Phenotype<G, C> phenotype
+	) {
+		final C cached = _cache != null
+			? _cache.get(phenotype.getGenotype())
+			: null;
+		if (cached != null) {
+			return CompletableFuture.completedFuture(
+				phenotype.withRawFitness(cached)
+			);
+		}
+
+		final CompletableFuture<? extends C> fitness =
+			_function.apply(phenotype.getGenotype()).toCompletableFuture();
+		if (_cache != null) {
+			fitness.thenAccept(f -> _cache.put(phenotype.getGenotype(), f));
+		}
+		return fitness.thenApply(phenotype::withRawFitness);
+	}
+
+	/**
+	 * Return a (synchronous) fitness function, which waits for the result of
+	 * the given asynchronous {@code function}. This function is used for
+	 * phenotypes which are evaluated outside the engine.
+	 *
+	 * @param function the asynchronous fitness function
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a synchronous fitness function
+	 * @throws NullPointerException if the given {@code function} is
+	 *         {@code null}
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Function<Genotype<G>, C> sync(
+		final Function<? super Genotype<G>, ? extends CompletionStage<? extends C>>
+			function
+	) {
+		requireNonNull(function);
+		return gt -> function.apply(gt).toCompletableFuture().join();
+	}
+
+}
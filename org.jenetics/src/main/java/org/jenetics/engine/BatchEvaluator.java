@@ -0,0 +1,145 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+import org.jenetics.util.Seq;
+
+/**
+ * Evaluation strategy which hands all not yet evaluated genotypes of the
+ * population to the <em>batch</em> fitness function in one call. The batch
+ * function is called in the evaluating thread.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class BatchEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	private final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>>
+		_function;
+
+	private final FitnessCache<G, C> _cache;
+
+	/**
+	 * Create a new batch evaluator.
+	 *
+	 * @param function the batch fitness function
+	 * @param cache the fitness cache of the engine, or {@code null} if the
+	 *        fitness cache is disabled
+	 * @throws NullPointerException if the given batch {@code function} is
+	 *         {@code null}
+	 */
+	BatchEvaluator(
+		final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>> function,
+		final FitnessCache<G, C> cache
+	) {
+		_function = requireNonNull(function);
+		_cache = cache;
+	}
+
+	@Override
+	public Population<G, C> evaluate(final Population<G, C> population) {
+		final int[] indexes = new int[population.size()];
+		final MSeq<Genotype<G>> genotypes = MSeq.ofLength(population.size());
+
+		int count = 0;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (!pt.isEvaluated()) {
+				final C fitness = _cache != null
+					? _cache.get(pt.getGenotype())
+					: null;
+
+				if (fitness != null) {
+					population.set(i, pt.withRawFitness(fitness));
+				} else {
+					indexes[count] = i;
+					genotypes.set(count, pt.getGenotype());
+					++count;
+				}
+			}
+		}
+
+		if (count > 0) {
+			final ISeq<Genotype<G>> batch = genotypes.subSeq(0, count).toISeq();
+			final Seq<? extends C> fitnesses = _function.apply(batch);
+			if (fitnesses.size() != count) {
+				throw new IllegalStateException(format(
+					"Expected %d fitness values, but got %d.",
+					count, fitnesses.size()
+				));
+			}
+
+			for (int i = 0; i < count; ++i) {
+				final C fitness = fitnesses.get(i);
+				if (_cache != null) {
+					_cache.put(batch.get(i), fitness);
+				}
+				population.set(
+					indexes[i],
+					population.get(indexes[i]).withRawFitness(fitness)
+				);
+			}
+		}
+
+		return population;
+	}
+
+	/**
+	 * Return a (single genotype) fitness function, which calls the given
+	 * {@code batch} function with a sequence of length one. This function is
+	 * used for phenotypes which are evaluated outside the engine.
+	 *
+	 * @param batch the batch fitness function
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a single genotype fitness function
+	 * @throws NullPointerException if the given {@code batch} function is
+	 *         {@code null}
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Function<Genotype<G>, C> single(
+		final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>> batch
+	) {
+		requireNonNull(batch);
+		return gt -> batch.apply(ISeq.of(singletonList(gt))).get(0);
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.jenetics.internal.util.Concurrency;
+import org.jenetics.internal.util.ExecutionCost;
+
+import org.jenetics.Gene;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Default evaluation strategy of the {@link Engine}. The not yet evaluated
+ * phenotypes are evaluated concurrently, with the given {@link Executor}.
+ * The evaluation times of the previous generations are used for adapting the
+ * number of phenotypes, which are evaluated in one task. In the
+ * <em>per-task</em> mode, every phenotype is evaluated in its own task,
+ * which is executed by the {@link Concurrency#perTaskExecutor()}.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class ConcurrentEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	private final Executor _executor;
+	private final boolean _perTask;
+	private final ExecutionCost _cost = new ExecutionCost();
+
+	ConcurrentEvaluator(final Executor executor, final boolean perTask) {
+		_executor = requireNonNull(executor);
+		_perTask = perTask;
+	}
+
+	@Override
+	public Population<G, C> evaluate(final Population<G, C> population) {
+		final List<Phenotype<G, C>> phenotypes = population.stream()
+			.filter(pt -> !pt.isEvaluated())
+			.collect(Collectors.toList());
+
+		if (!phenotypes.isEmpty()) {
+			try (Concurrency c = _perTask
+					? Concurrency.perTask(Concurrency.perTaskExecutor())
+					: Concurrency.with(_executor, _cost))
+			{
+				c.execute(phenotypes);
+			}
+		}
+		return population;
+	}
+
+}
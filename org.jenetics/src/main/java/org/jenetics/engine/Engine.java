@@ -26,17 +26,26 @@ import static org.jenetics.Population.toPopulation;
 import static org.jenetics.internal.util.require.probability;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.jenetics.internal.util.Concurrency;
+import org.jenetics.internal.util.FitnessScaler;
 import org.jenetics.internal.util.require;
 
 import org.jenetics.Alterer;
@@ -45,6 +54,7 @@ import org.jenetics.Gene;
 import org.jenetics.Genotype;
 import org.jenetics.Mutator;
 import org.jenetics.Optimize;
+import org.jenetics.PartitionAlterer;
 import org.jenetics.Phenotype;
 import org.jenetics.Population;
 import org.jenetics.Selector;
@@ -53,6 +63,7 @@ import org.jenetics.TournamentSelector;
 import org.jenetics.util.Copyable;
 import org.jenetics.util.Factory;
 import org.jenetics.util.NanoClock;
+import org.jenetics.util.Seq;
 
 /**
  * Genetic algorithm <em>engine</em> which is the main class. The following
@@ -99,9 +110,15 @@ import org.jenetics.util.NanoClock;
  * <p>
  * <em>
  *     <b>This class is thread safe:</b>
- *     No mutable state is maintained by the engine. Therefore it is save to
- *     create multiple evolution streams with one engine, which may be actually
- *     used in different threads.
+ *     Except the optional fitness cache, no mutable state is maintained by the
+ *     engine. Therefore it is save to create multiple evolution streams with
+ *     one engine, which may be actually used in different threads. If a
+ *     {@link Builder#fitnessCacheSize(int) fitness cache} is configured, it
+ *     is owned by the engine and shared by all evolution streams created by
+ *     the engine. The cache and its hit/miss counters are updated
+ *     concurrently by these streams; the fitness cache statistics of an
+ *     {@link EvolutionResult} may therefore include the cache lookups of
+ *     other streams, which are executed at the same time.
  * </em>
  *
  * @see Engine.Builder
@@ -113,7 +130,7 @@ import org.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.7
+ * @version 3.8
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -128,7 +145,11 @@ public final class Engine<
 	private final Factory<Genotype<G>> _genotypeFactory;
 	private final Selector<G, C> _survivorsSelector;
 	private final Selector<G, C> _offspringSelector;
+	private final boolean _survivorsIndexSelection;
+	private final boolean _offspringIndexSelection;
 	private final Alterer<G, C> _alterer;
+	// Optional alterer, which alters partitions of the offspring in parallel.
+	private final PartitionAlterer<G, C> _partitionAlterer;
 	private final Predicate<? super Phenotype<G, C>> _validator;
 	private final Optimize _optimize;
 	private final int _offspringCount;
@@ -142,6 +163,38 @@ public final class Engine<
 	// Additional parameters.
 	private final int _individualCreationRetries;
 
+	// Optional fitness cache, which wraps the fitness function.
+	private final FitnessCache<G, C> _fitnessCache;
+
+	// Optional batch fitness function, which replaces the concurrent
+	// evaluation of the single phenotypes.
+	private final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>>
+		_batchFitnessFunction;
+
+	// Optional asynchronous fitness function, which replaces the concurrent
+	// evaluation of the single phenotypes.
+	private final Function<
+		? super Genotype<G>,
+		? extends CompletionStage<? extends C>
+	> _asyncFitnessFunction;
+
+	private final Evaluator<G, C> _evaluator;
+
+	// Optional evaluator of the offspring, which doesn't wait for the slowest
+	// fitness calculations.
+	private final QuorumEvaluator<G, C> _quorumEvaluator;
+
+	private final boolean _perTaskEvaluation;
+
+	// Optional evaluator with a deadline for every fitness evaluation.
+	private final TimeoutEvaluator<G, C> _timeoutEvaluator;
+
+	// Starts the evaluation of a single phenotype.
+	private final Function<
+		? super Phenotype<G, C>,
+		? extends CompletableFuture<Phenotype<G, C>>
+	> _evaluation;
+
 
 	/**
 	 * Create a new GA engine with the given parameters.
@@ -162,7 +215,38 @@ public final class Engine<
 	 * @param clock the clock used for calculating the timing results
 	 * @param individualCreationRetries the maximal number of attempts for
 	 *        creating a valid individual.
-	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @param fitnessCacheSize the maximal number of cached fitness values;
+	 *        {@code 0} disables the fitness cache.
+	 * @param batchFitnessFunction the fitness function used for evaluating
+	 *        the whole population at once, or {@code null} if the population
+	 *        is evaluated concurrently with the given {@code executor}
+	 * @param asyncFitnessFunction the asynchronous fitness function, or
+	 *        {@code null} if the population is evaluated concurrently with
+	 *        the given {@code executor}
+	 * @param evaluationQuorum the fraction of the offspring which must be
+	 *        evaluated before the evolution step is finished
+	 * @param perTaskEvaluation if {@code true}, every phenotype is evaluated
+	 *        in its own task, instead of the given {@code executor}
+	 * @param evaluationTimeout the maximal duration of one fitness evaluation,
+	 *        or {@code null} if the fitness evaluation has no deadline
+	 * @param timeoutFitness the fitness of phenotypes whose evaluation has
+	 *        timed out, or {@code null} if these phenotypes are replaced
+	 * @param alterPartitionSize the number of offspring individuals which
+	 *        are altered together, in parallel with the given
+	 *        {@code executor}; {@code 0} disables the parallel altering.
+	 * @throws NullPointerException if one of the arguments, except the
+	 *         {@code batchFitnessFunction} and the
+	 *         {@code asyncFitnessFunction}, is {@code null}
+	 * @throws IllegalArgumentException if the {@code batchFitnessFunction}
+	 *         and the {@code asyncFitnessFunction} are both set
+	 * @throws IllegalArgumentException if the {@code evaluationQuorum} is not
+	 *         within the range {@code (0, 1]} or if it is smaller than one
+	 *         and the {@code batchFitnessFunction} is set
+	 * @throws IllegalArgumentException if the {@code evaluationTimeout} is
+	 *         not positive or if it is set together with the
+	 *         {@code batchFitnessFunction}
+	 * @throws IllegalArgumentException if the {@code alterPartitionSize} is
+	 *         one or negative
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
 	 */
@@ -180,13 +264,25 @@ public final class Engine<
 		final long maximalPhenotypeAge,
 		final Executor executor,
 		final Clock clock,
-		final int individualCreationRetries
+		final int individualCreationRetries,
+		final int fitnessCacheSize,
+		final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>>
+			batchFitnessFunction,
+		final Function<? super Genotype<G>, ? extends CompletionStage<? extends C>>
+			asyncFitnessFunction,
+		final double evaluationQuorum,
+		final boolean perTaskEvaluation,
+		final Duration evaluationTimeout,
+		final C timeoutFitness,
+		final int alterPartitionSize
 	) {
 		_fitnessFunction = requireNonNull(fitnessFunction);
 		_fitnessScaler = requireNonNull(fitnessScaler);
 		_genotypeFactory = requireNonNull(genotypeFactory);
 		_survivorsSelector = requireNonNull(survivorsSelector);
 		_offspringSelector = requireNonNull(offspringSelector);
+		_survivorsIndexSelection = isIndexSelector(_survivorsSelector);
+		_offspringIndexSelection = isIndexSelector(_offspringSelector);
 		_alterer = requireNonNull(alterer);
 		_validator = requireNonNull(validator);
 		_optimize = requireNonNull(optimize);
@@ -198,6 +294,10 @@ public final class Engine<
 		_executor = new TimedExecutor(requireNonNull(executor));
 		_clock = requireNonNull(clock);
 
+		_partitionAlterer = require.nonNegative(alterPartitionSize) > 0
+			? PartitionAlterer.of(_alterer, alterPartitionSize, executor)
+			: null;
+
 		if (individualCreationRetries < 0) {
 			throw new IllegalArgumentException(format(
 				"Retry count must not be negative: %d",
@@ -205,12 +305,107 @@ public final class Engine<
 			));
 		}
 		_individualCreationRetries = individualCreationRetries;
+
+		_fitnessCache = require.nonNegative(fitnessCacheSize) > 0
+			? new FitnessCache<>(_fitnessFunction, fitnessCacheSize)
+			: null;
+
+		if (batchFitnessFunction != null && asyncFitnessFunction != null) {
+			throw new IllegalArgumentException(
+				"Batch and asynchronous fitness function must not be set both."
+			);
+		}
+		_batchFitnessFunction = batchFitnessFunction;
+		_asyncFitnessFunction = asyncFitnessFunction;
+
+		if (!(evaluationQuorum > 0 && evaluationQuorum <= 1)) {
+			throw new IllegalArgumentException(format(
+				"Evaluation quorum must be within (0, 1]: %f", evaluationQuorum
+			));
+		}
+		if (evaluationQuorum < 1 && batchFitnessFunction != null) {
+			throw new IllegalArgumentException(
+				"Evaluation quorum can't be used with a batch fitness function."
+			);
+		}
+
+		if (evaluationTimeout != null) {
+			if (evaluationTimeout.isNegative() || evaluationTimeout.isZero()) {
+				throw new IllegalArgumentException(format(
+					"Evaluation timeout must be positive: %s", evaluationTimeout
+				));
+			}
+			if (batchFitnessFunction != null) {
+				throw new IllegalArgumentException(
+					"Evaluation timeout can't be used with a batch fitness function."
+				);
+			}
+		}
+
+		final Function<
+			? super Phenotype<G, C>,
+			? extends CompletableFuture<Phenotype<G, C>>
+		> evaluation;
+		if (batchFitnessFunction != null) {
+			final BatchEvaluator<G, C> evaluator =
+				new BatchEvaluator<>(batchFitnessFunction, _fitnessCache);
+			_evaluator = evaluator;
+			_quorumEvaluator = null;
+			evaluation = pt -> CompletableFuture.supplyAsync(() -> {
+				final Population<G, C> population = new Population<>(1);
+				population.add(pt);
+				return evaluator.evaluate(population).get(0);
+			}, _executor.get());
+		} else if (asyncFitnessFunction != null) {
+			final AsyncEvaluator<G, C> evaluator =
+				new AsyncEvaluator<>(asyncFitnessFunction, _fitnessCache);
+			_evaluator = evaluator;
+			_quorumEvaluator = evaluationQuorum < 1
+				? new QuorumEvaluator<>(evaluator::evaluateAsync, evaluationQuorum)
+				: null;
+			evaluation = evaluator::evaluateAsync;
+		} else {
+			final Executor exec = perTaskEvaluation
+				? Concurrency.perTaskExecutor()
+				: _executor.get();
+			_evaluator = new ConcurrentEvaluator<>(exec, perTaskEvaluation);
+
+			// Late quorum evaluations keep running while the next generations
+			// are evolved. They must not occupy the threads of the executor.
+			_quorumEvaluator = evaluationQuorum < 1
+				? new QuorumEvaluator<G, C>(pt ->
+					CompletableFuture.supplyAsync(
+						pt::evaluate,
+						Concurrency.perTaskExecutor()),
+					evaluationQuorum)
+				: null;
+
+			// Timed evaluations always run in their own task. A hung fitness
+			// calculation would otherwise block a thread of the shared
+			// executor, and the evaluations queued behind it, forever.
+			final Executor timedExec = evaluationTimeout != null
+				? Concurrency.perTaskExecutor()
+				: exec;
+			evaluation = pt -> CompletableFuture.supplyAsync(pt::evaluate, timedExec);
+		}
+		_perTaskEvaluation = perTaskEvaluation;
+		_evaluation = evaluation;
+
+		_timeoutEvaluator = evaluationTimeout != null
+			? new TimeoutEvaluator<>(
+				evaluation,
+				evaluationTimeout,
+				timeoutFitness,
+				this::newPhenotype,
+				Math.max(individualCreationRetries, 1))
+			: null;
 	}
 
 	/**
 	 * Perform one evolution step with the given {@code population} and
 	 * {@code generation}. New phenotypes are created with the fitness function
-	 * and fitness scaler defined by this <em>engine</em>
+	 * and fitness scaler defined by this <em>engine</em>. The given
+	 * {@code population} is not changed by this method.
 	 * <p>
 	 * <em>This method is thread-safe.</em>
 	 *
@@ -249,64 +444,84 @@ public final class Engine<
 	 */
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
 		final Timer timer = Timer.of().start();
+		final long cacheHits = cacheHits();
+		final long cacheMisses = cacheMisses();
 
-		final Population<G, C> startPopulation = start.getPopulation();
+		// The evaluation may replace not evaluated phenotypes. A copy is
+		// evaluated, so the population of the given start object is not changed.
+		final Population<G, C> startPopulation =
+			start.getPopulation().stream().allMatch(Phenotype::isEvaluated)
+				? start.getPopulation()
+				: start.getPopulation().copy();
 
 		// Initial evaluation of the population.
 		final Timer evaluateTimer = Timer.of(_clock).start();
-		evaluate(startPopulation);
+		final int startTimeoutCount = evaluate(startPopulation);
 		evaluateTimer.stop();
 
 		// Select the offspring population.
-		final CompletableFuture<TimedResult<Population<G, C>>> offspring =
+		final CompletableFuture<TimedResult<List<Phenotype<G, C>>>> offspring =
 			_executor.async(() ->
 				selectOffspring(startPopulation),
 				_clock
 			);
 
 		// Select the survivor population.
-		final CompletableFuture<TimedResult<Population<G, C>>> survivors =
+		final CompletableFuture<TimedResult<List<Phenotype<G, C>>>> survivors =
 			_executor.async(() ->
 				selectSurvivors(startPopulation),
 				_clock
 			);
 
-		// Altering the offspring population.
+		// Altering the offspring population. The offspring are copied into
+		// the population of the next generation, which is sized for the
+		// survivors too. The selected offspring aren't changed by the altering
+		// and are kept as fallback, if an evaluation quorum is set.
 		final CompletableFuture<TimedResult<AlterResult<G, C>>> alteredOffspring =
-			_executor.thenApply(offspring, p ->
-				alter(p.result, start.getGeneration()),
-				_clock
-			);
-
-		// Filter and replace invalid and to old survivor individuals.
-		final CompletableFuture<TimedResult<FilterResult<G, C>>> filteredSurvivors =
-			_executor.thenApply(survivors, pop ->
-				filter(pop.result, start.getGeneration()),
+			_executor.thenApply(offspring, p -> {
+					final Population<G, C> pop =
+						new Population<>(getPopulationSize());
+					for (int i = 0, n = p.result.size(); i < n; ++i) {
+						pop.add(p.result.get(i));
+					}
+					return alter(pop, start.getGeneration());
+				},
 				_clock
 			);
 
 		// Filter and replace invalid and to old offspring individuals.
 		final CompletableFuture<TimedResult<FilterResult<G, C>>> filteredOffspring =
 			_executor.thenApply(alteredOffspring, pop ->
-				filter(pop.result.population, start.getGeneration()),
+				filter(pop.result.population, 0, start.getGeneration()),
 				_clock
 			);
 
-		// Combining survivors and offspring to the new population.
-		final CompletableFuture<Population<G, C>> population =
-			filteredSurvivors.thenCombineAsync(filteredOffspring, (s, o) -> {
-					final Population<G, C> pop = s.result.population;
-					pop.addAll(o.result.population);
-					return pop;
-				},
+		// Append the survivors to the offspring and filter and replace invalid
+		// and to old survivor individuals.
+		final CompletableFuture<TimedResult<FilterResult<G, C>>> filteredSurvivors =
+			filteredOffspring.thenCombineAsync(survivors, (o, s) ->
+					TimedResult.of(() -> {
+						final Population<G, C> pop = o.result.population;
+						final int offspringCount = pop.size();
+						for (int i = 0, n = s.result.size(); i < n; ++i) {
+							pop.add(s.result.get(i));
+						}
+						return filter(pop, offspringCount, start.getGeneration());
+					}, _clock).get(),
 				_executor.get()
 			);
 
 		// Evaluate the fitness-function and wait for result.
-		final Population<G, C> pop = population.join();
-		final TimedResult<Population<G, C>> result = TimedResult
+		final Population<G, C> pop = filteredSurvivors.join().result.population;
+		final List<CompletableFuture<Phenotype<G, C>>> late = new ArrayList<>();
+		final TimedResult<FilterResult<G, C>> fallback = TimedResult.of(() ->
+				evaluate(pop, offspring.join().result, late, start.getGeneration()),
+				_clock
+			).get();
+		final TimedResult<Integer> result = TimedResult
 			.of(() -> evaluate(pop), _clock)
 			.get();
+		reinsert(pop, start.late(), late, start.getGeneration());
 
 
 		final EvolutionDurations durations = EvolutionDurations.of(
@@ -315,26 +530,35 @@ public final class Engine<
 			alteredOffspring.join().duration,
 			filteredOffspring.join().duration,
 			filteredSurvivors.join().duration,
-			result.duration.plus(evaluateTimer.getTime()),
+			result.duration
+				.plus(fallback.duration)
+				.plus(evaluateTimer.getTime()),
 			timer.stop().getTime()
 		);
 
 		final int killCount =
 			filteredOffspring.join().result.killCount +
-			filteredSurvivors.join().result.killCount;
+			filteredSurvivors.join().result.killCount +
+			fallback.result.killCount;
 
 		final int invalidCount =
 			filteredOffspring.join().result.invalidCount +
-			filteredSurvivors.join().result.invalidCount;
+			filteredSurvivors.join().result.invalidCount +
+			fallback.result.invalidCount;
 
-		return EvolutionResult.of(
+		return new EvolutionResult<>(
 			_optimize,
-			result.result,
+			pop,
+			start.getGeneration(),
 			start.getGeneration(),
 			durations,
 			killCount,
 			invalidCount,
-			alteredOffspring.join().result.alterCount
+			startTimeoutCount + result.result,
+			alteredOffspring.join().result.alterCount,
+			(int)(cacheHits() - cacheHits),
+			(int)(cacheMisses() - cacheMisses),
+			late
 		);
 	}
 
@@ -349,29 +573,110 @@ public final class Engine<
 		return evolve(start);
 	}
 
-	// Selects the survivors population. A new population object is returned.
-	private Population<G, C> selectSurvivors(final Population<G, C> population) {
-		return _survivorsCount > 0
-			?_survivorsSelector.select(population, _survivorsCount, _optimize)
-			: Population.empty();
+	// The fitness function used for creating new phenotypes.
+	private Function<? super Genotype<G>, ? extends C> function() {
+		return _fitnessCache != null ? _fitnessCache : _fitnessFunction;
 	}
 
-	// Selects the offspring population. A new population object is returned.
-	private Population<G, C> selectOffspring(final Population<G, C> population) {
-		return _offspringCount > 0
-			? _offspringSelector.select(population, _offspringCount, _optimize)
-			: Population.empty();
+	long cacheHits() {
+		return _fitnessCache != null ? _fitnessCache.hits() : 0;
+	}
+
+	long cacheMisses() {
+		return _fitnessCache != null ? _fitnessCache.misses() : 0;
+	}
+
+	int individualCreationRetries() {
+		return _individualCreationRetries;
+	}
+
+	// Selects the survivors. The given population is not changed.
+	private List<Phenotype<G, C>> selectSurvivors(
+		final Population<G, C> population
+	) {
+		return select(
+			_survivorsSelector,
+			_survivorsIndexSelection,
+			population,
+			_survivorsCount
+		);
+	}
+
+	// Selects the offspring. The given population is not changed.
+	private List<Phenotype<G, C>> selectOffspring(
+		final Population<G, C> population
+	) {
+		return select(
+			_offspringSelector,
+			_offspringIndexSelection,
+			population,
+			_offspringCount
+		);
+	}
+
+	// Selects 'count' phenotypes from the given population. If the selector
+	// selects the phenotype indexes directly, a read-only view of the selected
+	// phenotypes is returned, instead of a new population.
+	private List<Phenotype<G, C>> select(
+		final Selector<G, C> selector,
+		final boolean indexSelection,
+		final Population<G, C> population,
+		final int count
+	) {
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		if (!indexSelection) {
+			return selector.select(population, count, _optimize);
+		}
+
+		final int[] indexes = selector.selectIndexes(population, count, _optimize);
+		return new AbstractList<Phenotype<G, C>>() {
+			@Override
+			public Phenotype<G, C> get(final int index) {
+				return population.get(indexes[index]);
+			}
+			@Override
+			public int size() {
+				return indexes.length;
+			}
+		};
+	}
+
+	// Return true if the given selector overrides the default implementation
+	// of the 'selectIndexes' method. The default implementation performs the
+	// selection with the 'select' method and is more expensive.
+	private static boolean isIndexSelector(final Selector<?, ?> selector) {
+		try {
+			return selector.getClass()
+				.getMethod(
+					"selectIndexes",
+					Population.class, int.class, Optimize.class)
+				.getDeclaringClass() != Selector.class;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
 	}
 
 	// Filters out invalid and to old individuals. Filtering is done in place.
+	FilterResult<G, C> filter(
+		final Population<G, C> population,
+		final long generation
+	) {
+		return filter(population, 0, generation);
+	}
+
+	// Filters out invalid and to old individuals, starting at the given
+	// index. Filtering is done in place.
 	private FilterResult<G, C> filter(
 		final Population<G, C> population,
+		final int from,
 		final long generation
 	) {
 		int killCount = 0;
 		int invalidCount = 0;
 
-		for (int i = 0, n = population.size(); i < n; ++i) {
+		for (int i = from, n = population.size(); i < n; ++i) {
 			final Phenotype<G, C> individual = population.get(i);
 
 			if (!_validator.test(individual)) {
@@ -387,14 +692,14 @@ public final class Engine<
 	}
 
 	// Create a new and valid phenotype
-	private Phenotype<G, C> newPhenotype(final long generation) {
+	Phenotype<G, C> newPhenotype(final long generation) {
 		int count = 0;
 		Phenotype<G, C> phenotype;
 		do {
 			phenotype = Phenotype.of(
 				_genotypeFactory.newInstance(),
 				generation,
-				_fitnessFunction,
+				function(),
 				_fitnessScaler
 			);
 		} while (++count < _individualCreationRetries &&
@@ -408,18 +713,111 @@ public final class Engine<
 		final Population<G,C> population,
 		final long generation
 	) {
+		final Alterer<G, C> alterer = _partitionAlterer != null
+			? _partitionAlterer
+			: _alterer;
+
 		return new AlterResult<>(
 			population,
-			_alterer.alter(population, generation)
+			alterer.alter(population, generation)
 		);
 	}
 
-	// Evaluates the fitness function of the give population concurrently.
-	private Population<G, C> evaluate(final Population<G, C> population) {
-		try (Concurrency c = Concurrency.with(_executor.get())) {
-			c.execute(population);
+	// Evaluates the fitness function of the give population and returns the
+	// number of timed out fitness evaluations.
+	int evaluate(final Population<G, C> population) {
+		final int timeoutCount = _timeoutEvaluator != null
+			? _timeoutEvaluator.evaluate(population)
+			: 0;
+
+		_evaluator.evaluate(population);
+		return timeoutCount;
+	}
+
+	// Starts the evaluation of the given phenotype, without waiting for the
+	// result. No evaluation timeout is applied.
+	CompletableFuture<Phenotype<G, C>> evaluateAsync(
+		final Phenotype<G, C> phenotype
+	) {
+		return phenotype.isEvaluated()
+			? CompletableFuture.completedFuture(phenotype)
+			: _evaluation.apply(phenotype);
+	}
+
+	// Evaluates the offspring of the new population, which are the first
+	// individuals, if an evaluation quorum is set. Offspring which are not
+	// evaluated in time are replaced by their unaltered parents. The parents
+	// are filtered again, since they may be invalid or too old for the given
+	// generation. The still running evaluations of the replaced offspring
+	// are added to the 'late' list. Returns the filter result of the used
+	// parents.
+	private FilterResult<G, C> evaluate(
+		final Population<G, C> population,
+		final List<Phenotype<G, C>> parents,
+		final List<CompletableFuture<Phenotype<G, C>>> late,
+		final long generation
+	) {
+		if (_quorumEvaluator == null) {
+			return new FilterResult<>(Population.<G, C>empty(), 0, 0);
+		}
+
+		final List<Phenotype<G, C>> offspring =
+			population.subList(0, parents.size());
+		final int[] replaced =
+			_quorumEvaluator.evaluate(offspring, parents, late);
+
+		final Population<G, C> fallback = new Population<>(replaced.length);
+		for (int index : replaced) {
+			fallback.add(offspring.get(index));
+		}
+		final FilterResult<G, C> filtered = filter(fallback, generation);
+		for (int i = 0; i < replaced.length; ++i) {
+			offspring.set(replaced[i], filtered.population.get(i));
+		}
+
+		return filtered;
+	}
+
+	// Re-inserts the late offspring of the previous evolution steps, whose
+	// evaluation has been finished in the meantime. Every late offspring
+	// replaces one of the worst individuals of the given, evaluated
+	// population; late offspring which are too old are dropped. The still
+	// running evaluations are added to the 'late' list.
+	private void reinsert(
+		final Population<G, C> population,
+		final List<CompletableFuture<Phenotype<G, C>>> previous,
+		final List<CompletableFuture<Phenotype<G, C>>> late,
+		final long generation
+	) {
+		if (previous.isEmpty()) {
+			return;
+		}
+
+		final List<Phenotype<G, C>> finished = new ArrayList<>();
+		for (CompletableFuture<Phenotype<G, C>> future : previous) {
+			if (!future.isDone()) {
+				late.add(future);
+			} else if (!future.isCompletedExceptionally()) {
+				final Phenotype<G, C> phenotype = future.join();
+				if (phenotype.getAge(generation) <= _maximalPhenotypeAge) {
+					finished.add(phenotype);
+				}
+			}
+		}
+
+		if (!finished.isEmpty()) {
+			final int[] worst = IntStream.range(0, population.size())
+				.boxed()
+				.sorted((a, b) -> _optimize.compare(
+					population.get(a), population.get(b)))
+				.limit(finished.size())
+				.mapToInt(Integer::intValue)
+				.toArray();
+
+			for (int i = 0; i < worst.length; ++i) {
+				population.set(worst[i], finished.get(i));
+			}
 		}
-		return population;
 	}
 
 
@@ -451,7 +849,7 @@ public final class Engine<
 		return EvolutionStream.of(this::evolutionStart, this::evolve);
 	}
 
-	private EvolutionStart<G, C> evolutionStart() {
+	EvolutionStart<G, C> evolutionStart() {
 		final int generation = 1;
 		final int size = _offspringCount + _survivorsCount;
 
@@ -514,7 +912,7 @@ public final class Engine<
 		final Stream<Phenotype<G, C>> stream = Stream.concat(
 			StreamSupport.stream(genotypes.spliterator(), false)
 				.map(gt -> Phenotype.of(
-					gt, generation, _fitnessFunction, _fitnessScaler)),
+					gt, generation, function(), _fitnessScaler)),
 			Stream.generate(() -> newPhenotype(generation))
 		);
 
@@ -640,7 +1038,7 @@ public final class Engine<
 		);
 	}
 
-	private EvolutionStart<G, C> evolutionStart(
+	EvolutionStart<G, C> evolutionStart(
 		final Population<G, C> population,
 		final long generation
 	) {
@@ -648,7 +1046,7 @@ public final class Engine<
 			population.stream()
 				.map(p -> p.newInstance(
 					p.getGeneration(),
-					_fitnessFunction,
+					function(),
 					_fitnessScaler)),
 			Stream.generate(() -> newPhenotype(generation))
 		);
@@ -811,6 +1209,40 @@ public final class Engine<
 		return _fitnessFunction;
 	}
 
+	/**
+	 * Return the batch fitness function of the GA engine, if set.
+	 *
+	 * @see Builder#batchFitnessFunction(Function)
+	 *
+	 * @since 3.8
+	 *
+	 * @return the batch fitness function, or {@link Optional#empty()} if the
+	 *         population is evaluated with the single genotype fitness function
+	 */
+	public Optional<Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>>>
+	getBatchFitnessFunction() {
+		return Optional.ofNullable(_batchFitnessFunction);
+	}
+
+	/**
+	 * Return the asynchronous fitness function of the GA engine, if set.
+	 *
+	 * @see Builder#asyncFitnessFunction(Function)
+	 *
+	 * @since 3.8
+	 *
+	 * @return the asynchronous fitness function, or {@link Optional#empty()}
+	 *         if the population is evaluated with the single genotype fitness
+	 *         function
+	 */
+	public Optional<Function<
+		? super Genotype<G>,
+		? extends CompletionStage<? extends C>>
+	>
+	getAsyncFitnessFunction() {
+		return Optional.ofNullable(_asyncFitnessFunction);
+	}
+
 	/**
 	 * Return the fitness scaler of the GA engine.
 	 *
@@ -923,6 +1355,82 @@ public final class Engine<
 		return _executor.get();
 	}
 
+	/**
+	 * Return the maximal number of fitness values cached by the engine. A
+	 * value of zero means that the fitness cache is disabled.
+	 *
+	 * @since 3.8
+	 *
+	 * @return the maximal number of cached fitness values
+	 */
+	public int getFitnessCacheSize() {
+		return _fitnessCache != null ? _fitnessCache.size() : 0;
+	}
+
+	/**
+	 * Return the fraction of the offspring which must be evaluated before an
+	 * evolution step is finished.
+	 *
+	 * @since 3.8
+	 *
+	 * @return the evaluation quorum
+	 */
+	public double getEvaluationQuorum() {
+		return _quorumEvaluator != null ? _quorumEvaluator.quorum() : 1.0;
+	}
+
+	/**
+	 * Return {@code true} if every phenotype is evaluated in its own task.
+	 *
+	 * @since 3.8
+	 *
+	 * @return {@code true} if every phenotype is evaluated in its own task
+	 */
+	public boolean isPerTaskEvaluation() {
+		return _perTaskEvaluation;
+	}
+
+	/**
+	 * Return the maximal duration of one fitness evaluation, if set.
+	 *
+	 * @since 3.8
+	 *
+	 * @return the evaluation timeout, or {@link Optional#empty()} if the
+	 *         fitness evaluation has no deadline
+	 */
+	public Optional<Duration> getEvaluationTimeout() {
+		return Optional.ofNullable(_timeoutEvaluator)
+			.map(TimeoutEvaluator::timeout);
+	}
+
+	/**
+	 * Return the fitness value, timed out phenotypes get, if set.
+	 *
+	 * @since 3.8
+	 *
+	 * @return the fitness of timed out phenotypes, or
+	 *         {@link Optional#empty()} if timed out phenotypes are replaced
+	 */
+	public Optional<C> getTimeoutFitness() {
+		return Optional.ofNullable(_timeoutEvaluator)
+			.map(TimeoutEvaluator::penalty);
+	}
+
+	/**
+	 * Return the number of offspring individuals which are altered together,
+	 * in parallel with the {@link #getExecutor()}. A value of zero means that
+	 * the offspring population is altered in one piece.
+	 *
+	 * @since 3.8
+	 *
+	 * @return the alter partition size
+	 */
+	public int getAlterPartitionSize() {
+		return _partitionAlterer != null
+			? _partitionAlterer.getPartitionSize()
+			: 0;
+	}
+
 
 	/* *************************************************************************
 	 * Builder methods.
@@ -937,6 +1445,8 @@ public final class Engine<
 	 */
 	public Builder<G, C> builder() {
 		return new Builder<G, C>(_genotypeFactory, _fitnessFunction)
+			.batchFitnessFunction(_batchFitnessFunction)
+			.asyncFitnessFunction(_asyncFitnessFunction)
 			.alterers(_alterer)
 			.clock(_clock)
 			.executor(_executor.get())
@@ -948,7 +1458,14 @@ public final class Engine<
 			.phenotypeValidator(_validator)
 			.populationSize(getPopulationSize())
 			.survivorsSelector(_survivorsSelector)
-			.individualCreationRetries(_individualCreationRetries);
+			.individualCreationRetries(_individualCreationRetries)
+			.fitnessCacheSize(getFitnessCacheSize())
+			.evaluationQuorum(getEvaluationQuorum())
+			.perTaskEvaluation(_perTaskEvaluation)
+			.evaluationTimeout(
+				getEvaluationTimeout().orElse(null),
+				getTimeoutFitness().orElse(null))
+			.alterPartitionSize(getAlterPartitionSize());
 	}
 
 	/**
@@ -1046,7 +1563,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 3.0
+	 * @version 3.8
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -1059,8 +1576,17 @@ public final class Engine<
 		private Function<? super Genotype<G>, ? extends C> _fitnessFunction;
 		private Factory<Genotype<G>> _genotypeFactory;
 
+		// Optional properties.
+		private Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>>
+			_batchFitnessFunction;
+		private Function<
+			? super Genotype<G>,
+			? extends CompletionStage<? extends C>
+		> _asyncFitnessFunction;
+
 		// This are the properties which default values.
-		private Function<? super C, ? extends C> _fitnessScaler = a -> a;
+		private Function<? super C, ? extends C> _fitnessScaler =
+			FitnessScaler.identity();
 		private Selector<G, C> _survivorsSelector = new TournamentSelector<>(3);
 		private Selector<G, C> _offspringSelector = new TournamentSelector<>(3);
 		private Alterer<G, C> _alterer = Alterer.of(
@@ -1077,6 +1603,12 @@ public final class Engine<
 		private Clock _clock = NanoClock.systemUTC();
 
 		private int _individualCreationRetries = 10;
+		private int _fitnessCacheSize = 0;
+		private double _evaluationQuorum = 1.0;
+		private boolean _perTaskEvaluation = false;
+		private Duration _evaluationTimeout = null;
+		private C _timeoutFitness = null;
+		private int _alterPartitionSize = 0;
 
 		private Builder(
 			final Factory<Genotype<G>> genotypeFactory,
@@ -1096,6 +1628,103 @@ public final class Engine<
 			Function<? super Genotype<G>, ? extends C> function
 		) {
 			_fitnessFunction = requireNonNull(function);
+			_batchFitnessFunction = null;
+			_asyncFitnessFunction = null;
+			return this;
+		}
+
+		/**
+		 * Set the <em>batch</em> fitness function of the evolution
+		 * {@code Engine}. Instead of evaluating every phenotype on its own,
+		 * the engine hands all not yet evaluated genotypes of a population to
+		 * the batch function in one call. The returned sequence must contain
+		 * the fitness values in the same order as the given genotypes. This is
+		 * useful for fitness functions which can be evaluated much cheaper for
+		 * a whole population, e.g. for vectorized simulations.
+		 *
+		 * <pre>{@code
+		 * final Engine<DoubleGene, Double> engine = Engine
+		 *     .builder(Simulation::eval, DoubleChromosome.of(0, 1, 10))
+		 *     .batchFitnessFunction(Simulation::evalAll)
+		 *     .build();
+		 * }</pre>
+		 *
+		 * The batch function is called by the thread which performs the
+		 * evolution step; the {@link #executor(Executor)} is not used for the
+		 * fitness evaluation. Setting the batch fitness function replaces the
+		 * single genotype fitness function with a function which calls the
+		 * batch function with one genotype. This function is only used for
+		 * phenotypes which are evaluated outside the engine.
+		 *
+		 * @since 3.8
+		 *
+		 * @see #fitnessFunction(Function)
+		 * @see #asyncFitnessFunction(Function)
+		 *
+		 * @param function the batch fitness function to use in the GA
+		 *        {@code Engine}; a {@code null} value resets the batch fitness
+		 *        function, but leaves the current single genotype fitness
+		 *        function untouched
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> batchFitnessFunction(
+			final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>>
+				function
+		) {
+			if (function != null) {
+				_fitnessFunction = BatchEvaluator.single(function);
+				_asyncFitnessFunction = null;
+			}
+			_batchFitnessFunction = function;
+			return this;
+		}
+
+		/**
+		 * Set the <em>asynchronous</em> fitness function of the evolution
+		 * {@code Engine}. The engine starts the fitness calculation of all
+		 * not yet evaluated genotypes of a population, and waits for the
+		 * completion of all returned {@link CompletionStage}s afterwards. Since
+		 * no thread is blocked while a fitness value is calculated, the number
+		 * of concurrently running fitness calculations is not limited by the
+		 * size of a thread pool. This is useful for fitness functions which
+		 * are I/O bound, e.g. which are calling an external simulation
+		 * service.
+		 *
+		 * <pre>{@code
+		 * final Engine<DoubleGene, Double> engine = Engine
+		 *     .builder(Simulation::eval, DoubleChromosome.of(0, 1, 10))
+		 *     .asyncFitnessFunction(gt -> client.evalAsync(gt))
+		 *     .build();
+		 * }</pre>
+		 *
+		 * The {@link #executor(Executor)} is not used for the fitness
+		 * evaluation. Setting the asynchronous fitness function replaces the
+		 * single genotype fitness function with a function which waits for
+		 * the result of the asynchronous function. This function is only used
+		 * for phenotypes which are evaluated outside the engine.
+		 *
+		 * @since 3.8
+		 *
+		 * @see #fitnessFunction(Function)
+		 * @see #batchFitnessFunction(Function)
+		 *
+		 * @param function the asynchronous fitness function to use in the GA
+		 *        {@code Engine}; a {@code null} value resets the asynchronous
+		 *        fitness function, but leaves the current single genotype
+		 *        fitness function untouched
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> asyncFitnessFunction(
+			final Function<
+				? super Genotype<G>,
+				? extends CompletionStage<? extends C>
+			> function
+		) {
+			if (function != null) {
+				_fitnessFunction = AsyncEvaluator.sync(function);
+				_batchFitnessFunction = null;
+			}
+			_asyncFitnessFunction = function;
 			return this;
 		}
 
@@ -1377,6 +2006,205 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * The maximal number of fitness values the {@code Engine} caches. The
+		 * fitness values are keyed by the evaluated {@link Genotype}, which
+		 * allows to reuse the fitness of identical genotypes across
+		 * generations. If the cache is full, the least recently used fitness
+		 * value is evicted. The number of cache hits and misses of an evolution
+		 * step is available via {@link EvolutionResult#getFitnessCacheHits()}
+		 * and {@link EvolutionResult#getFitnessCacheMisses()}. <i>Default
+		 * value is set to {@code 0}, which disables the fitness cache.</i>
+		 * <p>
+		 * Enabling the cache only makes sense for expensive fitness functions,
+		 * since every lookup requires the calculation of the genotype hash
+		 * code. The fitness function must be deterministic, which means it
+		 * must return the same fitness value for equal genotypes.
+		 *
+		 * @since 3.8
+		 *
+		 * @param size the maximal number of cached fitness values
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given cache {@code size} is
+		 *         smaller than zero.
+		 */
+		public Builder<G, C> fitnessCacheSize(final int size) {
+			if (size < 0) {
+				throw new IllegalArgumentException(format(
+					"Fitness cache size must not be negative: %d", size
+				));
+			}
+			_fitnessCacheSize = size;
+			return this;
+		}
+
+		/**
+		 * The fraction of the offspring which must be evaluated, before the
+		 * evolution step is finished. If the quorum is reached, the offspring
+		 * which are still in evaluation are replaced by their unaltered
+		 * parents and the next generation is started. This removes the
+		 * barrier at the end of every generation, which lets every
+		 * generation wait for its slowest fitness calculation. <i>Default
+		 * value is set to {@code 1.0}, which means that all offspring are
+		 * evaluated.</i>
+		 * <p>
+		 * The quorum introduces a <em>selection bias</em> against offspring
+		 * with a slow fitness calculation, since they are the ones which miss
+		 * the quorum. To reduce this bias, the missed evaluations are not
+		 * cancelled. They are finished in the background, in their own task,
+		 * while the next generations are evolved. Every late offspring,
+		 * whose evaluation has been finished, is re-inserted into the
+		 * population of a later evolution step of the same evolution stream,
+		 * where it replaces one of the worst individuals. Late offspring which
+		 * exceed the {@link #maximalPhenotypeAge(long)} are dropped. Slow
+		 * offspring still take part in fewer selections than fast ones; a
+		 * quorum should therefore only be used if the fitness calculation time
+		 * isn't correlated with the quality of the solution. The evaluation
+		 * quorum can't be used together with a
+		 * {@link #batchFitnessFunction(Function)}.
+		 *
+		 * @since 3.8
+		 *
+		 * @param quorum the fraction of the offspring which must be evaluated
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code quorum} is not
+		 *         within the range {@code (0, 1]}.
+		 */
+		public Builder<G, C> evaluationQuorum(final double quorum) {
+			if (!(quorum > 0 && quorum <= 1)) {
+				throw new IllegalArgumentException(format(
+					"Evaluation quorum must be within (0, 1]: %f", quorum
+				));
+			}
+			_evaluationQuorum = quorum;
+			return this;
+		}
+
+		/**
+		 * If set to {@code true}, every phenotype is evaluated in its own,
+		 * lightweight task, instead of evaluating chunks of phenotypes with
+		 * the {@link #executor(Executor)}. The tasks are executed in virtual
+		 * threads, if the Java runtime supports them, or in a cached thread
+		 * pool otherwise. This allows I/O-bound fitness functions to run
+		 * much more evaluations concurrently than there are cores available.
+		 * <i>Default value is set to {@code false}.</i>
+		 * <p>
+		 * This option only affects the default evaluation of the fitness
+		 * function; it has no effect on the
+		 * {@link #batchFitnessFunction(Function)} and the
+		 * {@link #asyncFitnessFunction(Function)}.
+		 *
+		 * @since 3.8
+		 *
+		 * @param perTask {@code true} if every phenotype should be evaluated
+		 *        in its own task
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> perTaskEvaluation(final boolean perTask) {
+			_perTaskEvaluation = perTask;
+			return this;
+		}
+
+		/**
+		 * Set the maximal duration of one fitness evaluation. The deadline
+		 * of a phenotype starts with the submission of its evaluation, and
+		 * not with the begin of its fitness calculation. A phenotype whose
+		 * evaluation exceeds the timeout is replaced by a newly created one,
+		 * which is evaluated again. The number of timed out evaluations of an
+		 * evolution step is available via
+		 * {@link EvolutionResult#getTimeoutCount()}. <i>Default value is set
+		 * to {@code null}, which means no deadline.</i>
+		 * <p>
+		 * A timed out fitness calculation can't be interrupted. It keeps its
+		 * thread until the fitness function returns, and a fitness function
+		 * which never returns occupies its thread forever. For this reason,
+		 * timed evaluations are always executed in their own task, like with
+		 * the {@link #perTaskEvaluation(boolean)} option, and never in the
+		 * {@link #executor(Executor)}. Hung calculations therefore can't stall
+		 * the evaluation of other phenotypes or the evolution steps, but every
+		 * hung calculation still leaks one thread. If no virtual threads are
+		 * available, these are platform threads. The evaluation timeout can't
+		 * be used together with a {@link #batchFitnessFunction(Function)}; the
+		 * fitness calculations of an {@link #asyncFitnessFunction(Function)}
+		 * are running in the threads of the asynchronous fitness function.
+		 *
+		 * @since 3.8
+		 *
+		 * @param timeout the maximal duration of one fitness evaluation, or
+		 *        {@code null} for disabling the deadline
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code timeout} is not
+		 *         positive
+		 */
+		public Builder<G, C> evaluationTimeout(final Duration timeout) {
+			return evaluationTimeout(timeout, null);
+		}
+
+		/**
+		 * Set the maximal duration of one fitness evaluation. A phenotype
+		 * whose evaluation exceeds the timeout gets the given (penalty)
+		 * {@code fitness}. If the given {@code fitness} is {@code null}, the
+		 * phenotype is replaced by a newly created one, like described in
+		 * {@link #evaluationTimeout(Duration)}.
+		 *
+		 * @since 3.8
+		 *
+		 * @param timeout the maximal duration of one fitness evaluation, or
+		 *        {@code null} for disabling the deadline
+		 * @param fitness the (raw) fitness of timed out phenotypes
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code timeout} is not
+		 *         positive
+		 */
+		public Builder<G, C> evaluationTimeout(
+			final Duration timeout,
+			final C fitness
+		) {
+			if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+				throw new IllegalArgumentException(format(
+					"Evaluation timeout must be positive: %s", timeout
+				));
+			}
+			_evaluationTimeout = timeout;
+			_timeoutFitness = fitness;
+			return this;
+		}
+
+		/**
+		 * The number of offspring individuals which are altered together. If
+		 * set, the offspring population is split into partitions of the given
+		 * size, which are altered in parallel with the
+		 * {@link #executor(Executor)}. Every partition gets its own random
+		 * number stream, split from the registered random engine, which keeps
+		 * the evolution reproducible. Recombining alterers only mate
+		 * individuals of the same partition. <i>Default value is set to
+		 * {@code 0}, which means that the offspring population is altered in
+		 * one piece.</i>
+		 * <p>
+		 * The parallel altering pays off for big populations and expensive
+		 * alterers, e.g. for long chromosomes.
+		 *
+		 * @since 3.8
+		 *
+		 * @see PartitionAlterer
+		 *
+		 * @param size the number of individuals altered together, or
+		 *        {@code 0} for disabling the parallel altering
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given partition {@code size}
+		 *         is one or smaller than zero.
+		 */
+		public Builder<G, C> alterPartitionSize(final int size) {
+			if (size < 0 || size == 1) {
+				throw new IllegalArgumentException(format(
+					"Alter partition size must be zero or greater than one: %d",
+					size
+				));
+			}
+			_alterPartitionSize = size;
+			return this;
+		}
+
 		/**
 		 * Builds an new {@code Engine} instance from the set properties.
 		 *
@@ -1397,7 +2225,15 @@ public final class Engine<
 				_maximalPhenotypeAge,
 				_executor,
 				_clock,
-				_individualCreationRetries
+				_individualCreationRetries,
+				_fitnessCacheSize,
+				_batchFitnessFunction,
+				_asyncFitnessFunction,
+				_evaluationQuorum,
+				_perTaskEvaluation,
+				_evaluationTimeout,
+				_timeoutFitness,
+				_alterPartitionSize
 			);
 		}
 
@@ -1453,6 +2289,37 @@ public final class Engine<
 			return _fitnessFunction;
 		}
 
+		/**
+		 * Return the batch fitness function of the GA engine, if set.
+		 *
+		 * @since 3.8
+		 *
+		 * @return the batch fitness function, or {@link Optional#empty()} if
+		 *         the population is evaluated with the single genotype fitness
+		 *         function
+		 */
+		public Optional<Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>>>
+		getBatchFitnessFunction() {
+			return Optional.ofNullable(_batchFitnessFunction);
+		}
+
+		/**
+		 * Return the asynchronous fitness function of the GA engine, if set.
+		 *
+		 * @since 3.8
+		 *
+		 * @return the asynchronous fitness function, or
+		 *         {@link Optional#empty()} if the population is evaluated with
+		 *         the single genotype fitness function
+		 */
+		public Optional<Function<
+			? super Genotype<G>,
+			? extends CompletionStage<? extends C>>
+		>
+		getAsyncFitnessFunction() {
+			return Optional.ofNullable(_asyncFitnessFunction);
+		}
+
 		/**
 		 * Return the fitness scaler of the GA engine.
 		 *
@@ -1553,6 +2420,78 @@ public final class Engine<
 			return _individualCreationRetries;
 		}
 
+		/**
+		 * Return the maximal number of fitness values cached by the
+		 * {@code Engine}.
+		 *
+		 * @since 3.8
+		 *
+		 * @return the maximal number of cached fitness values
+		 */
+		public int getFitnessCacheSize() {
+			return _fitnessCacheSize;
+		}
+
+		/**
+		 * Return the fraction of the offspring which must be evaluated before
+		 * an evolution step is finished.
+		 *
+		 * @since 3.8
+		 *
+		 * @return the evaluation quorum
+		 */
+		public double getEvaluationQuorum() {
+			return _evaluationQuorum;
+		}
+
+		/**
+		 * Return {@code true} if every phenotype is evaluated in its own task.
+		 *
+		 * @since 3.8
+		 *
+		 * @return {@code true} if every phenotype is evaluated in its own task
+		 */
+		public boolean isPerTaskEvaluation() {
+			return _perTaskEvaluation;
+		}
+
+		/**
+		 * Return the maximal duration of one fitness evaluation, if set.
+		 *
+		 * @since 3.8
+		 *
+		 * @return the evaluation timeout, or {@link Optional#empty()} if the
+		 *         fitness evaluation has no deadline
+		 */
+		public Optional<Duration> getEvaluationTimeout() {
+			return Optional.ofNullable(_evaluationTimeout);
+		}
+
+		/**
+		 * Return the fitness value, timed out phenotypes get, if set.
+		 *
+		 * @since 3.8
+		 *
+		 * @return the fitness of timed out phenotypes, or
+		 *         {@link Optional#empty()} if timed out phenotypes are replaced
+		 */
+		public Optional<C> getTimeoutFitness() {
+			return Optional.ofNullable(_timeoutFitness);
+		}
+
+		/**
+		 * Return the number of offspring individuals which are altered
+		 * together.
+		 *
+		 * @since 3.8
+		 *
+		 * @return the alter partition size, or {@code 0} if the parallel
+		 *         altering is disabled
+		 */
+		public int getAlterPartitionSize() {
+			return _alterPartitionSize;
+		}
+
 		/**
 		 * Create a new builder, with the current configuration.
 		 *
@@ -1563,6 +2502,8 @@ public final class Engine<
 		@Override
 		public Builder<G, C> copy() {
 			return new Builder<G, C>(_genotypeFactory, _fitnessFunction)
+				.batchFitnessFunction(_batchFitnessFunction)
+				.asyncFitnessFunction(_asyncFitnessFunction)
 				.alterers(_alterer)
 				.clock(_clock)
 				.executor(_executor)
@@ -1574,7 +2515,12 @@ public final class Engine<
 				.optimize(_optimize)
 				.populationSize(_populationSize)
 				.survivorsSelector(_survivorsSelector)
-				.individualCreationRetries(_individualCreationRetries);
+				.individualCreationRetries(_individualCreationRetries)
+				.fitnessCacheSize(_fitnessCacheSize)
+				.evaluationQuorum(_evaluationQuorum)
+				.perTaskEvaluation(_perTaskEvaluation)
+				.evaluationTimeout(_evaluationTimeout, _timeoutFitness)
+				.alterPartitionSize(_alterPartitionSize);
 		}
 
 	}
@@ -0,0 +1,54 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import org.jenetics.Gene;
+import org.jenetics.Population;
+
+/**
+ * Evaluation strategy of the {@link Engine}. The evaluator is responsible for
+ * calculating the fitness values of the not yet evaluated phenotypes of a
+ * given population.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+@FunctionalInterface
+interface Evaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * Evaluates the fitness values of the given {@code population}. After
+	 * this method returns, all phenotypes of the given population must have
+	 * been evaluated. The evaluation is done in place, which means that
+	 * not evaluated phenotypes might be replaced by evaluated ones.
+	 *
+	 * @param population the population to evaluate
+	 * @return the evaluated {@code population}, for method chaining
+	 */
+	Population<G, C> evaluate(final Population<G, C> population);
+
+}
@@ -149,6 +149,27 @@ public final class EvolutionDurations
 		return _evolveDuration;
 	}
 
+	/**
+	 * Return a new durations object, where every duration is the sum of the
+	 * corresponding durations of {@code this} and the {@code other} object.
+	 *
+	 * @param other the durations to add
+	 * @return the summed up durations
+	 * @throws NullPointerException if the {@code other} durations object is
+	 *         {@code null}
+	 */
+	EvolutionDurations plus(final EvolutionDurations other) {
+		return of(
+			_offspringSelectionDuration.plus(other._offspringSelectionDuration),
+			_survivorsSelectionDuration.plus(other._survivorsSelectionDuration),
+			_offspringAlterDuration.plus(other._offspringAlterDuration),
+			_offspringFilterDuration.plus(other._offspringFilterDuration),
+			_survivorFilterDuration.plus(other._survivorFilterDuration),
+			_evaluationDuration.plus(other._evaluationDuration),
+			_evolveDuration.plus(other._evolveDuration)
+		);
+	}
+
 	/**
 	 * Compares two durations objects. Only the {@link #getEvolveDuration()}
 	 * property is taken into account for the comparison.
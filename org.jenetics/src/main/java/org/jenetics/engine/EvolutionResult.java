@@ -23,6 +23,9 @@ import static java.util.Objects.requireNonNull;
 import static org.jenetics.internal.util.Equality.eq;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collector;
 
@@ -57,7 +60,7 @@ import org.jenetics.stat.MinMax;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.6
+ * @version 3.8
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -75,12 +78,25 @@ public final class EvolutionResult<
 	private final EvolutionDurations _durations;
 	private final int _killCount;
 	private final int _invalidCount;
+	private final int _timeoutCount;
 	private final int _alterCount;
+	private final int _fitnessCacheHits;
+	private final int _fitnessCacheMisses;
+
+	// Offspring evaluations which hadn't been finished when the evaluation
+	// quorum was reached. They are handed over to the next evolution step.
+	private final transient List<CompletableFuture<Phenotype<G, C>>> _late;
 
 	private final Lazy<Phenotype<G, C>> _best;
 	private final Lazy<Phenotype<G, C>> _worst;
 
-	private EvolutionResult(
+	/**
+	 * Create a new evolution result. The given {@code population} is
+	 * <em>not</em> copied and must not be changed afterwards. This
+	 * constructor is used by the evolution engines, which create a new
+	 * population in every evolution step.
+	 */
+	EvolutionResult(
 		final Optimize optimize,
 		final Population<G, C> population,
 		final long generation,
@@ -88,26 +104,95 @@ public final class EvolutionResult<
 		final EvolutionDurations durations,
 		final int killCount,
 		final int invalidCount,
-		final int alterCount
+		final int timeoutCount,
+		final int alterCount,
+		final int fitnessCacheHits,
+		final int fitnessCacheMisses
+	) {
+		this(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			timeoutCount,
+			alterCount,
+			fitnessCacheHits,
+			fitnessCacheMisses,
+			Collections.emptyList()
+		);
+	}
+
+	/**
+	 * Create a new evolution result with the offspring evaluations, which
+	 * hadn't been finished when the evaluation quorum was reached. The late
+	 * evaluations are handed over to the next evolution step.
+	 */
+	EvolutionResult(
+		final Optimize optimize,
+		final Population<G, C> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int timeoutCount,
+		final int alterCount,
+		final int fitnessCacheHits,
+		final int fitnessCacheMisses,
+		final List<CompletableFuture<Phenotype<G, C>>> late
 	) {
 		_optimize = requireNonNull(optimize);
-		_population = requireNonNull(population).copy();
+		_population = requireNonNull(population);
 		_generation = generation;
 		_totalGenerations = totalGenerations;
 		_durations = requireNonNull(durations);
 		_killCount = killCount;
 		_invalidCount = invalidCount;
+		_timeoutCount = timeoutCount;
 		_alterCount = alterCount;
+		_fitnessCacheHits = fitnessCacheHits;
+		_fitnessCacheMisses = fitnessCacheMisses;
+		_late = requireNonNull(late);
 
-		_best = Lazy.of(() -> _population.stream()
-			.max(_optimize.ascending())
-			.orElse(null)
-		);
+		_best = Lazy.of(() -> best(_population, _optimize));
+		_worst = Lazy.of(() -> worst(_population, _optimize));
+	}
 
-		_worst = Lazy.of(() -> _population.stream()
-			.min(_optimize.ascending())
-			.orElse(null)
-		);
+	// Return the first best phenotype of the population, or null if the
+	// population is empty.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> best(
+		final Population<G, C> population,
+		final Optimize optimize
+	) {
+		Phenotype<G, C> best = null;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (best == null || optimize.compare(pt, best) > 0) {
+				best = pt;
+			}
+		}
+		return best;
+	}
+
+	// Return the first worst phenotype of the population, or null if the
+	// population is empty.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> worst(
+		final Population<G, C> population,
+		final Optimize optimize
+	) {
+		Phenotype<G, C> worst = null;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (worst == null || optimize.compare(pt, worst) < 0) {
+				worst = pt;
+			}
+		}
+		return worst;
 	}
 
 	/**
@@ -128,6 +213,16 @@ public final class EvolutionResult<
 		return _population.copy();
 	}
 
+	/**
+	 * Return the population after the evolution step, without copying it.
+	 * The returned population must not be changed.
+	 *
+	 * @return the (not copied) population after the evolution step
+	 */
+	Population<G, C> population() {
+		return _population;
+	}
+
 	/**
 	 * The current generation.
 	 *
@@ -173,6 +268,20 @@ public final class EvolutionResult<
 		return _invalidCount;
 	}
 
+	/**
+	 * Return the number of individuals, whose fitness evaluation has exceeded
+	 * the evaluation timeout of the engine.
+	 *
+	 * @see Engine.Builder#evaluationTimeout(java.time.Duration)
+	 *
+	 * @since 3.8
+	 *
+	 * @return the number of timed out fitness evaluations
+	 */
+	public int getTimeoutCount() {
+		return _timeoutCount;
+	}
+
 	/**
 	 * The number of altered individuals.
 	 *
@@ -182,6 +291,45 @@ public final class EvolutionResult<
 		return _alterCount;
 	}
 
+	/**
+	 * Return the number of fitness values taken from the fitness cache of
+	 * the engine, during this evolution step. If the fitness cache is
+	 * disabled, this value is always zero.
+	 * <p>
+	 * <em>The cache counters are shared by all evolution streams of one
+	 * engine. If an engine performs several evolution streams concurrently,
+	 * this value also contains the cache hits of the other streams.</em>
+	 *
+	 * @see Engine.Builder#fitnessCacheSize(int)
+	 *
+	 * @since 3.8
+	 *
+	 * @return the number of fitness cache hits
+	 */
+	public int getFitnessCacheHits() {
+		return _fitnessCacheHits;
+	}
+
+	/**
+	 * Return the number of fitness values not found in the fitness cache of
+	 * the engine, during this evolution step. This is the number of actual
+	 * fitness function calls. If the fitness cache is disabled, this value is
+	 * always zero.
+	 * <p>
+	 * <em>The cache counters are shared by all evolution streams of one
+	 * engine. If an engine performs several evolution streams concurrently,
+	 * this value also contains the cache misses of the other streams.</em>
+	 *
+	 * @see Engine.Builder#fitnessCacheSize(int)
+	 *
+	 * @since 3.8
+	 *
+	 * @return the number of fitness cache misses
+	 */
+	public int getFitnessCacheMisses() {
+		return _fitnessCacheMisses;
+	}
+
 	/**
 	 * Return the best {@code Phenotype} of the result population.
 	 *
@@ -220,12 +368,17 @@ public final class EvolutionResult<
 
 	/**
 	 * Return the next evolution start object with the current population and
-	 * the incremented generation.
+	 * the incremented generation. The late offspring evaluations are handed
+	 * over to the next evolution step; they are lost by the serialization.
 	 *
 	 * @return the next evolution start object
 	 */
 	EvolutionStart<G, C> next() {
-		return EvolutionStart.of(_population, _generation + 1);
+		return EvolutionStart.of(
+			_population,
+			_generation + 1,
+			_late != null ? _late : Collections.emptyList()
+		);
 	}
 
 	/**
@@ -242,7 +395,7 @@ public final class EvolutionResult<
 	}
 
 	private EvolutionResult<G, C> withTotalGenerations(final long total) {
-		return of(
+		return new EvolutionResult<>(
 			_optimize,
 			_population,
 			_generation,
@@ -250,7 +403,10 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_timeoutCount,
+			_alterCount,
+			_fitnessCacheHits,
+			_fitnessCacheMisses
 		);
 	}
 
@@ -264,7 +420,10 @@ public final class EvolutionResult<
 			.and(_durations)
 			.and(_killCount)
 			.and(_invalidCount)
+			.and(_timeoutCount)
 			.and(_alterCount)
+			.and(_fitnessCacheHits)
+			.and(_fitnessCacheMisses)
 			.and(getBestFitness()).value();
 	}
 
@@ -278,7 +437,10 @@ public final class EvolutionResult<
 			eq(_durations, ((EvolutionResult<?, ?>)obj)._durations) &&
 			eq(_killCount, ((EvolutionResult<?, ?>)obj)._killCount) &&
 			eq(_invalidCount, ((EvolutionResult<?, ?>)obj)._invalidCount) &&
+			eq(_timeoutCount, ((EvolutionResult<?, ?>)obj)._timeoutCount) &&
 			eq(_alterCount, ((EvolutionResult<?, ?>)obj)._alterCount) &&
+			eq(_fitnessCacheHits, ((EvolutionResult<?, ?>)obj)._fitnessCacheHits) &&
+			eq(_fitnessCacheMisses, ((EvolutionResult<?, ?>)obj)._fitnessCacheMisses) &&
 			eq(getBestFitness(), ((EvolutionResult<?, ?>)obj).getBestFitness());
 	}
 
@@ -463,6 +625,59 @@ public final class EvolutionResult<
 		return toBestResult(codec.decoder());
 	}
 
+	/**
+	 * Return an new {@code EvolutionResult} object with the given values.
+	 *
+	 * @since 3.8
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param totalGenerations the overall number of generations
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param timeoutCount the number of individuals whose fitness evaluation
+	 *        has timed out
+	 * @param alterCount the number of individuals which has been altered
+	 * @param fitnessCacheHits the number of fitness cache hits
+	 * @param fitnessCacheMisses the number of fitness cache misses
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final Population<G, C> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int timeoutCount,
+		final int alterCount,
+		final int fitnessCacheHits,
+		final int fitnessCacheMisses
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population.copy(),
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			timeoutCount,
+			alterCount,
+			fitnessCacheHits,
+			fitnessCacheMisses
+		);
+	}
+
 	/**
 	 * Return an new {@code EvolutionResult} object with the given values.
 	 *
@@ -494,13 +709,16 @@ public final class EvolutionResult<
 	) {
 		return new EvolutionResult<>(
 			optimize,
-			population,
+			population.copy(),
 			generation,
 			totalGenerations,
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			0,
+			alterCount,
+			0,
+			0
 		);
 	}
 
@@ -533,13 +751,67 @@ public final class EvolutionResult<
 	) {
 		return new EvolutionResult<>(
 			optimize,
-			population,
+			population.copy(),
+			generation,
+			generation,
+			durations,
+			killCount,
+			invalidCount,
+			0,
+			alterCount,
+			0,
+			0
+		);
+	}
+
+	/**
+	 * Return an new {@code EvolutionResult} object with the given values.
+	 *
+	 * @since 3.8
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param timeoutCount the number of individuals whose fitness evaluation
+	 *        has timed out
+	 * @param alterCount the number of individuals which has been altered
+	 * @param fitnessCacheHits the number of fitness cache hits
+	 * @param fitnessCacheMisses the number of fitness cache misses
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final Population<G, C> population,
+		final long generation,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int timeoutCount,
+		final int alterCount,
+		final int fitnessCacheHits,
+		final int fitnessCacheMisses
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population.copy(),
 			generation,
 			generation,
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			timeoutCount,
+			alterCount,
+			fitnessCacheHits,
+			fitnessCacheMisses
 		);
 	}
 
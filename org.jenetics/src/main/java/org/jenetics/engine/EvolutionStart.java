@@ -23,10 +23,15 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static org.jenetics.internal.util.Equality.eq;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.jenetics.internal.util.Hash;
 import org.jenetics.internal.util.require;
 
 import org.jenetics.Gene;
+import org.jenetics.Phenotype;
 import org.jenetics.Population;
 
 /**
@@ -39,7 +44,7 @@ import org.jenetics.Population;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.1
- * @version 3.1
+ * @version 3.8
  */
 public final class EvolutionStart<
 	G extends Gene<?, G>,
@@ -50,12 +55,18 @@ public final class EvolutionStart<
 	private final Population<G, C> _population;
 	private final long _generation;
 
+	// Offspring evaluations of previous evolution steps, which hadn't been
+	// finished when the evaluation quorum was reached.
+	private final List<CompletableFuture<Phenotype<G, C>>> _late;
+
 	private EvolutionStart(
 		final Population<G, C> population,
-		final long generation
+		final long generation,
+		final List<CompletableFuture<Phenotype<G, C>>> late
 	) {
 		_population = requireNonNull(population);
 		_generation = require.positive(generation);
+		_late = requireNonNull(late);
 	}
 
 	/**
@@ -76,6 +87,16 @@ public final class EvolutionStart<
 		return _generation;
 	}
 
+	/**
+	 * Return the offspring evaluations of previous evolution steps, which
+	 * hadn't been finished when the evaluation quorum was reached.
+	 *
+	 * @return the late offspring evaluations
+	 */
+	List<CompletableFuture<Phenotype<G, C>>> late() {
+		return _late;
+	}
+
 	@Override
 	public int hashCode() {
 		return Hash.of(getClass())
@@ -117,7 +138,28 @@ public final class EvolutionStart<
 		final Population<G, C> population,
 		final long generation
 	) {
-		return new EvolutionStart<>(population, generation);
+		return new EvolutionStart<>(population, generation, Collections.emptyList());
+	}
+
+	/**
+	 * Create a new evolution start object with the given population, for the
+	 * given generation and with the still running offspring evaluations of
+	 * the previous evolution steps.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param population the start population.
+	 * @param generation the start generation of the population
+	 * @param late the late offspring evaluations of the previous steps
+	 * @return a new evolution start object
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> of(
+		final Population<G, C> population,
+		final long generation,
+		final List<CompletableFuture<Phenotype<G, C>>> late
+	) {
+		return new EvolutionStart<>(population, generation, late);
 	}
 
 }
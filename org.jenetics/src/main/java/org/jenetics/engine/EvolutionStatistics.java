@@ -124,7 +124,7 @@ public abstract class EvolutionStatistics<
 		_invalids.accept(result.getInvalidCount());
 		_altered.accept(result.getAlterCount());
 
-		result.getPopulation()
+		result.population()
 			.forEach(pt -> accept(pt, result.getGeneration()));
 	}
 
@@ -0,0 +1,325 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+
+/**
+ * Size bounded, <em>least recently used</em> fitness cache. The fitness values
+ * are keyed by the evaluated {@link Genotype}.
+ * <p>
+ * The cache is split into independently locked segments, which are selected
+ * by the genotype hash code. This lets concurrent evaluation threads access
+ * the cache without waiting for each other, as long as they hit different
+ * segments. The genotype hash code is calculated once per lookup, outside
+ * the segment lock. Every segment holds an equal share of the cache size and
+ * evicts its least recently used entry, if it is full. The eviction is
+ * therefore only an approximation of a global LRU strategy.
+ * <p>
+ * The fitness function itself is called outside the cache lock. It is
+ * therefore possible that two threads, evaluating the same genotype at the
+ * same time, both call the fitness function.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class FitnessCache<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Function<Genotype<G>, C>
+{
+
+	// The minimal number of entries of one cache segment. Smaller caches are
+	// split into fewer segments.
+	private static final int MIN_SEGMENT_SIZE = 16;
+
+	private final Function<? super Genotype<G>, ? extends C> _function;
+	private final int _size;
+	private final Segment<G, C>[] _segments;
+	private final int _shift;
+
+	private final LongAdder _hits = new LongAdder();
+	private final LongAdder _misses = new LongAdder();
+
+	/**
+	 * Create a new fitness cache for the given fitness {@code function}.
+	 *
+	 * @param function the cached fitness function
+	 * @param size the maximal number of cached fitness values
+	 * @param segments the number of independently locked cache segments;
+	 *        must be a power of two and not greater than {@code size}
+	 * @throws NullPointerException if the given {@code function} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code size} is smaller
+	 *         than one, or if the number of {@code segments} is not valid
+	 */
+	@SuppressWarnings("unchecked")
+	FitnessCache(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final int size,
+		final int segments
+	) {
+		_function = requireNonNull(function);
+		_size = require.positive(size);
+		if (Integer.bitCount(segments) != 1 || segments > size) {
+			throw new IllegalArgumentException(format(
+				"Segment count must be a power of two within [1, %d]: %d",
+				size, segments
+			));
+		}
+
+		_segments = (Segment<G, C>[])new Segment<?, ?>[segments];
+		_shift = Integer.SIZE - Integer.numberOfTrailingZeros(segments);
+		for (int i = 0; i < segments; ++i) {
+			_segments[i] = new Segment<>(
+				size/segments + (i < size%segments ? 1 : 0)
+			);
+		}
+	}
+
+	/**
+	 * Create a new fitness cache for the given fitness {@code function}. The
+	 * number of cache segments is chosen from the number of available
+	 * processors and the cache {@code size}.
+	 *
+	 * @param function the cached fitness function
+	 * @param size the maximal number of cached fitness values
+	 * @throws NullPointerException if the given {@code function} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code size} is smaller
+	 *         than one
+	 */
+	FitnessCache(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final int size
+	) {
+		this(function, size, segments(size));
+	}
+
+	// Return the default number of segments for the given cache size.
+	static int segments(final int size) {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		int segments = Integer.highestOneBit(4*processors - 1) << 1;
+		while (segments > 1 && size/segments < MIN_SEGMENT_SIZE) {
+			segments >>>= 1;
+		}
+		return segments;
+	}
+
+	@Override
+	public C apply(final Genotype<G> genotype) {
+		final Key<G> key = new Key<>(genotype);
+		final Segment<G, C> segment = segment(key);
+
+		C fitness = get(segment, key);
+		if (fitness == null) {
+			fitness = _function.apply(genotype);
+			put(segment, key, fitness);
+		}
+
+		return fitness;
+	}
+
+	/**
+	 * Return the cached fitness value of the given {@code genotype}, or
+	 * {@code null} if the fitness value is not cached. The lookup is counted
+	 * as cache hit or cache miss.
+	 *
+	 * @param genotype the genotype to look up
+	 * @return the cached fitness value, or {@code null}
+	 */
+	C get(final Genotype<G> genotype) {
+		final Key<G> key = new Key<>(genotype);
+		return get(segment(key), key);
+	}
+
+	private C get(final Segment<G, C> segment, final Key<G> key) {
+		final C fitness;
+		synchronized (segment) {
+			fitness = segment.get(key);
+		}
+
+		if (fitness != null) {
+			_hits.increment();
+		} else {
+			_misses.increment();
+		}
+
+		return fitness;
+	}
+
+	/**
+	 * Put the fitness value of the given {@code genotype} into the cache.
+	 * {@code null} values are not cached.
+	 *
+	 * @param genotype the evaluated genotype
+	 * @param fitness the fitness value of the genotype
+	 */
+	void put(final Genotype<G> genotype, final C fitness) {
+		if (fitness != null) {
+			final Key<G> key = new Key<>(genotype);
+			put(segment(key), key, fitness);
+		}
+	}
+
+	private void put(
+		final Segment<G, C> segment,
+		final Key<G> key,
+		final C fitness
+	) {
+		if (fitness != null) {
+			synchronized (segment) {
+				segment.put(key, fitness);
+			}
+		}
+	}
+
+	// The segment is selected by the upper bits of the scrambled hash code.
+	// The lower bits are used by the hash map of the segment and would lead
+	// to hash collisions within the segment.
+	private Segment<G, C> segment(final Key<G> key) {
+		return _segments.length > 1
+			? _segments[(key.hash*0x9E3779B9) >>> _shift]
+			: _segments[0];
+	}
+
+	/**
+	 * Return the cached fitness function.
+	 *
+	 * @return the cached fitness function
+	 */
+	Function<? super Genotype<G>, ? extends C> function() {
+		return _function;
+	}
+
+	/**
+	 * Return the maximal number of cached fitness values.
+	 *
+	 * @return the maximal number of cached fitness values
+	 */
+	int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the number of independently locked cache segments.
+	 *
+	 * @return the number of cache segments
+	 */
+	int segments() {
+		return _segments.length;
+	}
+
+	/**
+	 * Return the number of currently cached fitness values.
+	 *
+	 * @return the number of cached fitness values
+	 */
+	int count() {
+		int count = 0;
+		for (Segment<G, C> segment : _segments) {
+			synchronized (segment) {
+				count += segment.size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the number of cache hits since the creation of the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	long hits() {
+		return _hits.sum();
+	}
+
+	/**
+	 * Return the number of cache misses since the creation of the cache.
+	 *
+	 * @return the number of cache misses
+	 */
+	long misses() {
+		return _misses.sum();
+	}
+
+	// Cache key, which calculates the genotype hash code only once.
+	private static final class Key<G extends Gene<?, G>> {
+		final Genotype<G> genotype;
+		final int hash;
+
+		Key(final Genotype<G> genotype) {
+			this.genotype = genotype;
+			hash = genotype.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key<?> &&
+				((Key<?>)obj).hash == hash &&
+				((Key<?>)obj).genotype.equals(genotype);
+		}
+	}
+
+	// One LRU segment of the cache. Access must be synchronized on the
+	// segment object.
+	private static final class Segment<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		extends LinkedHashMap<Key<G>, C>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int _size;
+
+		Segment(final int size) {
+			super(16, 0.75F, true);
+			_size = size;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key<G>, C> eldest) {
+			return size() > _size;
+		}
+	}
+
+}
@@ -0,0 +1,706 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Evolution engine which implements the <em>island model</em>. The population
+ * is divided into several sub-populations (<em>islands</em>), which are
+ * evolved concurrently by the given {@link Engine}. Every island is evolved
+ * independently for a given number of generations, the
+ * <em>migration interval</em>. After this interval, the best individuals of
+ * every island migrate to other islands, where they replace the worst
+ * individuals. Which islands are connected is defined by the migration
+ * {@link Topology}.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(RealFunction::eval, DoubleChromosome.of(0.0, 2.0*PI))
+ *     .populationSize(500)
+ *     .build();
+ *
+ * final IslandEngine<DoubleGene, Double> islands = IslandEngine
+ *     .builder(engine)
+ *     .islands(16)
+ *     .migrationInterval(10)
+ *     .migrationCount(2)
+ *     .topology(IslandEngine.Topology.RING)
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> result = islands.stream()
+ *     .limit(bySteadyFitness(5))
+ *     .limit(100)
+ *     .collect(toBestPhenotype());
+ * }</pre>
+ *
+ * The islands only synchronize at the migration points. Since the islands
+ * are evolved independently between two migrations, the island engine scales
+ * much better with the number of available cores than a single engine,
+ * which synchronizes the whole population at every generation.
+ * <p>
+ * <b>One element of the evolution stream, created by this engine, covers
+ * {@link #getMigrationInterval()} generations.</b> The population of an
+ * {@link EvolutionResult} is the concatenation of the island populations, and
+ * {@link EvolutionResult#getGeneration()} is the last evolved generation. The
+ * counts and durations of the evolution result are the summed up values of
+ * all islands and generations, except the
+ * {@link EvolutionDurations#getEvolveDuration()}, which is the wall-clock time
+ * of the whole step. Since all islands share the fitness cache of the given
+ * {@link Engine}, the fitness cache hits and misses are measured once for the
+ * whole step. The evolution stream {@code limit} predicates are tested once
+ * per migration interval.
+ * <p>
+ * <em>
+ *     <b>This class is thread safe:</b>
+ *     No mutable state is maintained by the engine. Therefore it is save to
+ *     create multiple evolution streams with one engine, which may be actually
+ *     used in different threads.
+ * </em>
+ *
+ * @see Engine
+ * @see IslandEngine.Builder
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Function<EvolutionStart<G, C>, EvolutionResult<G, C>>
+{
+
+	/**
+	 * The migration topology, which defines the islands an island is sending
+	 * its emigrants to.
+	 */
+	public static enum Topology {
+
+		/**
+		 * The islands are connected to a ring. Island {@code i} sends its
+		 * emigrants to island {@code (i + 1)%n}.
+		 */
+		RING,
+
+		/**
+		 * Every island sends its emigrants to all other islands.
+		 */
+		FULLY_CONNECTED,
+
+		/**
+		 * Every island sends its emigrants to a randomly chosen other island.
+		 * The target island is chosen anew for every migration.
+		 */
+		RANDOM
+
+	}
+
+	private final Engine<G, C> _engine;
+	private final int _islands;
+	private final int _migrationInterval;
+	private final int _migrationCount;
+	private final Topology _topology;
+	private final Executor _executor;
+	private final Clock _clock;
+
+	/**
+	 * Create a new island engine with the given parameters.
+	 *
+	 * @param engine the engine used for evolving the single islands
+	 * @param islands the number of islands
+	 * @param migrationInterval the number of generations between two
+	 *        migrations
+	 * @param migrationCount the number of individuals every island sends to
+	 *        its target islands
+	 * @param topology the migration topology
+	 * @param executor the executor used for evolving the islands concurrently
+	 * @param clock the clock used for calculating the timing results
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the number of {@code islands} or the
+	 *         {@code migrationInterval} is smaller than one, or the
+	 *         {@code migrationCount} is negative
+	 */
+	IslandEngine(
+		final Engine<G, C> engine,
+		final int islands,
+		final int migrationInterval,
+		final int migrationCount,
+		final Topology topology,
+		final Executor executor,
+		final Clock clock
+	) {
+		_engine = requireNonNull(engine);
+		_islands = islands;
+		_migrationInterval = migrationInterval;
+		_migrationCount = migrationCount;
+		_topology = requireNonNull(topology);
+		_executor = requireNonNull(executor);
+		_clock = requireNonNull(clock);
+	}
+
+	/**
+	 * Perform one evolution step with the given evolution {@code start}
+	 * object. The population of the {@code start} object is divided into
+	 * {@link #getIslands()} sub-populations, which are evolved concurrently
+	 * for {@link #getMigrationInterval()} generations. After this, the
+	 * migration between the islands is performed.
+	 * <p>
+	 * <em>This method is thread-safe.</em>
+	 *
+	 * @param start the evolution start object
+	 * @return the evolution result, which contains the populations of all
+	 *         islands
+	 * @throws java.lang.NullPointerException if the given evolution
+	 *         {@code start} is {@code null}
+	 */
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final Timer timer = Timer.of(_clock).start();
+		final long cacheHits = _engine.cacheHits();
+		final long cacheMisses = _engine.cacheMisses();
+
+		final Population<G, C> population = start.getPopulation();
+		final int size = _engine.getPopulationSize();
+
+		final List<CompletableFuture<Island<G, C>>> islands =
+			new ArrayList<>(_islands);
+		for (int i = 0; i < _islands; ++i) {
+			final Population<G, C> pop = new Population<>(population.subList(
+				min(i*size, population.size()),
+				min((i + 1)*size, population.size())
+			));
+
+			islands.add(CompletableFuture.supplyAsync(
+				() -> evolveIsland(EvolutionStart.of(pop, start.getGeneration())),
+				_executor
+			));
+		}
+
+		final List<Island<G, C>> results = new ArrayList<>(_islands);
+		for (CompletableFuture<Island<G, C>> island : islands) {
+			results.add(island.join());
+		}
+
+		migrate(results);
+
+		final Population<G, C> pop = new Population<>(size*_islands);
+		Island<G, C> total = null;
+		for (Island<G, C> island : results) {
+			pop.addAll(island.population);
+			total = total != null ? total.plus(island) : island;
+		}
+
+		final EvolutionDurations durations = total.durations;
+		final long generation = start.getGeneration() + _migrationInterval - 1;
+		return new EvolutionResult<>(
+			_engine.getOptimize(),
+			pop,
+			generation,
+			generation,
+			EvolutionDurations.of(
+				durations.getOffspringSelectionDuration(),
+				durations.getSurvivorsSelectionDuration(),
+				durations.getOffspringAlterDuration(),
+				durations.getOffspringFilterDuration(),
+				durations.getSurvivorFilterDuration(),
+				durations.getEvaluationDuration(),
+				timer.stop().getTime()
+			),
+			total.killCount,
+			total.invalidCount,
+			total.timeoutCount,
+			total.alterCount,
+			(int)(_engine.cacheHits() - cacheHits),
+			(int)(_engine.cacheMisses() - cacheMisses)
+		);
+	}
+
+	/**
+	 * This method is an <i>alias</i> for the {@link #evolve(EvolutionStart)}
+	 * method.
+	 */
+	@Override
+	public EvolutionResult<G, C> apply(final EvolutionStart<G, C> start) {
+		return evolve(start);
+	}
+
+	// Evolves one island for the given number of generations.
+	private Island<G, C> evolveIsland(final EvolutionStart<G, C> start) {
+		EvolutionStart<G, C> next = start;
+		Island<G, C> island = null;
+		for (int i = 0; i < _migrationInterval; ++i) {
+			final EvolutionResult<G, C> result = _engine.evolve(next);
+			island = island != null
+				? island.plus(Island.of(result))
+				: Island.of(result);
+
+			next = result.next();
+		}
+
+		return island;
+	}
+
+	// Sends the best individuals of every island to its target islands, where
+	// they replace the worst individuals. Migration is done in place.
+	private void migrate(final List<Island<G, C>> islands) {
+		if (_islands < 2 || _migrationCount == 0) return;
+
+		final Optimize opt = _engine.getOptimize();
+		for (Island<G, C> island : islands) {
+			island.population.sort(opt.<Phenotype<G, C>>descending());
+		}
+
+		final List<List<Phenotype<G, C>>> immigrants = new ArrayList<>(_islands);
+		for (int i = 0; i < _islands; ++i) {
+			immigrants.add(new ArrayList<>());
+		}
+
+		final Random random = RandomRegistry.getRandom();
+		for (int i = 0; i < _islands; ++i) {
+			final Population<G, C> pop = islands.get(i).population;
+			final List<Phenotype<G, C>> emigrants =
+				pop.subList(0, min(_migrationCount, pop.size()));
+
+			switch (_topology) {
+				case RING:
+					immigrants.get((i + 1)%_islands).addAll(emigrants);
+					break;
+				case FULLY_CONNECTED:
+					for (int j = 0; j < _islands; ++j) {
+						if (j != i) immigrants.get(j).addAll(emigrants);
+					}
+					break;
+				case RANDOM:
+					final int target = (i + 1 + random.nextInt(_islands - 1))%_islands;
+					immigrants.get(target).addAll(emigrants);
+					break;
+			}
+		}
+
+		for (int i = 0; i < _islands; ++i) {
+			final Population<G, C> pop = islands.get(i).population;
+			final List<Phenotype<G, C>> imm = immigrants.get(i);
+			for (int j = 0, n = min(imm.size(), pop.size()); j < n; ++j) {
+				pop.set(pop.size() - 1 - j, imm.get(j));
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Evolution Stream/Iterator creation.
+	 **************************************************************************/
+
+	/**
+	 * Create a new <b>infinite</b> evolution iterator with a newly created
+	 * population.
+	 *
+	 * @return a new <b>infinite</b> evolution iterator
+	 */
+	public Iterator<EvolutionResult<G, C>> iterator() {
+		return new EvolutionIterator<>(this::evolutionStart, this::evolve);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream with a newly created
+	 * population.
+	 *
+	 * @return a new evolution stream.
+	 */
+	public EvolutionStream<G, C> stream() {
+		return EvolutionStream.of(this::evolutionStart, this::evolve);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream with the given initial
+	 * population. The given population is divided into the island
+	 * populations. Missing individuals are created and individuals not needed
+	 * are skipped. The fitness function and the fitness scaler are replaced
+	 * by the one defined for the island engine.
+	 *
+	 * @param population the initial individuals used for the evolution stream.
+	 * @return a new evolution stream.
+	 * @throws java.lang.NullPointerException if the given {@code population} is
+	 *         {@code null}.
+	 */
+	public EvolutionStream<G, C> stream(final Population<G, C> population) {
+		requireNonNull(population);
+		return EvolutionStream.of(() -> evolutionStart(population), this::evolve);
+	}
+
+	private EvolutionStart<G, C> evolutionStart() {
+		return evolutionStart(Population.empty());
+	}
+
+	private EvolutionStart<G, C> evolutionStart(
+		final Population<G, C> population
+	) {
+		final int size = _engine.getPopulationSize();
+		final Population<G, C> pop = new Population<>(size*_islands);
+		for (int i = 0; i < _islands; ++i) {
+			final Population<G, C> island = new Population<>(population.subList(
+				min(i*size, population.size()),
+				min((i + 1)*size, population.size())
+			));
+
+			pop.addAll(_engine.evolutionStart(island, 1).getPopulation());
+		}
+
+		return EvolutionStart.of(pop, 1);
+	}
+
+
+	/* *************************************************************************
+	 * Property access methods.
+	 **************************************************************************/
+
+	/**
+	 * Return the engine which is used for evolving the single islands.
+	 *
+	 * @return the engine used for evolving the single islands
+	 */
+	public Engine<G, C> getEngine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the number of islands.
+	 *
+	 * @return the number of islands
+	 */
+	public int getIslands() {
+		return _islands;
+	}
+
+	/**
+	 * Return the number of generations between two migrations.
+	 *
+	 * @return the number of generations between two migrations
+	 */
+	public int getMigrationInterval() {
+		return _migrationInterval;
+	}
+
+	/**
+	 * Return the number of individuals an island sends to every target island.
+	 *
+	 * @return the number of migrating individuals
+	 */
+	public int getMigrationCount() {
+		return _migrationCount;
+	}
+
+	/**
+	 * Return the migration topology.
+	 *
+	 * @return the migration topology
+	 */
+	public Topology getTopology() {
+		return _topology;
+	}
+
+	/**
+	 * Return the {@link Executor} the engine is using for evolving the islands
+	 * concurrently.
+	 *
+	 * @return the executor used for evolving the islands
+	 */
+	public Executor getExecutor() {
+		return _executor;
+	}
+
+	/**
+	 * Return the {@link Clock} the engine is using for measuring the execution
+	 * time.
+	 *
+	 * @return the clock used for measuring the execution time
+	 */
+	public Clock getClock() {
+		return _clock;
+	}
+
+	/**
+	 * Return the number of individuals of all islands.
+	 *
+	 * @return the number of individuals of all islands
+	 */
+	public int getPopulationSize() {
+		return _engine.getPopulationSize()*_islands;
+	}
+
+
+	/* *************************************************************************
+	 * Builder methods.
+	 **************************************************************************/
+
+	/**
+	 * Create a new island engine builder, which uses the given {@code engine}
+	 * for evolving the islands. The population size of an island is the
+	 * population size of the given {@code engine}.
+	 *
+	 * @param engine the engine used for evolving the single islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine builder
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Engine<G, C> engine) {
+		return new Builder<>(engine);
+	}
+
+
+	/* *************************************************************************
+	 * Inner classes
+	 **************************************************************************/
+
+	/**
+	 * Builder class for building {@code IslandEngine} instances.
+	 *
+	 * @see IslandEngine
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.8
+	 * @version 3.8
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final Engine<G, C> _engine;
+
+		private int _islands = 4;
+		private int _migrationInterval = 10;
+		private int _migrationCount = 1;
+		private Topology _topology = Topology.RING;
+		private Executor _executor = ForkJoinPool.commonPool();
+		private Clock _clock;
+
+		private Builder(final Engine<G, C> engine) {
+			_engine = requireNonNull(engine);
+			_clock = engine.getClock();
+		}
+
+		/**
+		 * The number of islands. <i>Default value is set to {@code 4}.</i>
+		 *
+		 * @param islands the number of islands
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code islands < 1}
+		 */
+		public Builder<G, C> islands(final int islands) {
+			if (islands < 1) {
+				throw new IllegalArgumentException(format(
+					"Number of islands must be greater than zero, but was %d.",
+					islands
+				));
+			}
+			_islands = islands;
+			return this;
+		}
+
+		/**
+		 * The number of generations the islands are evolved independently,
+		 * between two migrations. <i>Default value is set to {@code 10}.</i>
+		 *
+		 * @param interval the number of generations between two migrations
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code interval < 1}
+		 */
+		public Builder<G, C> migrationInterval(final int interval) {
+			if (interval < 1) {
+				throw new IllegalArgumentException(format(
+					"Migration interval must be greater than zero, but was %d.",
+					interval
+				));
+			}
+			_migrationInterval = interval;
+			return this;
+		}
+
+		/**
+		 * The number of (best) individuals an island sends to every of its
+		 * target islands. <i>Default value is set to {@code 1}.</i>
+		 *
+		 * @param count the number of migrating individuals
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code count < 0}
+		 */
+		public Builder<G, C> migrationCount(final int count) {
+			if (count < 0) {
+				throw new IllegalArgumentException(format(
+					"Migration count must not be negative: %d", count
+				));
+			}
+			_migrationCount = count;
+			return this;
+		}
+
+		/**
+		 * The migration topology. <i>Default value is set to
+		 * {@link Topology#RING}.</i>
+		 *
+		 * @param topology the migration topology
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> topology(final Topology topology) {
+			_topology = requireNonNull(topology);
+			return this;
+		}
+
+		/**
+		 * The executor used for evolving the islands concurrently. Every
+		 * island occupies one task of this executor for a whole migration
+		 * interval. <i>Default value is set to
+		 * {@link ForkJoinPool#commonPool()}.</i>
+		 *
+		 * @param executor the executor used for evolving the islands
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * The clock used for calculating the execution durations. <i>Default
+		 * value is set to the clock of the island {@code Engine}.</i>
+		 *
+		 * @param clock the clock used for calculating the execution durations
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> clock(final Clock clock) {
+			_clock = requireNonNull(clock);
+			return this;
+		}
+
+		/**
+		 * Builds an new {@code IslandEngine} instance from the set properties.
+		 *
+		 * @return an new {@code IslandEngine} instance from the set properties
+		 * @throws IllegalArgumentException if the island population is too
+		 *         small for the migrating individuals
+		 */
+		public IslandEngine<G, C> build() {
+			final int immigrants = _topology == Topology.FULLY_CONNECTED
+				? _migrationCount*(_islands - 1)
+				: _migrationCount;
+
+			if (_islands > 1 && immigrants >= _engine.getPopulationSize()) {
+				throw new IllegalArgumentException(format(
+					"Island population size (%d) must be greater than the " +
+					"number of immigrants (%d).",
+					_engine.getPopulationSize(), immigrants
+				));
+			}
+
+			return new IslandEngine<>(
+				_engine,
+				_islands,
+				_migrationInterval,
+				_migrationCount,
+				_topology,
+				_executor,
+				_clock
+			);
+		}
+
+	}
+
+	/**
+	 * The (intermediate) result of an island, summed up over the evolved
+	 * generations of one migration interval.
+	 */
+	private static final class Island<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		final Population<G, C> population;
+		final EvolutionDurations durations;
+		final int killCount;
+		final int invalidCount;
+		final int timeoutCount;
+		final int alterCount;
+
+		private Island(
+			final Population<G, C> population,
+			final EvolutionDurations durations,
+			final int killCount,
+			final int invalidCount,
+			final int timeoutCount,
+			final int alterCount
+		) {
+			this.population = population;
+			this.durations = durations;
+			this.killCount = killCount;
+			this.invalidCount = invalidCount;
+			this.timeoutCount = timeoutCount;
+			this.alterCount = alterCount;
+		}
+
+		// Return a new island with the population of the other island.
+		Island<G, C> plus(final Island<G, C> other) {
+			return new Island<>(
+				other.population,
+				durations.plus(other.durations),
+				killCount + other.killCount,
+				invalidCount + other.invalidCount,
+				timeoutCount + other.timeoutCount,
+				alterCount + other.alterCount
+			);
+		}
+
+		static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Island<G, C> of(final EvolutionResult<G, C> result) {
+			return new Island<>(
+				result.population(),
+				result.getDurations(),
+				result.getKillCount(),
+				result.getInvalidCount(),
+				result.getTimeoutCount(),
+				result.getAlterCount()
+			);
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jenetics.Gene;
+import org.jenetics.Phenotype;
+
+/**
+ * Evaluation strategy which doesn't wait for the slowest fitness calculation.
+ * The evaluation of all not yet evaluated phenotypes is started at once. As
+ * soon as the <em>quorum</em> of the evaluations has been finished, the
+ * phenotypes which are still in evaluation are replaced by their fallback
+ * phenotypes, e.g. the unaltered parents of the offspring.
+ * <p>
+ * The evaluations of the replaced phenotypes are not cancelled. They are
+ * handed over to the caller, which can re-insert the late phenotypes into a
+ * later generation. Otherwise, phenotypes with a slow fitness calculation
+ * would never survive their first generation.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class QuorumEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Function<
+		? super Phenotype<G, C>,
+		? extends CompletableFuture<Phenotype<G, C>>
+	> _evaluation;
+
+	private final double _quorum;
+
+	/**
+	 * Create a new quorum evaluator.
+	 *
+	 * @param evaluation the function which starts the evaluation of a single
+	 *        phenotype and returns the evaluated phenotype
+	 * @param quorum the fraction of the phenotypes which must be evaluated,
+	 *        within the range {@code (0, 1]}.
+	 * @throws NullPointerException if the given {@code evaluation} function is
+	 *         {@code null}
+	 */
+	QuorumEvaluator(
+		final Function<
+			? super Phenotype<G, C>,
+			? extends CompletableFuture<Phenotype<G, C>>
+		> evaluation,
+		final double quorum
+	) {
+		_evaluation = requireNonNull(evaluation);
+		_quorum = quorum;
+	}
+
+	/**
+	 * Evaluates the given {@code population} until the quorum is reached. The
+	 * not evaluated phenotypes are replaced, in place, with the phenotype of
+	 * the {@code fallback} list with the same index. The replaced phenotypes
+	 * are not checked for validity or age; this is up to the caller. The still
+	 * running evaluations of the replaced phenotypes are added to the given
+	 * {@code late} list.
+	 *
+	 * @param population the phenotypes to evaluate
+	 * @param fallback the (evaluated) fallback phenotypes
+	 * @param late the list where the not finished evaluations are added
+	 * @return the indexes of the replaced phenotypes
+	 * @throws java.util.concurrent.CompletionException if one of the fitness
+	 *         calculations fails, before the quorum is reached
+	 */
+	int[] evaluate(
+		final List<Phenotype<G, C>> population,
+		final List<Phenotype<G, C>> fallback,
+		final List<CompletableFuture<Phenotype<G, C>>> late
+	) {
+		final int[] indexes = new int[population.size()];
+
+		int count = 0;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			if (!population.get(i).isEvaluated()) {
+				indexes[count++] = i;
+			}
+		}
+
+		if (count == 0) {
+			return new int[0];
+		}
+
+		final int required = max((int)ceil(_quorum*count), 1);
+		final AtomicInteger finished = new AtomicInteger();
+		final CompletableFuture<Void> quorum = new CompletableFuture<>();
+
+		final List<CompletableFuture<Phenotype<G, C>>> futures =
+			new ArrayList<>(count);
+		for (int i = 0; i < count; ++i) {
+			final CompletableFuture<Phenotype<G, C>> future =
+				_evaluation.apply(population.get(indexes[i]));
+			futures.add(future);
+			future.whenComplete((pt, error) -> {
+				if (error != null) {
+					quorum.completeExceptionally(error);
+				} else if (finished.incrementAndGet() == required) {
+					quorum.complete(null);
+				}
+			});
+		}
+
+		quorum.join();
+
+		final int[] replaced = new int[count];
+		int replacedCount = 0;
+		for (int i = 0; i < count; ++i) {
+			final CompletableFuture<Phenotype<G, C>> future = futures.get(i);
+			if (future.isDone() && !future.isCompletedExceptionally()) {
+				population.set(indexes[i], future.join());
+			} else {
+				late.add(future);
+				population.set(indexes[i], fallback.get(indexes[i]));
+				replaced[replacedCount++] = indexes[i];
+			}
+		}
+
+		return Arrays.copyOf(replaced, replacedCount);
+	}
+
+	/**
+	 * Return the fraction of the phenotypes which must be evaluated.
+	 *
+	 * @return the evaluation quorum
+	 */
+	double quorum() {
+		return _quorum;
+	}
+
+}
@@ -46,7 +46,7 @@ final class SteadyPopulationLimit<
 
 	@Override
 	public boolean test(final EvolutionResult<?, N> result) {
-		final DoubleMoments moments = result.getPopulation().stream()
+		final DoubleMoments moments = result.population().stream()
 			.collect(toDoubleMoments(pt -> pt.getFitness().doubleValue()));
 
 		boolean proceed = true;
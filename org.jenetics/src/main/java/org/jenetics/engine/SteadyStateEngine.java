@@ -0,0 +1,630 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * <em>Steady-state</em> evolution engine. Instead of replacing the whole
+ * population in every generation, only a small number of offspring
+ * individuals, the <em>replacement count</em>, is created in every evolution
+ * step. These offspring individuals replace the worst individuals of the
+ * population.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(RealFunction::eval, DoubleChromosome.of(0.0, 2.0*PI))
+ *     .populationSize(500)
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> result =
+ *     SteadyStateEngine.of(engine, 8).stream()
+ *         .limit(bySteadyFitness(500))
+ *         .limit(10_000)
+ *         .collect(toBestPhenotype());
+ * }</pre>
+ *
+ * The steady-state engine uses the offspring selector, the alterer, the
+ * phenotype validator and the fitness evaluation of the given {@link Engine}.
+ * The population of an evolution stream is kept across the evolution steps,
+ * and only the offspring are evaluated. There is no barrier between the
+ * steps: {@link #getReplacementCount()} offspring evaluations are always
+ * running, and every evaluated offspring replaces one of the worst
+ * individuals as soon as its evaluation is finished. A new offspring
+ * evaluation is started immediately after. The replacement count should
+ * therefore be in the order of the number of available evaluation threads.
+ * If an evaluation timeout is set, the deadline is checked for every single
+ * offspring evaluation.
+ * <p>
+ * The worst individuals are kept in a heap across the steps, and the
+ * population of a step result shares its unchanged parts with the kept
+ * population (see {@link Population#copy()}); only the chunk references of
+ * the population are copied. The cost of one step is therefore dominated by
+ * the replacement count and not by the population size, as long as the
+ * offspring selector doesn't scan the whole population. This is the case
+ * for the {@link org.jenetics.TournamentSelector}, for example.
+ * <p>
+ * <b>One element of the evolution stream, created by this engine, represents
+ * one steady-state step,</b> which consists of
+ * {@link #getReplacementCount()} replaced individuals. The generation of an
+ * {@link EvolutionResult} is the step number, which is also used for
+ * calculating the age of the individuals. Only the newly created offspring
+ * are checked for validity and age; surviving individuals are not removed
+ * because of its age. Offspring evaluations which are still running, when
+ * the evolution stream is terminated, are finished in the background and
+ * their results are discarded.
+ * <p>
+ * <em>
+ *     <b>This class is thread safe:</b>
+ *     No mutable state is maintained by the engine. The evolution state is
+ *     owned by the created evolution streams. Therefore it is save to create
+ *     multiple evolution streams with one engine, which may be actually used
+ *     in different threads.
+ * </em>
+ *
+ * @see Engine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+public final class SteadyStateEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Function<EvolutionStart<G, C>, EvolutionResult<G, C>>
+{
+
+	private final Engine<G, C> _engine;
+	private final int _replacementCount;
+
+	// The maximal number of replacements of a timed out offspring.
+	private final int _retries;
+
+	private SteadyStateEngine(
+		final Engine<G, C> engine,
+		final int replacementCount
+	) {
+		_engine = requireNonNull(engine);
+		if (replacementCount < 1 ||
+			replacementCount > engine.getPopulationSize())
+		{
+			throw new IllegalArgumentException(format(
+				"Replacement count must be within [1, %d], but was %d.",
+				engine.getPopulationSize(), replacementCount
+			));
+		}
+		_replacementCount = replacementCount;
+		_retries = max(engine.individualCreationRetries(), 1);
+	}
+
+	/**
+	 * Perform one steady-state evolution step with the given evolution
+	 * {@code start} object. {@link #getReplacementCount()} offspring are
+	 * selected from the start population, altered and evaluated. The
+	 * offspring replace the worst individuals of the population. The
+	 * population of the given {@code start} object is not changed.
+	 * <p>
+	 * Other than the evolution streams of this engine, this method waits
+	 * for all offspring evaluations of the step.
+	 * <p>
+	 * <em>This method is thread-safe.</em>
+	 *
+	 * @param start the evolution start object
+	 * @return the evolution result
+	 * @throws java.lang.NullPointerException if the given evolution
+	 *         {@code start} is {@code null}
+	 */
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		return new Evolution(false).apply(start);
+	}
+
+	/**
+	 * This method is an <i>alias</i> for the {@link #evolve(EvolutionStart)}
+	 * method.
+	 */
+	@Override
+	public EvolutionResult<G, C> apply(final EvolutionStart<G, C> start) {
+		return evolve(start);
+	}
+
+	/**
+	 * The evolution state of one evolution stream. The population is kept
+	 * across the evolution steps and the offspring evaluations keep running
+	 * between the steps. The methods are called by the thread which consumes
+	 * the evolution stream; the evaluating threads only hand over the
+	 * finished evaluations.
+	 */
+	private final class Evolution
+		implements Function<EvolutionStart<G, C>, EvolutionResult<G, C>>
+	{
+		// Keep the offspring evaluations running after a finished step.
+		private final boolean _continuous;
+
+		private final List<Evaluation<G, C>> _running = new ArrayList<>();
+		private final BlockingQueue<Evaluation<G, C>> _finished =
+			new LinkedBlockingQueue<>();
+
+		// Altered and filtered offspring, which are not evaluated yet.
+		private final Deque<Phenotype<G, C>> _offspring = new ArrayDeque<>();
+
+		private Population<G, C> _population;
+		private Ranking<G, C> _ranking;
+		private EvolutionResult<G, C> _result;
+
+		// Durations and counts of the current step.
+		private Duration _selectDuration;
+		private Duration _alterDuration;
+		private Duration _filterDuration;
+		private Duration _evaluationDuration;
+		private int _alterCount;
+		private int _killCount;
+		private int _invalidCount;
+		private int _timeoutCount;
+
+		Evolution(final boolean continuous) {
+			_continuous = continuous;
+		}
+
+		@Override
+		public EvolutionResult<G, C> apply(final EvolutionStart<G, C> start) {
+			final Timer timer = Timer.of(_engine.getClock()).start();
+			final long cacheHits = _engine.cacheHits();
+			final long cacheMisses = _engine.cacheMisses();
+			final long generation = start.getGeneration();
+			final Optimize optimize = _engine.getOptimize();
+
+			_selectDuration = Duration.ZERO;
+			_alterDuration = Duration.ZERO;
+			_filterDuration = Duration.ZERO;
+			_evaluationDuration = Duration.ZERO;
+			_alterCount = 0;
+			_killCount = 0;
+			_invalidCount = 0;
+			_timeoutCount = 0;
+
+			// Only a start object, which isn't created from the last result
+			// of this evolution, replaces the kept population.
+			if (_result == null || start.getPopulation() != _result.population()) {
+				init(start.getPopulation());
+			}
+
+			final int[] worst = new int[_replacementCount];
+			for (int i = 0; i < worst.length; ++i) {
+				worst[i] = _ranking.poll();
+			}
+
+			fill(generation);
+			int replaced = 0;
+			try {
+				for (; replaced < worst.length; ++replaced) {
+					_population.set(worst[replaced], take(generation));
+					_ranking.add(worst[replaced]);
+					if (_continuous) {
+						fill(generation);
+					}
+				}
+			} finally {
+				// Keep the ranking complete, if the step has been aborted.
+				for (int i = replaced; i < worst.length; ++i) {
+					_ranking.add(worst[i]);
+				}
+			}
+
+			final EvolutionDurations durations = EvolutionDurations.of(
+				_selectDuration,
+				Duration.ZERO,
+				_alterDuration,
+				_filterDuration,
+				Duration.ZERO,
+				_evaluationDuration,
+				timer.stop().getTime()
+			);
+
+			// The kept population is changed by the following steps. Big
+			// populations share their unchanged chunks with the copy.
+			_result = new EvolutionResult<>(
+				optimize,
+				_population.copy(),
+				generation,
+				generation,
+				durations,
+				_killCount,
+				_invalidCount,
+				_timeoutCount,
+				_alterCount,
+				(int)(_engine.cacheHits() - cacheHits),
+				(int)(_engine.cacheMisses() - cacheMisses)
+			);
+			return _result;
+		}
+
+		// Replaces the kept population with an evaluated copy of the given
+		// population. Running offspring evaluations are cancelled.
+		private void init(final Population<G, C> population) {
+			for (Evaluation<G, C> evaluation : _running) {
+				evaluation.future.cancel(true);
+			}
+			_running.clear();
+			_finished.clear();
+			_offspring.clear();
+
+			final Timer timer = Timer.of(_engine.getClock()).start();
+			_population = population.copy();
+			_timeoutCount += _engine.evaluate(_population);
+			_evaluationDuration = _evaluationDuration
+				.plus(timer.stop().getTime());
+
+			_ranking = new Ranking<>(_population, _engine.getOptimize());
+		}
+
+		// Starts offspring evaluations until the replacement count of
+		// evaluations is running.
+		private void fill(final long generation) {
+			while (_running.size() < _replacementCount) {
+				if (_offspring.isEmpty()) {
+					breed(generation);
+				}
+				start(_offspring.poll(), 0);
+			}
+		}
+
+		// Selects, alters and filters a new batch of offspring.
+		private void breed(final long generation) {
+			final TimedResult<Population<G, C>> offspring = TimedResult.of(() ->
+				_engine.getOffspringSelector()
+					.select(_population, _replacementCount, _engine.getOptimize()),
+				_engine.getClock()
+			).get();
+
+			final TimedResult<Integer> alterCount = TimedResult.of(() ->
+				_engine.getAlterer().alter(offspring.result, generation),
+				_engine.getClock()
+			).get();
+
+			final TimedResult<FilterResult<G, C>> filtered = TimedResult.of(() ->
+				_engine.filter(offspring.result, generation),
+				_engine.getClock()
+			).get();
+
+			_offspring.addAll(filtered.result.population);
+			_selectDuration = _selectDuration.plus(offspring.duration);
+			_alterDuration = _alterDuration.plus(alterCount.duration);
+			_filterDuration = _filterDuration.plus(filtered.duration);
+			_alterCount += alterCount.result;
+			_killCount += filtered.result.killCount;
+			_invalidCount += filtered.result.invalidCount;
+		}
+
+		private void start(final Phenotype<G, C> phenotype, final int retries) {
+			final Evaluation<G, C> evaluation =
+				new Evaluation<>(phenotype, retries);
+			_running.add(evaluation);
+
+			evaluation.future = _engine.evaluateAsync(phenotype);
+			evaluation.future.whenComplete((pt, error) ->
+				_finished.add(evaluation));
+		}
+
+		// Waits for the next evaluated offspring. Evaluations which exceed
+		// the evaluation timeout are cancelled.
+		private Phenotype<G, C> take(final long generation) {
+			final Timer timer = Timer.of(_engine.getClock()).start();
+			try {
+				while (true) {
+					final Phenotype<G, C> timedOut = timeout(generation);
+					if (timedOut != null) {
+						return timedOut;
+					}
+
+					final long wait = _engine.getEvaluationTimeout().isPresent()
+						? nextDeadline()
+						: Long.MAX_VALUE;
+
+					final Evaluation<G, C> evaluation =
+						_finished.poll(wait, TimeUnit.NANOSECONDS);
+					if (evaluation != null && _running.remove(evaluation)) {
+						return evaluation.future.join();
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				for (Evaluation<G, C> evaluation : _running) {
+					evaluation.future.cancel(true);
+				}
+				throw (CancellationException)new CancellationException(
+					e.getMessage()
+				).initCause(e);
+			} finally {
+				_evaluationDuration = _evaluationDuration
+					.plus(timer.stop().getTime());
+			}
+		}
+
+		// Cancels the first timed out evaluation. Return the timed out
+		// phenotype with the penalty fitness, or null if no evaluation has
+		// timed out or if the timed out phenotype has been replaced.
+		private Phenotype<G, C> timeout(final long generation) {
+			if (!_engine.getEvaluationTimeout().isPresent()) return null;
+
+			final long timeout = _engine.getEvaluationTimeout().get().toNanos();
+			final long now = System.nanoTime();
+			for (int i = 0; i < _running.size(); ++i) {
+				final Evaluation<G, C> evaluation = _running.get(i);
+				if (now - evaluation.startTime >= timeout &&
+					!evaluation.future.isDone())
+				{
+					evaluation.future.cancel(true);
+					_running.remove(i);
+					++_timeoutCount;
+
+					final Optional<C> penalty = _engine.getTimeoutFitness();
+					if (penalty.isPresent()) {
+						return evaluation.phenotype.withRawFitness(penalty.get());
+					}
+					if (evaluation.retries >= _retries) {
+						throw new IllegalStateException(format(
+							"Fitness evaluation still exceeds the timeout " +
+							"of %s after %d replacements.",
+							_engine.getEvaluationTimeout().get(), _retries
+						));
+					}
+
+					start(_engine.newPhenotype(generation), evaluation.retries + 1);
+					--i;
+				}
+			}
+
+			return null;
+		}
+
+		// Return the remaining nanoseconds until the earliest deadline of the
+		// running evaluations.
+		private long nextDeadline() {
+			final long timeout = _engine.getEvaluationTimeout().get().toNanos();
+			final long now = System.nanoTime();
+
+			long wait = timeout;
+			for (Evaluation<G, C> evaluation : _running) {
+				wait = min(wait, evaluation.startTime + timeout - now);
+			}
+			return max(wait, 0);
+		}
+
+	}
+
+	/**
+	 * Binary heap of the population indexes, with the worst individual at
+	 * its root. The heap is kept across the evolution steps. Removing a worst
+	 * individual and adding its replacement costs <i>O(</i>log<i>(n))</i>,
+	 * instead of scanning the whole population in every step.
+	 */
+	private static final class Ranking<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Population<G, C> _population;
+		private final Optimize _optimize;
+		private final int[] _heap;
+		private int _size;
+
+		Ranking(final Population<G, C> population, final Optimize optimize) {
+			_population = population;
+			_optimize = optimize;
+			_heap = new int[population.size()];
+			for (int i = 0; i < _heap.length; ++i) {
+				_heap[i] = i;
+			}
+			_size = _heap.length;
+
+			for (int i = _size/2; --i >= 0;) {
+				sink(i);
+			}
+		}
+
+		// Removes the worst individual from the ranking and returns its
+		// population index.
+		int poll() {
+			final int worst = _heap[0];
+			_heap[0] = _heap[--_size];
+			sink(0);
+			return worst;
+		}
+
+		// Adds the individual with the given population index to the ranking.
+		void add(final int index) {
+			int m = _size++;
+			_heap[m] = index;
+			while (m > 0 && worse(_heap[m], _heap[(m - 1)/2])) {
+				swap(m, (m - 1)/2);
+				m = (m - 1)/2;
+			}
+		}
+
+		private void sink(final int start) {
+			int m = start;
+			while (2*m + 1 < _size) {
+				int j = 2*m + 1;
+				if (j < _size - 1 && worse(_heap[j + 1], _heap[j])) {
+					++j;
+				}
+				if (!worse(_heap[j], _heap[m])) break;
+
+				swap(m, j);
+				m = j;
+			}
+		}
+
+		private void swap(final int i, final int j) {
+			final int temp = _heap[i];
+			_heap[i] = _heap[j];
+			_heap[j] = temp;
+		}
+
+		// Return true if the individual at index a is worse than the
+		// individual at index b.
+		private boolean worse(final int a, final int b) {
+			return _optimize.compare(
+				_population.get(a).getFitness(),
+				_population.get(b).getFitness()
+			) < 0;
+		}
+	}
+
+	// A running offspring evaluation.
+	private static final class Evaluation<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		final Phenotype<G, C> phenotype;
+		final int retries;
+		CompletableFuture<Phenotype<G, C>> future;
+
+		// Submission time of the evaluation, which starts its deadline.
+		final long startTime = System.nanoTime();
+
+		Evaluation(final Phenotype<G, C> phenotype, final int retries) {
+			this.phenotype = phenotype;
+			this.retries = retries;
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Evolution Stream/Iterator creation.
+	 **************************************************************************/
+
+	/**
+	 * Create a new <b>infinite</b> evolution iterator with a newly created
+	 * population.
+	 *
+	 * @return a new <b>infinite</b> evolution iterator
+	 */
+	public Iterator<EvolutionResult<G, C>> iterator() {
+		return new EvolutionIterator<>(
+			_engine::evolutionStart,
+			new Evolution(true)
+		);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream with a newly created
+	 * population.
+	 *
+	 * @return a new evolution stream.
+	 */
+	public EvolutionStream<G, C> stream() {
+		return EvolutionStream.of(_engine::evolutionStart, new Evolution(true));
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream with the given initial
+	 * population. If an empty {@code Population} is given, the engines genotype
+	 * factory is used for creating the population. The fitness function and
+	 * the fitness scaler are replaced by the one defined for this engine.
+	 *
+	 * @param population the initial individuals used for the evolution stream.
+	 *        Missing individuals are created and individuals not needed are
+	 *        skipped.
+	 * @return a new evolution stream.
+	 * @throws java.lang.NullPointerException if the given {@code population} is
+	 *         {@code null}.
+	 */
+	public EvolutionStream<G, C> stream(final Population<G, C> population) {
+		requireNonNull(population);
+		return EvolutionStream.of(
+			() -> _engine.evolutionStart(population, 1),
+			new Evolution(true)
+		);
+	}
+
+
+	/* *************************************************************************
+	 * Property access methods.
+	 **************************************************************************/
+
+	/**
+	 * Return the engine which defines the evolution parameters.
+	 *
+	 * @return the underlying evolution engine
+	 */
+	public Engine<G, C> getEngine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the number of offspring which are created, and the number of
+	 * individuals which are replaced, in every evolution step.
+	 *
+	 * @return the number of replaced individuals per step
+	 */
+	public int getReplacementCount() {
+		return _replacementCount;
+	}
+
+	/**
+	 * Create a new steady-state evolution engine.
+	 *
+	 * @param engine the evolution engine which defines the offspring selector,
+	 *        the alterer, the phenotype validator and the fitness evaluation
+	 * @param replacementCount the number of offspring which are created, and
+	 *        the number of individuals which are replaced, in every step
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new steady-state evolution engine
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if the {@code replacementCount} is
+	 *         smaller than one or greater than the population size of the
+	 *         given {@code engine}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SteadyStateEngine<G, C> of(
+		final Engine<G, C> engine,
+		final int replacementCount
+	) {
+		return new SteadyStateEngine<>(engine, replacementCount);
+	}
+
+}
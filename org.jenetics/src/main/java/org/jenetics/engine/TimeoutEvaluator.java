@@ -0,0 +1,249 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.jenetics.Gene;
+import org.jenetics.Phenotype;
+
+/**
+ * Evaluation strategy with a deadline for every single fitness evaluation.
+ * The deadline of a phenotype starts with the submission of its evaluation.
+ * Evaluations which are still queued when their deadline expires are timed
+ * out as well, which means that the evaluation of a generation never takes
+ * longer than the timeout, for every replacement round. Phenotypes, whose
+ * evaluation exceeds the timeout, either get the configured penalty fitness,
+ * or they are replaced by newly created phenotypes, which are evaluated
+ * again.
+ * <p>
+ * A timed out fitness calculation is cancelled, but it can't be interrupted.
+ * It will still block its thread until it returns. The evaluation function
+ * should therefore start every evaluation in its own task, so that a hung
+ * fitness calculation doesn't prevent the evaluation of other phenotypes.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+final class TimeoutEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Function<
+		? super Phenotype<G, C>,
+		? extends CompletableFuture<Phenotype<G, C>>
+	> _evaluation;
+	private final Duration _timeout;
+	private final C _penalty;
+	private final LongFunction<Phenotype<G, C>> _factory;
+	private final int _retries;
+
+	/**
+	 * Create a new timeout evaluator.
+	 *
+	 * @param evaluation the function which starts the evaluation of a single
+	 *        phenotype and returns the evaluated phenotype
+	 * @param timeout the maximal duration of one fitness evaluation
+	 * @param penalty the fitness of the timed out phenotypes, or {@code null}
+	 *        if timed out phenotypes are replaced
+	 * @param factory creates a new phenotype for the given generation
+	 * @param retries the maximal number of replacement rounds
+	 * @throws NullPointerException if one of the arguments, except the
+	 *         {@code penalty}, is {@code null}
+	 */
+	TimeoutEvaluator(
+		final Function<
+			? super Phenotype<G, C>,
+			? extends CompletableFuture<Phenotype<G, C>>
+		> evaluation,
+		final Duration timeout,
+		final C penalty,
+		final LongFunction<Phenotype<G, C>> factory,
+		final int retries
+	) {
+		_evaluation = requireNonNull(evaluation);
+		_timeout = requireNonNull(timeout);
+		_penalty = penalty;
+		_factory = requireNonNull(factory);
+		_retries = retries;
+	}
+
+	/**
+	 * Evaluates the not yet evaluated phenotypes of the given
+	 * {@code population}. The evaluated phenotypes are set in place.
+	 *
+	 * @param population the phenotypes to evaluate
+	 * @return the number of timed out fitness evaluations
+	 * @throws IllegalStateException if the replaced phenotypes still time out
+	 *         after the maximal number of replacement rounds
+	 * @throws java.util.concurrent.CompletionException if one of the fitness
+	 *         calculations fails
+	 */
+	int evaluate(final List<Phenotype<G, C>> population) {
+		List<Integer> indexes = new ArrayList<>();
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			if (!population.get(i).isEvaluated()) {
+				indexes.add(i);
+			}
+		}
+
+		int timeouts = 0;
+		int round = 0;
+		while (!indexes.isEmpty()) {
+			indexes = evaluate(population, indexes);
+			timeouts += indexes.size();
+
+			if (_penalty != null) {
+				for (int i : indexes) {
+					population.set(i, population.get(i).withRawFitness(_penalty));
+				}
+				indexes.clear();
+			} else if (!indexes.isEmpty()) {
+				if (++round > _retries) {
+					throw new IllegalStateException(format(
+						"Fitness evaluation of %d phenotypes still exceeds " +
+						"the timeout of %s after %d replacements.",
+						indexes.size(), _timeout, _retries
+					));
+				}
+
+				for (int i : indexes) {
+					population.set(
+						i,
+						_factory.apply(population.get(i).getGeneration())
+					);
+				}
+			}
+		}
+
+		return timeouts;
+	}
+
+	// Evaluates the phenotypes with the given indexes and returns the indexes
+	// of the timed out phenotypes.
+	private List<Integer> evaluate(
+		final List<Phenotype<G, C>> population,
+		final List<Integer> indexes
+	) {
+		final int count = indexes.size();
+		final long timeout = _timeout.toNanos();
+
+		// Submission time of the evaluations, which starts their deadline.
+		final long[] submitted = new long[count];
+		final BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+
+		final List<CompletableFuture<Phenotype<G, C>>> futures =
+			new ArrayList<>(count);
+		for (int i = 0; i < count; ++i) {
+			final int index = i;
+			submitted[i] = System.nanoTime();
+			final CompletableFuture<Phenotype<G, C>> future =
+				_evaluation.apply(population.get(indexes.get(i)));
+			futures.add(future);
+			future.whenComplete((pt, error) -> completed.add(index));
+		}
+
+		final boolean[] finished = new boolean[count];
+		final List<Integer> timedOut = new ArrayList<>();
+		int pending = count;
+		try {
+			while (pending > 0) {
+				long wait = timeout;
+				final long now = System.nanoTime();
+				for (int i = 0; i < count; ++i) {
+					if (!finished[i]) {
+						final long remaining = submitted[i] + timeout - now;
+						if (remaining <= 0 && !futures.get(i).isDone()) {
+							futures.get(i).cancel(true);
+							finished[i] = true;
+							timedOut.add(indexes.get(i));
+							--pending;
+						} else {
+							wait = min(wait, remaining);
+						}
+					}
+				}
+
+				Integer index = pending > 0
+					? completed.poll(wait, TimeUnit.NANOSECONDS)
+					: null;
+				while (index != null) {
+					if (!finished[index]) {
+						population.set(
+							indexes.get(index),
+							futures.get(index).join()
+						);
+						finished[index] = true;
+						--pending;
+					}
+					index = completed.poll();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			for (CompletableFuture<?> future : futures) {
+				future.cancel(true);
+			}
+			throw (CancellationException)new CancellationException(
+				e.getMessage()
+			).initCause(e);
+		}
+
+		return timedOut;
+	}
+
+	/**
+	 * Return the maximal duration of one fitness evaluation.
+	 *
+	 * @return the evaluation timeout
+	 */
+	Duration timeout() {
+		return _timeout;
+	}
+
+	/**
+	 * Return the fitness of timed out phenotypes, or {@code null} if timed
+	 * out phenotypes are replaced.
+	 *
+	 * @return the penalty fitness
+	 */
+	C penalty() {
+		return _penalty;
+	}
+
+}
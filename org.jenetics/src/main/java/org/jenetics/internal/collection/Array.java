@@ -33,7 +33,7 @@ import java.util.Iterator;
  *
  * @param <T> the array element type
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 3.4
+ * @version 3.8
  * @since 3.4
  */
 public final class Array<T> implements Serializable {
@@ -125,6 +125,31 @@ public final class Array<T> implements Serializable {
 		_store.sort(from + _start, until + _start, comparator);
 	}
 
+	/**
+	 * Swap the elements of the given range with the elements of the
+	 * {@code other} array. The array indexes are not checked.
+	 *
+	 * @since 3.8
+	 *
+	 * @param from the start index of this array (inclusively)
+	 * @param until the end index of this array (exclusively)
+	 * @param other the other array
+	 * @param otherFrom the start index of the {@code other} array
+	 */
+	public void swap(
+		final int from,
+		final int until,
+		final Array<T> other,
+		final int otherFrom
+	) {
+		_store.swap(
+			from + _start,
+			until + _start,
+			other._store,
+			otherFrom + other._start
+		);
+	}
+
 	/**
 	 * Get the array value at the given {@code index}. The array index is not
 	 * checked.
@@ -376,6 +401,32 @@ public final class Array<T> implements Serializable {
 			final Comparator<? super T> comparator
 		);
 
+		/**
+		 * Swap the elements of the given range with the elements of the
+		 * {@code other} store. Stores with a primitive representation of its
+		 * elements can override this method for swapping the primitive
+		 * values directly.
+		 *
+		 * @since 3.8
+		 *
+		 * @param from the start index of this store (inclusively)
+		 * @param until the end index of this store (exclusively)
+		 * @param other the other store
+		 * @param otherFrom the start index of the {@code other} store
+		 */
+		public default void swap(
+			final int from,
+			final int until,
+			final Store<T> other,
+			final int otherFrom
+		) {
+			for (int i = until - from; --i >= 0;) {
+				final T temp = get(i + from);
+				set(i + from, other.get(otherFrom + i));
+				other.set(otherFrom + i, temp);
+			}
+		}
+
 		/**
 		 * Return the length of the array {@code Store}.
 		 *
@@ -471,6 +522,23 @@ public final class Array<T> implements Serializable {
 				_value.sort(from, until, comparator);
 			}
 
+			@Override
+			public void swap(
+				final int from,
+				final int until,
+				final Store<T> other,
+				final int otherFrom
+			) {
+				copyIfSealed();
+				if (other instanceof Ref<?>) {
+					final Ref<T> ref = (Ref<T>)other;
+					ref.copyIfSealed();
+					_value.swap(from, until, ref._value, otherFrom);
+				} else {
+					_value.swap(from, until, other, otherFrom);
+				}
+			}
+
 			void copyIfSealed() {
 				if (_sealed) {
 					_value = copy();
@@ -35,7 +35,7 @@ import org.jenetics.util.MSeq;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.4
+ * @version 3.8
  */
 public class ArrayMSeq<T> extends ArraySeq<T> implements MSeq<T> {
 	private static final long serialVersionUID = 1L;
@@ -125,10 +125,14 @@ public class ArrayMSeq<T> extends ArraySeq<T> implements MSeq<T> {
 		checkIndex(start, end, otherStart, other.length());
 
 		if (start < end) {
-			for (int i = end - start; --i >= 0;) {
-				final T temp = array.get(i + start);
-				array.set(i + start, other.get(otherStart + i));
-				other.set(otherStart + i, temp);
+			if (other instanceof ArrayMSeq<?>) {
+				array.swap(start, end, ((ArrayMSeq<T>)other).array, otherStart);
+			} else {
+				for (int i = end - start; --i >= 0;) {
+					final T temp = array.get(i + start);
+					array.set(i + start, other.get(otherStart + i));
+					other.set(otherStart + i, temp);
+				}
 			}
 		}
 	}
@@ -0,0 +1,154 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import static java.lang.String.format;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.jenetics.internal.collection.Array.Store;
+
+/**
+ * Random access list, which is backed by a {@link ChunkedStore}. Copying the
+ * list only copies the chunk references; a chunk is copied on its first
+ * write. Structural modifications, like adding or removing elements, move
+ * the elements into an {@link ArrayList} first.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.8
+ * @since 3.8
+ */
+public final class ChunkedList<T>
+	extends AbstractList<T>
+	implements RandomAccess, Serializable
+{
+
+	private static final long serialVersionUID = 1L;
+
+	// Either the chunked store or the array list is set.
+	private Store<T> _store;
+	private ArrayList<T> _list;
+
+	private ChunkedList(final Store<T> store) {
+		_store = store;
+	}
+
+	@Override
+	public T get(final int index) {
+		if (_store != null) {
+			checkIndex(index);
+			return _store.get(index);
+		}
+		return _list.get(index);
+	}
+
+	@Override
+	public T set(final int index, final T element) {
+		if (_store != null) {
+			checkIndex(index);
+			final T previous = _store.get(index);
+			_store.set(index, element);
+			return previous;
+		}
+		return _list.set(index, element);
+	}
+
+	@Override
+	public int size() {
+		return _store != null ? _store.length() : _list.size();
+	}
+
+	@Override
+	public void add(final int index, final T element) {
+		list().add(index, element);
+		++modCount;
+	}
+
+	@Override
+	public T remove(final int index) {
+		final T element = list().remove(index);
+		++modCount;
+		return element;
+	}
+
+	@Override
+	public void clear() {
+		_store = null;
+		_list = new ArrayList<>();
+		++modCount;
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= _store.length()) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d is out of bounds [0, %d)", index, _store.length()
+			));
+		}
+	}
+
+	// Move the elements into an array list, for structural modifications.
+	private List<T> list() {
+		if (_list == null) {
+			_list = new ArrayList<>(_store.length() + 1);
+			for (int i = 0, n = _store.length(); i < n; ++i) {
+				_list.add(_store.get(i));
+			}
+			_store = null;
+		}
+		return _list;
+	}
+
+	/**
+	 * Return a copy of this list. If this list is still backed by a chunked
+	 * store, the chunks are shared between this list and its copy, until
+	 * they are written.
+	 *
+	 * @return a copy of this list
+	 */
+	public ChunkedList<T> copy() {
+		return _store != null
+			? new ChunkedList<>(_store.copy(0, _store.length()))
+			: of(_list);
+	}
+
+	// The serialized form is a plain array list.
+	private Object writeReplace() {
+		return new ArrayList<>(this);
+	}
+
+	/**
+	 * Create a new chunked list with the elements of the given list.
+	 *
+	 * @param list the elements of the new list
+	 * @param <T> the element type
+	 * @return a new chunked list
+	 * @throws NullPointerException if the given {@code list} is {@code null}
+	 */
+	public static <T> ChunkedList<T> of(final List<? extends T> list) {
+		return new ChunkedList<>(ChunkedStore.of(list.toArray()));
+	}
+
+}
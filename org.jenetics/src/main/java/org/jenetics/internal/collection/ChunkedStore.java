@@ -0,0 +1,212 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import static java.util.Arrays.copyOfRange;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.jenetics.internal.collection.Array.Store;
+
+/**
+ * Object store, which splits its elements into chunks of fixed size. The
+ * chunks are shared between the copies of a store and are copied on the first
+ * write. Copying a store therefore only copies the chunk references and
+ * setting one element only copies one chunk.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.8
+ * @since 3.8
+ */
+public final class ChunkedStore<T> implements Store<T>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int CHUNK_SHIFT = 6;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	/**
+	 * The minimal length of a chunked store. Shorter stores are copied into
+	 * an {@link ObjectStore}.
+	 */
+	public static final int MIN_LENGTH = 1024;
+
+	private final Object[][] _chunks;
+	private final int _length;
+
+	// The chunks this store is allowed to write to, are marked with the
+	// '_owner' object. Copying the store resets the '_owner', which makes
+	// all chunks shared.
+	private transient Object[] _owners;
+	private transient Object _owner;
+
+	private ChunkedStore(final Object[][] chunks, final int length) {
+		_chunks = requireNonNull(chunks);
+		_length = length;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(final int index) {
+		return (T)_chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	@Override
+	public void set(final int index, final T value) {
+		chunk(index >>> CHUNK_SHIFT)[index & CHUNK_MASK] = value;
+	}
+
+	// Return the chunk with the given index for writing.
+	private Object[] chunk(final int index) {
+		if (_owner == null) {
+			_owner = new Object();
+		}
+		if (_owners == null) {
+			_owners = new Object[_chunks.length];
+		}
+		if (_owners[index] != _owner) {
+			_chunks[index] = _chunks[index].clone();
+			_owners[index] = _owner;
+		}
+
+		return _chunks[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super T> comparator
+	) {
+		final T[] values = (T[])toArray(from, until);
+		Arrays.sort(values, comparator);
+		for (int i = 0; i < values.length; ++i) {
+			set(i + from, values[i]);
+		}
+	}
+
+	@Override
+	public Store<T> copy(final int from, final int until) {
+		final Store<T> store;
+		if (until - from < MIN_LENGTH) {
+			store = ObjectStore.of(toArray(from, until));
+		} else if ((from & CHUNK_MASK) == 0) {
+			_owner = null;
+			final Object[][] chunks = copyOfRange(
+				_chunks,
+				from >>> CHUNK_SHIFT,
+				((until - 1) >>> CHUNK_SHIFT) + 1
+			);
+
+			// The last chunk is not shared, if it contains elements after
+			// the copied range.
+			if ((until & CHUNK_MASK) != 0) {
+				chunks[chunks.length - 1] = chunk(
+					chunks[chunks.length - 1], 0, until & CHUNK_MASK
+				);
+			}
+			store = new ChunkedStore<>(chunks, until - from);
+		} else {
+			store = of(toArray(from, until));
+		}
+
+		return store;
+	}
+
+	private Object[] toArray(final int from, final int until) {
+		final Object[] array = new Object[until - from];
+		for (int i = from; i < until; i += CHUNK_SIZE - (i & CHUNK_MASK)) {
+			final int index = i & CHUNK_MASK;
+			final int length = Math.min(CHUNK_SIZE - index, until - i);
+			System.arraycopy(
+				_chunks[i >>> CHUNK_SHIFT], index,
+				array, i - from, length
+			);
+		}
+
+		return array;
+	}
+
+	@Override
+	public ObjectStore<T> newInstance(final int length) {
+		return ObjectStore.ofLength(length);
+	}
+
+	@Override
+	public int length() {
+		return _length;
+	}
+
+	/**
+	 * Create a new chunked store with the elements of the given array.
+	 *
+	 * @param array the elements of the new store
+	 * @param <T> the element type
+	 * @return a new chunked store
+	 * @throws NullPointerException if the given {@code array} is {@code null}
+	 */
+	public static <T> ChunkedStore<T> of(final Object[] array) {
+		return of(array, 0, array.length);
+	}
+
+	/**
+	 * Create a new chunked store with the elements {@code [from, until)} of
+	 * the given array.
+	 *
+	 * @param array the elements of the new store
+	 * @param from the index of the first element (inclusively)
+	 * @param until the index of the last element (exclusively)
+	 * @param <T> the element type
+	 * @return a new chunked store
+	 * @throws NullPointerException if the given {@code array} is {@code null}
+	 */
+	public static <T> ChunkedStore<T> of(
+		final Object[] array,
+		final int from,
+		final int until
+	) {
+		final Object[][] chunks =
+			new Object[(until - from + CHUNK_MASK) >>> CHUNK_SHIFT][];
+		for (int i = 0; i < chunks.length; ++i) {
+			final int start = from + (i << CHUNK_SHIFT);
+			chunks[i] = chunk(array, start, Math.min(CHUNK_SIZE, until - start));
+		}
+
+		return new ChunkedStore<>(chunks, until - from);
+	}
+
+	// Return a new chunk with the given number of elements of the array. The
+	// remaining elements of the chunk are null.
+	private static Object[] chunk(
+		final Object[] array,
+		final int start,
+		final int length
+	) {
+		final Object[] chunk = new Object[CHUNK_SIZE];
+		System.arraycopy(array, start, chunk, 0, length);
+		return chunk;
+	}
+
+}
@@ -30,7 +30,7 @@ import org.jenetics.internal.collection.Array.Store;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 3.4
+ * @version 3.8
  * @since 3.4
  */
 public final class ObjectStore<T> implements Store<T>, Serializable {
@@ -64,9 +64,16 @@ public final class ObjectStore<T> implements Store<T>, Serializable {
 		Arrays.sort((T[])_array, from, until, comparator);
 	}
 
+	/**
+	 * Copies the given range of this store. If the range is at least
+	 * {@link ChunkedStore#MIN_LENGTH} elements long, the copy is a
+	 * {@link ChunkedStore}, which makes further copies of it cheap.
+	 */
 	@Override
-	public ObjectStore<T> copy(final int from, final int until) {
-		return new ObjectStore<>(copyOfRange(_array, from, until));
+	public Store<T> copy(final int from, final int until) {
+		return until - from < ChunkedStore.MIN_LENGTH
+			? new ObjectStore<>(copyOfRange(_array, from, until))
+			: ChunkedStore.of(_array, from, until);
 	}
 
 	@Override
@@ -20,12 +20,20 @@
 package org.jenetics.internal.math;
 
 import static java.lang.Math.abs;
+import static java.lang.Math.floor;
+import static java.lang.Math.log;
+import static java.lang.Math.log1p;
 import static java.lang.Math.nextDown;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static org.jenetics.internal.util.require.probability;
 
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import org.jenetics.internal.util.require;
 
@@ -34,11 +42,27 @@ import org.jenetics.internal.util.require;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.0
+ * @version 3.8
  */
 public final class random {
 	private random() {require.noInstance();}
 
+	/**
+	 * Index selection probabilities smaller than this threshold are sampled
+	 * by skipping over the not selected indexes, instead of drawing one
+	 * random number for every index.
+	 */
+	// Counting the indexes of a range of 1,000,000 elements:
+	//    p         filter    skip
+	//    0.0001    3.89ms    0.05ms
+	//    0.001     3.21ms    0.11ms
+	//    0.01      3.49ms    0.61ms
+	//    0.1       6.61ms    3.95ms
+	//    0.2      10.35ms    8.01ms
+	//    0.3      12.58ms   11.92ms
+	//    0.5      17.93ms   19.75ms
+	static final double SKIP_SAMPLING_THRESHOLD = 0.25;
+
 	public static byte nextByte(final Random random) {
 		return (byte)nextInt(random, Byte.MIN_VALUE, Byte.MAX_VALUE);
 	}
@@ -287,7 +311,10 @@ public final class random {
 
 	/**
 	 * Create an {@code IntStream} which creates random indexes within the
-	 * given range and the index probability.
+	 * given range and the index probability. For probabilities smaller than
+	 * {@code 0.25}, the indexes are created by
+	 * {@link #skipIndexes(Random, int, int, double)}, which only needs one
+	 * random number per selected index.
 	 *
 	 * @since 3.0
 	 *
@@ -313,8 +340,88 @@ public final class random {
 			? IntStream.empty()
 			: equals(p, 1, 1E-20)
 				? IntStream.range(start, end)
-				: IntStream.range(start, end)
-					.filter(i -> random.nextInt() < P);
+				: p < SKIP_SAMPLING_THRESHOLD
+					? skipIndexes(random, start, end, p)
+					: IntStream.range(start, end)
+						.filter(i -> random.nextInt() < P);
+	}
+
+	/**
+	 * Create an {@code IntStream} which creates random indexes within the
+	 * given range and the index probability. Instead of drawing a random
+	 * number for every index, the distance to the next selected index is
+	 * drawn from the geometric distribution with parameter {@code p}. The
+	 * costs are therefore proportional to the number of selected indexes,
+	 * {@code (end - start)*p}, and not to the size of the index range.
+	 *
+	 * @since 3.8
+	 *
+	 * @param random the random engine used for calculating the random
+	 *        indexes
+	 * @param start the start index (inclusively)
+	 * @param end the end index (exclusively)
+	 * @param p the index selection probability
+	 * @return an new random index stream
+	 * @throws IllegalArgumentException if {@code p} is not a
+	 *         valid probability.
+	 */
+	public static IntStream skipIndexes(
+		final Random random,
+		final int start,
+		final int end,
+		final double p
+	) {
+		probability(p);
+
+		return p > 0
+			? StreamSupport.intStream(
+				new SkipIndexSpliterator(random, start, end, p), false)
+			: IntStream.empty();
+	}
+
+	private static final class SkipIndexSpliterator
+		extends Spliterators.AbstractIntSpliterator
+	{
+		private final Random _random;
+		private final int _end;
+		private final double _lnq;
+
+		private double _index;
+
+		SkipIndexSpliterator(
+			final Random random,
+			final int start,
+			final int end,
+			final double p
+		) {
+			super(
+				Math.max(end - start, 0),
+				Spliterator.ORDERED |
+				Spliterator.DISTINCT |
+				Spliterator.NONNULL |
+				Spliterator.IMMUTABLE
+			);
+
+			_random = requireNonNull(random);
+			_end = end;
+			_lnq = log1p(-p);
+			_index = start - 1.0;
+		}
+
+		@Override
+		public boolean tryAdvance(final IntConsumer action) {
+			if (_index < _end) {
+				// Number of skipped indexes: floor(ln(u)/ln(1 - p)), u in (0, 1].
+				_index += 1.0 + floor(log(1.0 - _random.nextDouble())/_lnq);
+				if (_index < _end) {
+					action.accept((int)_index);
+					return true;
+				}
+			}
+
+			return false;
+		}
+
 	}
 
 	private static
@@ -21,21 +21,26 @@ package org.jenetics.internal.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jenetics.internal.collection.Stack;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 2.0
+ * @version 3.8
  * @since 2.0
  */
 public abstract class Concurrency implements Executor, AutoCloseable {
@@ -66,14 +71,37 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 	 * @return a new Concurrency object
 	 */
 	public static Concurrency with(final Executor executor) {
+		return with(executor, new ExecutionCost());
+	}
+
+	/**
+	 * Return an new Concurrency object from the given executor. The chunk
+	 * size, used for executing a list of runnables, is derived from the
+	 * execution times recorded in the given {@code cost} object. Reusing the
+	 * {@code cost} object lets successive executions of similar tasks adapt
+	 * the chunk size to the measured task costs.
+	 *
+	 * @since 3.8
+	 *
+	 * @param executor the underlying Executor
+	 * @param cost the execution cost of the executed tasks
+	 * @return a new Concurrency object
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static Concurrency with(
+		final Executor executor,
+		final ExecutionCost cost
+	) {
+		requireNonNull(cost);
+
 		if (executor instanceof ForkJoinPool) {
-			return new ForkJoinPoolConcurrency((ForkJoinPool)executor);
+			return new ForkJoinPoolConcurrency((ForkJoinPool)executor, cost);
 		} else if (executor instanceof ExecutorService) {
-			return new ExecutorServiceConcurrency((ExecutorService)executor);
+			return new ExecutorServiceConcurrency((ExecutorService)executor, cost);
 		} else if (executor == SERIAL_EXECUTOR) {
 			return SERIAL_EXECUTOR;
 		} else {
-			return new ExecutorConcurrency(executor);
+			return new ExecutorConcurrency(executor, cost);
 		}
 	}
 
@@ -86,6 +114,39 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		return with(ForkJoinPool.commonPool());
 	}
 
+	/**
+	 * Return a new Concurrency object, which executes every runnable as its
+	 * own task, without combining them into chunks. This is the preferable
+	 * strategy for (I/O-bound) tasks, which spend most of the time waiting,
+	 * and should therefore be executed with an executor which creates a
+	 * (lightweight) thread for every task, like the {@link #perTaskExecutor()}.
+	 *
+	 * @since 3.8
+	 *
+	 * @param executor the underlying Executor
+	 * @return a new Concurrency object
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}
+	 */
+	public static Concurrency perTask(final Executor executor) {
+		return new PerTaskConcurrency(executor);
+	}
+
+	/**
+	 * Return the (shared) executor, which executes every task in its own
+	 * thread. If the Java runtime supports virtual threads, every task is
+	 * executed in a new virtual thread. Otherwise, a cached thread pool with
+	 * daemon threads is used, which creates a new thread if no idle thread is
+	 * available.
+	 *
+	 * @since 3.8
+	 *
+	 * @return the executor which executes every task in its own thread
+	 */
+	public static Executor perTaskExecutor() {
+		return PerTaskExecutor.INSTANCE;
+	}
+
 
 	/**
 	 * This Concurrency uses a ForkJoinPool.
@@ -93,9 +154,14 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 	private static final class ForkJoinPoolConcurrency extends Concurrency {
 		private final Stack<ForkJoinTask<?>> _tasks = new Stack<>();
 		private final ForkJoinPool _pool;
+		private final ExecutionCost _cost;
 
-		ForkJoinPoolConcurrency(final ForkJoinPool pool) {
+		ForkJoinPoolConcurrency(
+			final ForkJoinPool pool,
+			final ExecutionCost cost
+		) {
 			_pool = requireNonNull(pool);
+			_cost = requireNonNull(cost);
 		}
 
 		@Override
@@ -105,7 +171,7 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			_tasks.push(_pool.submit(new RunnablesAction(runnables)));
+			_tasks.push(_pool.submit(new RunnablesAction(runnables, _cost)));
 		}
 
 		@Override
@@ -127,9 +193,14 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 	private static final class ExecutorServiceConcurrency extends Concurrency {
 		private final Stack<Future<?>> _futures = new Stack<>();
 		private final ExecutorService _service;
+		private final ExecutionCost _cost;
 
-		ExecutorServiceConcurrency(final ExecutorService service) {
+		ExecutorServiceConcurrency(
+			final ExecutorService service,
+			final ExecutionCost cost
+		) {
 			_service = requireNonNull(service);
+			_cost = requireNonNull(cost);
 		}
 
 		@Override
@@ -139,10 +210,7 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			final int[] parts = partition(runnables.size(), CORES + 1);
-			for (int i = 0; i < parts.length - 1; ++i) {
-				execute(new RunnablesRunnable(runnables, parts[i], parts[i + 1]));
-			}
+			workers(runnables, _cost).forEach(this::execute);
 		}
 
 		@Override
@@ -167,12 +235,14 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 	/**
 	 * This Concurrency uses an Executor.
 	 */
-	private static final class ExecutorConcurrency extends Concurrency {
+	private static class ExecutorConcurrency extends Concurrency {
 		private final Stack<FutureTask<?>> _tasks = new Stack<>();
 		private final Executor _executor;
+		private final ExecutionCost _cost;
 
-		ExecutorConcurrency(final Executor executor) {
+		ExecutorConcurrency(final Executor executor, final ExecutionCost cost) {
 			_executor = requireNonNull(executor);
+			_cost = requireNonNull(cost);
 		}
 
 		@Override
@@ -184,10 +254,7 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			final int[] parts = partition(runnables.size(), CORES + 1);
-			for (int i = 0; i < parts.length - 1; ++i) {
-				execute(new RunnablesRunnable(runnables, parts[i], parts[i + 1]));
-			}
+			workers(runnables, _cost).forEach(this::execute);
 		}
 
 		@Override
@@ -204,6 +271,51 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		}
 	}
 
+	/**
+	 * This Concurrency executes every runnable as its own task.
+	 */
+	private static final class PerTaskConcurrency extends ExecutorConcurrency {
+
+		PerTaskConcurrency(final Executor executor) {
+			super(executor, new ExecutionCost());
+		}
+
+		@Override
+		public void execute(final List<? extends Runnable> runnables) {
+			for (Runnable runnable : runnables) {
+				execute(runnable);
+			}
+		}
+	}
+
+	/**
+	 * Holder of the lazily created per-task executor.
+	 */
+	private static final class PerTaskExecutor {
+		static final Executor INSTANCE = create();
+
+		// Using reflection for creating a virtual thread executor, which is
+		// only available for Java 21 and above.
+		private static Executor create() {
+			try {
+				return (Executor)Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+			} catch (ReflectiveOperationException|RuntimeException e) {
+				final AtomicInteger count = new AtomicInteger();
+				final ThreadFactory factory = runnable -> {
+					final Thread thread = new Thread(
+						runnable,
+						"jenetics-per-task-" + count.incrementAndGet()
+					);
+					thread.setDaemon(true);
+					return thread;
+				};
+				return Executors.newCachedThreadPool(factory);
+			}
+		}
+	}
+
 	/**
 	 * This Concurrency executes the runnables within the main thread.
 	 */
@@ -228,81 +340,35 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 
 	/**
-	 * Return a array with the indexes of the partitions of an array with the
-	 * given size. The length of the returned array is {@code min(size, prts) + 1}.
-	 * <p>
-	 * Some examples:
-	 * <pre>
-	 * 	 partition(10, 3): [0, 3, 6, 10]
-	 * 	 partition(15, 6): [0, 2, 4, 6, 9, 12, 15]
-	 * 	 partition(5, 10): [0, 1, 2, 3, 4, 5]
-	 * </pre>
-	 *
-	 * The following examples prints the start index (inclusive) and the end
-	 * index (exclusive) of the {@code partition(15, 6)}.
-	 * <pre>{@code
-	 * int[] parts = partition(15, 6);
-	 * for (int i = 0; i < parts.length - 1; ++i) {
-	 *     System.out.println(i + ": " + parts[i] + "\t" + parts[i + 1]);
-	 * }
-	 * }</pre>
-	 * <pre>
-	 * 	 0: 0 	2
-	 * 	 1: 2 	4
-	 * 	 2: 4 	6
-	 * 	 3: 6 	9
-	 * 	 4: 9 	12
-	 * 	 5: 12	15
-	 * </pre>
+	 * Return the workers which execute the given {@code runnables}. The
+	 * workers share the index of the next chunk of runnables to execute. A
+	 * worker which has finished its chunk takes the next one, which balances
+	 * uneven task costs. The chunk size is derived from the given execution
+	 * {@code cost}.
 	 *
-	 * This example shows how this can be used in an concurrent environment:
-	 * <pre>{@code
-	 * try (final Concurrency c = Concurrency.start()) {
-	 *     final int[] parts = arrays.partition(population.size(), _maxThreads);
-	 *
-	 *     for (int i = 0; i < parts.length - 1; ++i) {
-	 *         final int part = i;
-	 *         c.execute(new Runnable() { @Override public void run() {
-	 *             for (int j = parts[part + 1]; --j <= parts[part];) {
-	 *                 population.get(j).evaluate();
-	 *             }
-	 *         }});
-	 *     }
-	 * }
-	 * }</pre>
-	 *
-	 * @param size the size of the array to partition.
-	 * @param parts the number of parts the (virtual) array should be partitioned.
-	 * @return the partition array with the length of {@code min(size, parts) + 1}.
-	 * @throws IllegalArgumentException if {@code size} or {@code p} is less than one.
+	 * @param runnables the runnables to execute
+	 * @param cost the execution cost of the runnables
+	 * @return the workers which execute the given {@code runnables}
 	 */
-	private static int[] partition(final int size, final int parts) {
-		if (size < 1) {
-			throw new IllegalArgumentException(
-				"Size must greater than zero: " + size
-			);
-		}
-		if (parts < 1) {
-			throw new IllegalArgumentException(
-				"Number of partitions must greater than zero: " + parts
-			);
-		}
-
-		final int pts = Math.min(size, parts);
-		final int[] partition = new int[pts + 1];
-
-		final int bulk = size/pts;
-		final int rest = size%pts;
-		assert (bulk*pts + rest) == size;
-
-		for (int i = 0, n = pts - rest; i < n; ++i) {
-			partition[i] = i*bulk;
-		}
-		for (int i = 0, n = rest + 1; i < n; ++i) {
-			partition[pts - rest + i] = (pts - rest)*bulk + i*(bulk + 1);
+	private static List<Runnable> workers(
+		final List<? extends Runnable> runnables,
+		final ExecutionCost cost
+	) {
+		final List<Runnable> workers = new ArrayList<>();
+		if (!runnables.isEmpty()) {
+			final List<? extends Runnable> tasks = runnables instanceof RandomAccess
+				? runnables
+				: new ArrayList<>(runnables);
+
+			final int chunk = cost.chunkSize(tasks.size(), CORES + 1);
+			final int count = Math.min((tasks.size() + chunk - 1)/chunk, CORES + 1);
+			final AtomicInteger next = new AtomicInteger();
+			for (int i = 0; i < count; ++i) {
+				workers.add(new RunnablesWorker(tasks, next, chunk, cost));
+			}
 		}
 
-		return partition;
+		return workers;
 	}
 
 }
@@ -0,0 +1,107 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Measures the execution time of {@link Runnable} tasks and derives the
+ * number of tasks, which are executed in one chunk, from it. The chunk size
+ * is chosen, that the execution of one chunk takes about
+ * {@link #TARGET_CHUNK_NANOS}. Cheap tasks are therefore executed in big
+ * chunks, which keeps the scheduling overhead small, and expensive tasks are
+ * executed one by one, which balances uneven task costs between the worker
+ * threads.
+ * <p>
+ * The measured execution times are smoothed with an exponential moving
+ * average. An {@code ExecutionCost} object can therefore be reused for
+ * successive executions of similar tasks, e.g. the fitness evaluation of
+ * successive generations.
+ * <p>
+ * <em>This class is thread safe.</em>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.8
+ * @since 3.8
+ */
+public final class ExecutionCost {
+
+	/**
+	 * The targeted execution time of one chunk of tasks, in nanoseconds.
+	 */
+	public static final long TARGET_CHUNK_NANOS = 100_000;
+
+	// Number of chunks per worker, if the task cost is not known yet.
+	private static final int INITIAL_CHUNKS_PER_WORKER = 4;
+
+	private double _taskNanos = Double.NaN;
+
+	/**
+	 * Record the execution time of the given number of tasks.
+	 *
+	 * @param tasks the number of executed tasks
+	 * @param nanos the execution time of the tasks, in nanoseconds
+	 */
+	public void record(final int tasks, final long nanos) {
+		if (tasks > 0 && nanos >= 0) {
+			final double sample = (double)nanos/tasks;
+			synchronized (this) {
+				_taskNanos = Double.isNaN(_taskNanos)
+					? sample
+					: 0.5*_taskNanos + 0.5*sample;
+			}
+		}
+	}
+
+	/**
+	 * Return the (smoothed) execution time of one task, in nanoseconds, or
+	 * {@link Double#NaN} if no execution has been recorded yet.
+	 *
+	 * @return the execution time of one task, in nanoseconds
+	 */
+	public synchronized double taskNanos() {
+		return _taskNanos;
+	}
+
+	/**
+	 * Return the number of tasks, which should be executed in one chunk. The
+	 * chunk size is never greater than the size of a static partition of the
+	 * tasks onto the given number of workers.
+	 *
+	 * @param size the number of tasks to execute
+	 * @param workers the number of workers the tasks are executed with
+	 * @return the number of tasks executed in one chunk
+	 * @throws IllegalArgumentException if the given {@code size} or the
+	 *         number of {@code workers} is smaller than one
+	 */
+	public int chunkSize(final int size, final int workers) {
+		require.positive(size);
+		require.positive(workers);
+
+		final int partition = (size + workers - 1)/workers;
+		final double nanos = taskNanos();
+
+		return Double.isNaN(nanos)
+			? max(partition/INITIAL_CHUNKS_PER_WORKER, 1)
+			: (int)max(min(TARGET_CHUNK_NANOS/max(nanos, 1.0), partition), 1);
+	}
+
+}
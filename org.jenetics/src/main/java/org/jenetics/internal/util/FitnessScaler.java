@@ -0,0 +1,65 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import java.io.Serializable;
+import java.util.function.Function;
+
+/**
+ * Holds the identity fitness scaler, which is the default fitness scaler of
+ * the evolution engine. Phenotypes with this scaler share their raw fitness
+ * value as fitness value, instead of scaling it lazily. The scaler is
+ * identified by reference, since {@link Function#identity()} doesn't
+ * guarantee to return the same instance.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.8
+ * @version 3.8
+ */
+public final class FitnessScaler {
+	private FitnessScaler() {require.noInstance();}
+
+	private static final Function<Object, Object> IDENTITY =
+		(Function<Object, Object> & Serializable)a -> a;
+
+	/**
+	 * Return the identity fitness scaler.
+	 *
+	 * @param <C> the fitness type
+	 * @return the identity fitness scaler
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C> Function<C, C> identity() {
+		return (Function<C, C>)IDENTITY;
+	}
+
+	/**
+	 * Test whether the given {@code scaler} is the identity fitness scaler,
+	 * returned by {@link #identity()}.
+	 *
+	 * @param scaler the fitness scaler to test
+	 * @return {@code true} if the given {@code scaler} is the identity
+	 *         fitness scaler
+	 */
+	public static boolean isIdentity(final Function<?, ?> scaler) {
+		return scaler == IDENTITY;
+	}
+
+}
@@ -28,7 +28,7 @@ import java.util.concurrent.RecursiveAction;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 2.0
+ * @version 3.8
  * @since 2.0
  */
 final class RunnablesAction extends RecursiveAction {
@@ -40,27 +40,45 @@ final class RunnablesAction extends RecursiveAction {
 	private final int _high;
 	private final int _low;
 	private final Integer _threshold;
+	private final ExecutionCost _cost;
 
 	private RunnablesAction(
 		final List<? extends Runnable> runnables,
 		final int low,
 		final int high,
-		final Integer threshold
+		final Integer threshold,
+		final ExecutionCost cost
 	) {
 		_runnables = runnables;
 		_low = low;
 		_high = high;
 		_threshold = threshold;
+		_cost = cost;
 	}
 
 	public RunnablesAction(final List<? extends Runnable> runnables) {
+		this(runnables, null);
+	}
+
+	/**
+	 * Create a new action, which derives the splitting threshold from the
+	 * recorded execution times of the given {@code cost} object.
+	 *
+	 * @param runnables the runnables to execute
+	 * @param cost the execution cost of the runnables, may be {@code null}
+	 */
+	public RunnablesAction(
+		final List<? extends Runnable> runnables,
+		final ExecutionCost cost
+	) {
 		this(
 			runnables instanceof RandomAccess ?
 				runnables :
 				new ArrayList<>(runnables),
 			0,
 			runnables.size(),
-			null
+			null,
+			cost
 		);
 	}
 
@@ -68,21 +86,27 @@ final class RunnablesAction extends RecursiveAction {
 	protected void compute() {
 		final int threshold = _threshold != null ? _threshold : threshold();
 
-		if (_high - _low < threshold) {
+		if (_high - _low <= threshold) {
+			final long start = System.nanoTime();
 			for (int i = _low; i < _high; ++i) {
 				_runnables.get(i).run();
 			}
+			if (_cost != null) {
+				_cost.record(_high - _low, System.nanoTime() - start);
+			}
 		} else {
 			final int mid = (_low + _high) >>> 1;
 			invokeAll(
-				new RunnablesAction(_runnables, _low, mid, threshold),
-				new RunnablesAction(_runnables, mid, _high, threshold)
+				new RunnablesAction(_runnables, _low, mid, threshold, _cost),
+				new RunnablesAction(_runnables, mid, _high, threshold, _cost)
 			);
 		}
 	}
 
 	private int threshold() {
-		return max(_runnables.size()/(Concurrency.CORES*2), DEFAULT_THRESHOLD);
+		return _cost != null && !Double.isNaN(_cost.taskNanos())
+			? _cost.chunkSize(max(_runnables.size(), 1), Concurrency.CORES*2)
+			: max(_runnables.size()/(Concurrency.CORES*2), DEFAULT_THRESHOLD);
 	}
 
 }
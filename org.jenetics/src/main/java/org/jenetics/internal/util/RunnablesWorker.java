@@ -20,32 +20,50 @@
 package org.jenetics.internal.util;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Executes the given runnables in chunks. All workers of one execution share
+ * the index of the next chunk, which lets fast workers take over the chunks
+ * of slow ones. The execution time of every chunk is recorded with the given
+ * {@link ExecutionCost}.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 2.0
- * @since 2.0
+ * @version 3.8
+ * @since 3.8
  */
-final class RunnablesRunnable implements Runnable {
+final class RunnablesWorker implements Runnable {
 
 	private final List<? extends Runnable> _runnables;
-	private final int _start;
-	private final int _end;
+	private final AtomicInteger _next;
+	private final int _chunk;
+	private final ExecutionCost _cost;
 
-	RunnablesRunnable(
+	RunnablesWorker(
 		final List<? extends Runnable> runnables,
-		final int start,
-		final int end
+		final AtomicInteger next,
+		final int chunk,
+		final ExecutionCost cost
 	) {
 		_runnables = runnables;
-		_start = start;
-		_end = end;
+		_next = next;
+		_chunk = chunk;
+		_cost = cost;
 	}
 
 	@Override
 	public void run() {
-		for (int i = _start; i < _end; ++i) {
-			_runnables.get(i).run();
+		final int size = _runnables.size();
+
+		int start;
+		while ((start = _next.getAndAdd(_chunk)) < size) {
+			final int end = Math.min(start + _chunk, size);
+
+			final long begin = System.nanoTime();
+			for (int i = start; i < end; ++i) {
+				_runnables.get(i).run();
+			}
+			_cost.record(end - start, System.nanoTime() - begin);
 		}
 	}
 
@@ -41,7 +41,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 3.8
  */
 public final class bit {
 	private bit() {require.noInstance();}
@@ -179,10 +179,75 @@ public final class bit {
 		final byte[] data, final int start, final int end,
 		final byte[] otherData, final int otherStart
 	) {
-		for (int i = end - start; --i >= 0;) {
-			final boolean temp = get(data, i + start);
-			set(data, i + start, get(otherData, otherStart + i));
-			set(otherData, otherStart + i, temp);
+		if (start == otherStart) {
+			swapAligned(data, start, end, otherData);
+		} else {
+			for (int i = end - start; --i >= 0;) {
+				final boolean temp = get(data, i + start);
+				set(data, i + start, get(otherData, otherStart + i));
+				set(otherData, otherStart + i, temp);
+			}
+		}
+	}
+
+	// Swaps the bit range [start, end) of the two arrays byte wise. Only the
+	// first and the last byte of the range must be masked.
+	private static void swapAligned(
+		final byte[] data, final int start, final int end,
+		final byte[] otherData
+	) {
+		if (start < end) {
+			final int first = start >>> 3;
+			final int last = (end - 1) >>> 3;
+			final int firstMask = 0xFF << (start & 7);
+			final int lastMask = 0xFF >>> (7 - ((end - 1) & 7));
+
+			if (first == last) {
+				swap(data, otherData, first, firstMask & lastMask);
+			} else {
+				swap(data, otherData, first, firstMask);
+				for (int i = first + 1; i < last; ++i) {
+					final byte temp = data[i];
+					data[i] = otherData[i];
+					otherData[i] = temp;
+				}
+				swap(data, otherData, last, lastMask);
+			}
+		}
+	}
+
+	// Swaps the masked bits of the byte with the given index.
+	private static void swap(
+		final byte[] data,
+		final byte[] otherData,
+		final int index,
+		final int mask
+	) {
+		final int diff = (data[index] ^ otherData[index]) & mask;
+		data[index] ^= diff;
+		otherData[index] ^= diff;
+	}
+
+	/**
+	 * Swap all bits of the two given arrays, which are set in the given
+	 * {@code mask} array. The arrays are processed byte wise.
+	 *
+	 * @since 3.8
+	 *
+	 * @param data the first byte array which are used for swapping.
+	 * @param otherData the other byte array to swap the bits with.
+	 * @param mask the bits to swap
+	 * @throws IndexOutOfBoundsException if one of the data arrays is shorter
+	 *         than the {@code mask} array
+	 * @throws NullPointerException if one of the arrays is {@code null}.
+	 */
+	public static void swap(
+		final byte[] data,
+		final byte[] otherData,
+		final byte[] mask
+	) {
+		for (int i = mask.length; --i >= 0;) {
+			swap(data, otherData, i, mask[i]);
 		}
 	}
 
@@ -21,6 +21,7 @@ package org.jenetics;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertTrue;
 
 import java.math.BigInteger;
@@ -150,6 +151,44 @@ public class BitChromosomeTest extends ChromosomeTester<BitGene> {
 		assertTrue(c.zeros().allMatch(i -> !c.get(i)));
 	}
 
+	@Test
+	public void invertedOnesZeros() {
+		final BitChromosome c = BitChromosome.of(1003, 0.3).invert();
+
+		assertTrue(c.ones().allMatch(i -> i < c.length() && c.get(i)));
+		assertTrue(c.zeros().allMatch(i -> i < c.length() && !c.get(i)));
+		assertEquals(c.ones().count() + c.zeros().count(), c.length());
+	}
+
+	@Test
+	public void toLongArray() {
+		final BitChromosome c = BitChromosome.of(1003, 0.5).invert();
+
+		final long[] words = c.toLongArray();
+		assertEquals(words.length, 16);
+		for (int i = 0; i < words.length*64; ++i) {
+			final boolean value = (words[i >>> 6] & (1L << (i & 63))) != 0;
+			assertEquals(value, i < c.length() && c.get(i), "Index " + i);
+		}
+		assertEquals(words, BitChromosome.of(c.toBitSet(), c.length()).toLongArray());
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void toLongArrayTooShort() {
+		BitChromosome.of(129).toLongArray(new long[2]);
+	}
+
+	@Test
+	public void equalsInverted() {
+		final BitChromosome c = BitChromosome.of(1003, 0.5);
+		assertEquals(c.invert().invert(), c);
+		assertEquals(
+			BitChromosome.of(c.invert().toBitSet(), c.length()),
+			c.invert()
+		);
+		assertNotEquals(c.invert(), c);
+	}
+
 	@Test(invocationCount = 5)
 	public void toBigInteger() {
 		final LCG64ShiftRandom random = new LCG64ShiftRandom();
@@ -89,6 +89,30 @@ public class BoltzmannSelectorTest
 		});
 	}
 
+	@Test(dataProvider = "expectedDistribution", groups = {"statistics"})
+	public void selectDistributionAlias(
+		final Double b,
+		final Named<double[]> expected,
+		final Optimize opt
+	) {
+		retry(3, () -> {
+			final int loops = 50;
+			final int npopulation = POPULATION_COUNT;
+
+			final ThreadLocal<LCG64ShiftRandom> random = new LCG64ShiftRandom.ThreadLocal();
+			using(random, r -> {
+				final Histogram<Double> distribution = SelectorTester.distribution(
+					new BoltzmannSelector<>(b, ProbabilitySelector.Sampling.ALIAS),
+					opt,
+					npopulation,
+					loops
+				);
+
+				assertDistribution(distribution, expected.value, 0.001, 5);
+			});
+		});
+	}
+
 	@DataProvider(name = "expectedDistribution")
 	public Object[][] expectedDistribution() {
 		final String resource =
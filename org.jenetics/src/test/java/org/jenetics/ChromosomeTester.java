@@ -32,6 +32,18 @@ public abstract class ChromosomeTester<G extends Gene<?, G>>
 	extends ObjectTester<Chromosome<G>>
 {
 
+	/**
+	 * Return {@code true} if the tested chromosome stores its gene objects.
+	 * Chromosomes which only store the alleles, in a primitive array, create
+	 * a new gene object for every access. The genes of these chromosomes are
+	 * checked for equality instead of identity.
+	 *
+	 * @return {@code true} if the tested chromosome stores its gene objects
+	 */
+	protected boolean storesGenes() {
+		return true;
+	}
+
 	@Test
 	public void getGene() {
 		final Chromosome<G> c = factory().newInstance();
@@ -39,7 +51,11 @@ public abstract class ChromosomeTester<G extends Gene<?, G>>
 
 		Assert.assertEquals(c.getGene(), genes.get(0));
 		for (int i = 0; i < genes.length(); ++i) {
-			Assert.assertSame(c.getGene(i), genes.get(i));
+			if (storesGenes()) {
+				Assert.assertSame(c.getGene(i), genes.get(i));
+			} else {
+				Assert.assertEquals(c.getGene(i), genes.get(i));
+			}
 		}
 	}
 
@@ -29,6 +29,7 @@ import org.testng.annotations.Test;
 
 import org.jenetics.stat.Histogram;
 import org.jenetics.stat.MinMax;
+import org.jenetics.util.MSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
@@ -70,4 +71,59 @@ public class DoubleChromosomeTest
 		});
 	}
 
+	@Override
+	protected boolean storesGenes() {
+		return false;
+	}
+
+	@Test
+	public void toArray() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 10, 1000);
+		final double[] values = chromosome.toArray();
+
+		Assert.assertEquals(values.length, chromosome.length());
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], chromosome.getGene(i).doubleValue());
+			Assert.assertEquals(values[i], chromosome.doubleValue(i));
+		}
+	}
+
+	@Test
+	public void mixedGeneBounds() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(
+			DoubleGene.of(1, 0, 10),
+			DoubleGene.of(20, 10, 30),
+			DoubleGene.of(5, 0, 10)
+		);
+
+		Assert.assertEquals(chromosome.getGene(0), DoubleGene.of(1, 0, 10));
+		Assert.assertEquals(chromosome.getGene(1), DoubleGene.of(20, 10, 30));
+		Assert.assertEquals(chromosome.getGene(2), DoubleGene.of(5, 0, 10));
+		Assert.assertEquals(chromosome.toArray(), new double[]{1, 20, 5});
+		Assert.assertTrue(chromosome.isValid());
+
+		final DoubleChromosome invalid = DoubleChromosome.of(
+			DoubleGene.of(1, 0, 10),
+			DoubleGene.of(40, 10, 30)
+		);
+		Assert.assertFalse(invalid.isValid());
+	}
+
+	@Test
+	public void newInstanceFromGeneCopy() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 10, 100);
+		final MSeq<DoubleGene> genes = chromosome.toSeq().copy();
+		genes.set(3, DoubleGene.of(7, 0, 10));
+		genes.set(5, DoubleGene.of(11, 10, 20));
+
+		final DoubleChromosome altered = chromosome.newInstance(genes.toISeq());
+		Assert.assertEquals(altered.doubleValue(3), 7.0);
+		Assert.assertEquals(altered.getGene(5), DoubleGene.of(11, 10, 20));
+		Assert.assertEquals(altered.getGene(4), chromosome.getGene(4));
+
+		// The original chromosome must not be changed.
+		Assert.assertEquals(chromosome.toSeq(), chromosome.toSeq().copy());
+		Assert.assertNotEquals(chromosome.getGene(5), DoubleGene.of(11, 10, 20));
+	}
+
 }
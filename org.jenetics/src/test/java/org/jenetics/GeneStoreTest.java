@@ -0,0 +1,173 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class GeneStoreTest {
+
+	@Test
+	public void packedSeq() {
+		final ISeq<DoubleGene> genes = DoubleChromosome.of(0, 10, 100).toSeq();
+		Assert.assertNotNull(DoubleGeneStore.of(genes));
+		Assert.assertSame(DoubleGeneStore.pack(genes), genes);
+
+		final ISeq<DoubleGene> objects = ISeq.of(genes.asList());
+		Assert.assertNull(DoubleGeneStore.of(objects));
+		Assert.assertEquals(DoubleGeneStore.pack(objects), genes);
+		Assert.assertNotNull(DoubleGeneStore.of(DoubleGeneStore.pack(objects)));
+	}
+
+	@Test
+	public void foreignGenes() {
+		final MSeq<IntegerGene> genes = IntegerChromosome.of(0, 10, 20)
+			.toSeq().copy();
+
+		final IntegerGene gene = IntegerGene.of(50, 40, 60);
+		genes.set(5, gene);
+		Assert.assertSame(genes.get(5), gene);
+
+		genes.set(5, IntegerGene.of(5, 0, 10));
+		Assert.assertEquals(genes.get(5), IntegerGene.of(5, 0, 10));
+
+		final IntegerChromosome ch = IntegerChromosome.of(0, 10, 20)
+			.newInstance(genes.toISeq());
+		Assert.assertEquals(ch.toSeq(), genes.toISeq());
+	}
+
+	@Test
+	public void swap() {
+		final Random random = new Random(123);
+		for (int i = 0; i < 100; ++i) {
+			final MSeq<LongGene> a = LongChromosome.of(0, 100, 50).toSeq().copy();
+			final MSeq<LongGene> b = LongChromosome.of(0, 100, 50).toSeq().copy();
+			a.set(random.nextInt(50), LongGene.of(150, 100, 200));
+			b.set(random.nextInt(50), LongGene.of(250, 200, 300));
+
+			final MSeq<LongGene> ea = MSeq.of(a);
+			final MSeq<LongGene> eb = MSeq.of(b);
+
+			final int start = random.nextInt(50);
+			final int end = start + random.nextInt(50 - start);
+			final int otherStart = random.nextInt(50 - (end - start) + 1);
+
+			a.swap(start, end, b, otherStart);
+			ea.swap(start, end, eb, otherStart);
+
+			Assert.assertEquals(a, ea);
+			Assert.assertEquals(b, eb);
+		}
+	}
+
+	@Test
+	public void swapDifferentBounds() {
+		final MSeq<DoubleGene> a = DoubleChromosome.of(0, 1, 10).toSeq().copy();
+		final MSeq<DoubleGene> b = DoubleChromosome.of(5, 6, 10).toSeq().copy();
+		final MSeq<DoubleGene> ea = MSeq.of(a);
+		final MSeq<DoubleGene> eb = MSeq.of(b);
+
+		a.swap(2, 7, b, 3);
+		ea.swap(2, 7, eb, 3);
+
+		Assert.assertEquals(a, ea);
+		Assert.assertEquals(b, eb);
+	}
+
+	@Test
+	public void swapSealed() {
+		final ISeq<DoubleGene> genes = DoubleChromosome.of(0, 1, 10).toSeq();
+		final ISeq<DoubleGene> copy = ISeq.of(genes.asList());
+
+		final MSeq<DoubleGene> a = genes.copy();
+		final MSeq<DoubleGene> b = DoubleChromosome.of(0, 1, 10).toSeq().copy();
+		final ISeq<DoubleGene> sealed = a.toISeq();
+		a.swap(0, 10, b, 0);
+
+		Assert.assertEquals(genes, copy);
+		Assert.assertEquals(sealed, copy);
+		Assert.assertEquals(b, copy);
+	}
+
+	@Test
+	public void mean() {
+		final ISeq<DoubleGene> a = DoubleChromosome.of(
+			DoubleGene.of(1, 0, 10),
+			DoubleGene.of(15, 10, 20),
+			DoubleGene.of(3, 0, 10)
+		).toSeq();
+		final ISeq<DoubleGene> b = DoubleChromosome.of(
+			DoubleGene.of(5, 0, 10),
+			DoubleGene.of(7, 0, 10),
+			DoubleGene.of(25, 20, 30)
+		).toSeq();
+
+		final ISeq<DoubleGene> mean = GeneStore.mean(a, b);
+		Assert.assertNotNull(mean);
+		for (int i = 0; i < a.length(); ++i) {
+			Assert.assertEquals(mean.get(i), a.get(i).mean(b.get(i)));
+		}
+	}
+
+	@Test
+	public void meanRandom() {
+		RandomRegistry.using(new Random(1234), r -> {
+			for (int i = 0; i < 100; ++i) {
+				final ISeq<IntegerGene> a = IntegerChromosome.of(-100, 100, 30).toSeq();
+				final ISeq<IntegerGene> b = IntegerChromosome.of(-50, 50, 30).toSeq();
+
+				final ISeq<IntegerGene> mean = GeneStore.mean(a, b);
+				for (int j = 0; j < a.length(); ++j) {
+					Assert.assertEquals(mean.get(j), a.get(j).mean(b.get(j)));
+				}
+			}
+		});
+	}
+
+	@Test
+	public void meanDifferentTypes() {
+		final ISeq<DoubleGene> a = DoubleChromosome.of(0, 1, 10).toSeq();
+		Assert.assertNull(GeneStore.mean(a, ISeq.of(a.asList())));
+		Assert.assertNull(GeneStore.mean(a, a.subSeq(1)));
+	}
+
+	@Test
+	public void sort() {
+		final MSeq<DoubleGene> genes = DoubleChromosome.of(0, 10, 100)
+			.toSeq().copy();
+		genes.set(10, DoubleGene.of(15, 10, 20));
+
+		final MSeq<DoubleGene> expected = MSeq.of(genes);
+		genes.sort();
+		expected.sort();
+
+		Assert.assertEquals(genes, expected);
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class GenotypeDeltaTest {
+
+	private static BitSet bits(final int... indexes) {
+		final BitSet bits = new BitSet();
+		IntStream.of(indexes).forEach(bits::set);
+		return bits;
+	}
+
+	@Test
+	public void of() {
+		final GenotypeDelta delta = GenotypeDelta.of(bits(3, 1), null, bits(7));
+
+		Assert.assertEquals(delta.count(), 3);
+		Assert.assertFalse(delta.isEmpty());
+		Assert.assertEquals(delta.chromosomes().toArray(), new int[]{0, 2});
+		Assert.assertEquals(delta.genes(0).toArray(), new int[]{1, 3});
+		Assert.assertEquals(delta.genes(1).toArray(), new int[0]);
+		Assert.assertEquals(delta.genes(2).toArray(), new int[]{7});
+		Assert.assertEquals(delta.genes(3).toArray(), new int[0]);
+	}
+
+	@Test
+	public void empty() {
+		final GenotypeDelta delta = GenotypeDelta.of(null, bits());
+
+		Assert.assertTrue(delta.isEmpty());
+		Assert.assertEquals(delta.count(), 0);
+		Assert.assertEquals(delta.chromosomes().count(), 0);
+	}
+
+	@Test
+	public void merge() {
+		final GenotypeDelta delta = GenotypeDelta.of(bits(3, 1), null)
+			.merge(GenotypeDelta.of(bits(2, 3), bits(5), bits(0)));
+
+		Assert.assertEquals(delta, GenotypeDelta.of(bits(1, 2, 3), bits(5), bits(0)));
+		Assert.assertEquals(delta.count(), 5);
+	}
+
+	@Test
+	public void recorder() {
+		final GenotypeDelta.Recorder recorder = new GenotypeDelta.Recorder(2);
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 100, 50);
+		final MSeq<IntegerGene> genes = chromosome.toSeq().copy();
+		final MSeq<IntegerGene> other = chromosome.toSeq().copy();
+
+		final MSeq<IntegerGene> seq = recorder.record(1, genes);
+		seq.set(7, seq.get(7).newInstance());
+		seq.swap(10, 20, other, 10);
+		seq.swap(40, 41);
+
+		Assert.assertEquals(genes, seq);
+		Assert.assertEquals(
+			recorder.toDelta(),
+			GenotypeDelta.of(null, bits(7, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 40, 41))
+		);
+	}
+
+	@Test
+	public void hashCodeEquals() {
+		Assert.assertEquals(
+			GenotypeDelta.of(bits(3, 1), null).hashCode(),
+			GenotypeDelta.of(bits(1, 3), bits()).hashCode()
+		);
+		Assert.assertEquals(
+			GenotypeDelta.of(bits(3, 1), null),
+			GenotypeDelta.of(bits(1, 3), bits())
+		);
+		Assert.assertNotEquals(
+			GenotypeDelta.of(bits(3, 1)),
+			GenotypeDelta.of(bits(1, 4))
+		);
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.engine.Engine;
+import org.jenetics.engine.EvolutionResult;
+import org.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class IncrementalFitnessTest {
+
+	// Sum of all alleles, which is updated incrementally.
+	private static final class Sum
+		implements IncrementalFitness<IntegerGene, Long>
+	{
+		final AtomicInteger full = new AtomicInteger();
+		final AtomicInteger incremental = new AtomicInteger();
+
+		@Override
+		public Long apply(final Genotype<IntegerGene> gt) {
+			full.incrementAndGet();
+			return sum(gt);
+		}
+
+		@Override
+		public Long apply(
+			final Genotype<IntegerGene> gt,
+			final Genotype<IntegerGene> parent,
+			final Long fitness,
+			final GenotypeDelta delta
+		) {
+			incremental.incrementAndGet();
+			long value = fitness;
+			for (int c : delta.chromosomes().toArray()) {
+				for (int i : delta.genes(c).toArray()) {
+					value += gt.get(c, i).getAllele() - parent.get(c, i).getAllele();
+				}
+			}
+
+			Assert.assertEquals(value, sum(gt));
+			return value;
+		}
+
+		static long sum(final Genotype<IntegerGene> gt) {
+			return gt.stream()
+				.flatMap(Chromosome::stream)
+				.mapToLong(IntegerGene::getAllele)
+				.sum();
+		}
+	}
+
+	@Test(dataProvider = "alterers")
+	public void evolve(final Alterer<IntegerGene, Long> alterer) {
+		final Sum ff = new Sum();
+		final Engine<IntegerGene, Long> engine = Engine
+			.builder(ff,
+				IntegerChromosome.of(0, 1000, 50),
+				IntegerChromosome.of(0, 1000, 20))
+			.alterers(alterer)
+			.populationSize(50)
+			.build();
+
+		final EvolutionResult<IntegerGene, Long> result = engine.stream()
+			.limit(20)
+			.peek(r -> r.getPopulation().forEach(pt ->
+				Assert.assertEquals(
+					pt.getRawFitness().longValue(),
+					Sum.sum(pt.getGenotype())
+				)
+			))
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertNotNull(result);
+		Assert.assertTrue(ff.incremental.get() > 0);
+	}
+
+	@DataProvider(name = "alterers")
+	public Object[][] alterers() {
+		return new Object[][] {
+			{new Mutator<IntegerGene, Long>(0.1)},
+			{new SwapMutator<IntegerGene, Long>(0.1)},
+			{new GaussianMutator<IntegerGene, Long>(0.1)},
+			{new SinglePointCrossover<IntegerGene, Long>(0.3)},
+			{new MultiPointCrossover<IntegerGene, Long>(0.3, 3)},
+			{new UniformCrossover<IntegerGene, Long>(0.3, 0.3)},
+			{Alterer.of(
+				new UniformCrossover<IntegerGene, Long>(0.3, 0.3),
+				new Mutator<IntegerGene, Long>(0.1),
+				new SwapMutator<IntegerGene, Long>(0.1))}
+		};
+	}
+
+	@Test
+	public void mergedDelta() {
+		final Sum ff = new Sum();
+		final Phenotype<IntegerGene, Long> parent = Phenotype.of(
+			Genotype.of(IntegerChromosome.of(0, 1000, 50)), 1, ff
+		).evaluate();
+
+		final Phenotype<IntegerGene, Long> child1 = parent.newInstance(
+			set(parent.getGenotype(), 3, 5), 2, GenotypeDelta.of(bits(3))
+		);
+		final Phenotype<IntegerGene, Long> child2 = child1.newInstance(
+			set(child1.getGenotype(), 7, 9), 2, GenotypeDelta.of(bits(7))
+		);
+
+		Assert.assertEquals(child2.getRawFitness().longValue(), Sum.sum(child2.getGenotype()));
+		Assert.assertEquals(ff.incremental.get(), 1);
+		Assert.assertEquals(ff.full.get(), 1);
+		Assert.assertFalse(child1.isEvaluated());
+	}
+
+	@Test
+	public void nonIncremental() {
+		final Phenotype<IntegerGene, Long> parent = Phenotype.of(
+			Genotype.of(IntegerChromosome.of(0, 1000, 50)), 1, Sum::sum
+		).evaluate();
+
+		Assert.assertFalse(parent.isIncremental());
+		Assert.assertFalse(Phenotype.of(
+			Genotype.of(IntegerChromosome.of(0, 1000, 50)), 1, new Sum()
+		).isIncremental());
+	}
+
+	private static Genotype<IntegerGene> set(
+		final Genotype<IntegerGene> gt,
+		final int index,
+		final int value
+	) {
+		final Chromosome<IntegerGene> ch = gt.getChromosome();
+		final MSeq<IntegerGene> genes = ch.toSeq().copy();
+		genes.set(index, genes.get(index).newInstance(value));
+		return Genotype.of(ch.newInstance(genes.toISeq()));
+	}
+
+	private static BitSet bits(final int... indexes) {
+		final BitSet bits = new BitSet();
+		for (int i : indexes) {
+			bits.set(i);
+		}
+		return bits;
+	}
+
+}
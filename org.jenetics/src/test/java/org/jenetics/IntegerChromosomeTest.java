@@ -70,4 +70,20 @@ public class IntegerChromosomeTest
 		});
 	}
 
+	@Override
+	protected boolean storesGenes() {
+		return false;
+	}
+
+	@Test
+	public void toArray() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 1000, 1000);
+		final int[] values = chromosome.toArray();
+
+		Assert.assertEquals(values.length, chromosome.length());
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], chromosome.getGene(i).intValue());
+		}
+	}
+
 }
@@ -69,4 +69,20 @@ public class LongChromosomeTest
 		});
 	}
 
+	@Override
+	protected boolean storesGenes() {
+		return false;
+	}
+
+	@Test
+	public void toArray() {
+		final LongChromosome chromosome = LongChromosome.of(0, 1000, 1000);
+		final long[] values = chromosome.toArray();
+
+		Assert.assertEquals(values.length, chromosome.length());
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], chromosome.getGene(i).longValue());
+		}
+	}
+
 }
@@ -20,12 +20,17 @@
 package org.jenetics;
 
 import static org.jenetics.TestUtils.newPermutationDoubleGenePopulation;
+import static org.jenetics.util.RandomRegistry.using;
 import static org.jenetics.util.factories.Int;
 
+import java.util.Random;
+
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import org.jenetics.internal.math.base;
+
 import org.jenetics.stat.Histogram;
 import org.jenetics.stat.LongMomentStatistics;
 import org.jenetics.util.ISeq;
@@ -70,6 +75,58 @@ public class PartiallyMatchedCrossoverTest {
 		Assert.assertFalse(otherChrom1.equals(otherChrom2), "That chromosome must not be equal");
 	}
 
+	@Test(dataProvider = "permutationLengths")
+	public void crossoverAsIndexOfRepair(final Integer length, final Integer alleleCount) {
+		final PartiallyMatchedCrossover<Integer, Double> pmco =
+			new PartiallyMatchedCrossover<>(1);
+
+		final ISeq<Integer> alleles = MSeq.<Integer>ofLength(alleleCount)
+			.fill(Int()).toISeq();
+
+		for (int seed = 0; seed < 20; ++seed) {
+			final MSeq<EnumGene<Integer>> that = PermutationChromosome
+				.of(alleles, length).toSeq().copy();
+			final MSeq<EnumGene<Integer>> other = PermutationChromosome
+				.of(alleles, length).toSeq().copy();
+			final MSeq<EnumGene<Integer>> thatExpected = that.copy();
+			final MSeq<EnumGene<Integer>> otherExpected = other.copy();
+
+			using(new Random(seed), r -> pmco.crossover(that, other));
+			using(new Random(seed), r -> {
+				final int[] points = base.subset(length, 2, r);
+				thatExpected.swap(points[0], points[1], otherExpected, points[0]);
+				repair(thatExpected, otherExpected, points[0], points[1]);
+				repair(otherExpected, thatExpected, points[0], points[1]);
+			});
+
+			Assert.assertEquals(that, thatExpected);
+			Assert.assertEquals(other, otherExpected);
+		}
+	}
+
+	// The original, quadratic, repair step of the PMX.
+	private static <T> void repair(
+		final MSeq<T> that, final MSeq<T> other,
+		final int begin, final int end
+	) {
+		for (int i = 0, n = that.length(); i < n; ++i) {
+			if (i < begin || i >= end) {
+				int index = that.indexOf(that.get(i), begin, end);
+				while (index != -1) {
+					that.set(i, other.get(index));
+					index = that.indexOf(that.get(i), begin, end);
+				}
+			}
+		}
+	}
+
+	@DataProvider(name = "permutationLengths")
+	public Object[][] permutationLengths() {
+		return new Object[][] {
+			{2, 2}, {10, 10}, {10, 50}, {1000, 1000}, {500, 2000}
+		};
+	}
+
 	@Test
 	public void crossoverWithIllegalChromosome() {
 		final PartiallyMatchedCrossover<Integer, Double> pmco = new PartiallyMatchedCrossover<>(1);
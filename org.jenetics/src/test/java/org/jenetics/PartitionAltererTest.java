@@ -0,0 +1,128 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static org.jenetics.CompositeAltererTest.population;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class PartitionAltererTest {
+
+	private static Alterer<DoubleGene, Double> newAlterer() {
+		return Alterer.of(
+			new SinglePointCrossover<DoubleGene, Double>(0.2),
+			new Mutator<>(0.05)
+		);
+	}
+
+	@Test(dataProvider = "partitionParameters")
+	public void alterCount(final Integer size, final Integer partitionSize) {
+		final Population<DoubleGene, Double> p1 = population(5, 2, size);
+		final Population<DoubleGene, Double> p2 = p1.copy();
+
+		final Alterer<DoubleGene, Double> alterer = PartitionAlterer.of(
+			new Mutator<DoubleGene, Double>(0.05),
+			partitionSize,
+			ForkJoinPool.commonPool()
+		);
+
+		final int count = alterer.alter(p1, 1);
+		Assert.assertEquals(p1.size(), (int)size);
+		Assert.assertEquals(count, new CompositeAltererTest().diff(p1, p2));
+	}
+
+	@Test(dataProvider = "partitionParameters")
+	public void reproducible(final Integer size, final Integer partitionSize) {
+		final Population<DoubleGene, Double> population =
+			population(5, 2, size);
+
+		final Population<DoubleGene, Double> serial =
+			alter(population.copy(), partitionSize, Runnable::run);
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			final Population<DoubleGene, Double> parallel =
+				alter(population.copy(), partitionSize, pool);
+
+			Assert.assertEquals(parallel, serial);
+			Assert.assertNotEquals(parallel, population);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static Population<DoubleGene, Double> alter(
+		final Population<DoubleGene, Double> population,
+		final int partitionSize,
+		final Executor executor
+	) {
+		final Alterer<DoubleGene, Double> alterer =
+			PartitionAlterer.of(newAlterer(), partitionSize, executor);
+
+		RandomRegistry.using(new LCG64ShiftRandom(123), r ->
+			alterer.alter(population, 1)
+		);
+		return population;
+	}
+
+	@DataProvider(name = "partitionParameters")
+	public Object[][] partitionParameters() {
+		return new Object[][] {
+			// size, partitionSize
+			{10, 32},
+			{100, 2},
+			{100, 32},
+			{150, 32},
+			{1000, 7},
+			{1000, 100}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalPartitionSize() {
+		PartitionAlterer.of(newAlterer(), 1, ForkJoinPool.commonPool());
+	}
+
+	@Test(expectedExceptions = CancellationException.class)
+	public void alterError() {
+		final Alterer<DoubleGene, Double> alterer = PartitionAlterer.of(
+			(population, generation) -> {
+				throw new IllegalStateException();
+			},
+			10,
+			ForkJoinPool.commonPool()
+		);
+
+		alterer.alter(population(5, 1, 100), 1);
+	}
+
+}
@@ -22,12 +22,19 @@ package org.jenetics;
 import static java.lang.Math.sin;
 import static java.lang.Math.toRadians;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.function.Function;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import org.jenetics.internal.util.FitnessScaler;
+
 import org.jenetics.util.Factory;
+import org.jenetics.util.IO;
 import org.jenetics.util.ObjectTester;
 
 /**
@@ -52,4 +59,49 @@ public class PhenotypeTest extends ObjectTester<Phenotype<DoubleGene, Double>> {
 		return () -> Phenotype.of(_genotype.newInstance(), 0, _ff).evaluate();
 	}
 
+	@Test
+	public void isEvaluated() {
+		final Phenotype<DoubleGene, Double> pt =
+			Phenotype.of(_genotype.newInstance(), 0, _ff);
+
+		Assert.assertFalse(pt.isEvaluated());
+		Assert.assertTrue(pt.evaluate().isEvaluated());
+	}
+
+	@Test
+	public void withRawFitness() {
+		final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+			_genotype.newInstance(), 3,
+			gt -> { throw new AssertionError("Fitness function called."); },
+			f -> f*2
+		);
+
+		final Phenotype<DoubleGene, Double> evaluated = pt.withRawFitness(2.0);
+		Assert.assertTrue(evaluated.isEvaluated());
+		Assert.assertEquals(evaluated.getRawFitness(), 2.0);
+		Assert.assertEquals(evaluated.getFitness(), 4.0);
+		Assert.assertEquals(evaluated.getGeneration(), 3);
+		Assert.assertSame(evaluated.getGenotype(), pt.getGenotype());
+		Assert.assertSame(evaluated.getFitnessFunction(), pt.getFitnessFunction());
+	}
+
+	@Test
+	public void identityScaler() throws IOException {
+		final Phenotype<DoubleGene, Double> pt =
+			Phenotype.of(_genotype.newInstance(), 0, _ff);
+		Assert.assertTrue(FitnessScaler.isIdentity(pt.getFitnessScaler()));
+		Assert.assertTrue(FitnessScaler.isIdentity(
+			pt.newInstance(1, _ff).getFitnessScaler()
+		));
+		Assert.assertFalse(FitnessScaler.isIdentity(Function.identity()));
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.object.write(pt.evaluate(), out);
+		@SuppressWarnings("unchecked")
+		final Phenotype<DoubleGene, Double> read = (Phenotype<DoubleGene, Double>)
+			IO.object.read(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertTrue(FitnessScaler.isIdentity(read.getFitnessScaler()));
+		Assert.assertEquals(read.getFitness(), pt.getFitness());
+	}
+
 }
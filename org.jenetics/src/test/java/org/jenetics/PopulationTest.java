@@ -20,10 +20,12 @@
 package org.jenetics;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.function.Function;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import org.jenetics.util.Factory;
@@ -91,4 +93,139 @@ public class PopulationTest
 		}
 	}
 
+	@Test(dataProvider = "rankParameters")
+	public void rank(final Integer size, final Optimize opt) {
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < size; ++i) {
+			// Only a few different fitness values, for testing the tie order.
+			population.add(pt(Math.floor(Math.random()*9.0)));
+		}
+
+		final Population<DoubleGene, Double> sorted = population.copy();
+		sorted.sortWith(opt.<Double>descending());
+
+		final int[] rank = population.rank(opt);
+		Assert.assertEquals(rank.length, size.intValue());
+		for (int i = 0; i < size; ++i) {
+			Assert.assertSame(population.get(rank[i]), sorted.get(i));
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void rankSpecialValues(final Optimize opt) {
+		final double[] values = {
+			Double.NaN, 0.0, -0.0, 1.0, Double.NEGATIVE_INFINITY,
+			Double.POSITIVE_INFINITY, -1.0
+		};
+		final Random random = new Random(123);
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 1000; ++i) {
+			final double value = values[random.nextInt(values.length)];
+			population.add(Phenotype.of(gt.newInstance(), 0, g -> value));
+		}
+
+		final Population<DoubleGene, Double> sorted = population.copy();
+		sorted.sortWith(opt.<Double>descending());
+
+		final int[] rank = population.rank(opt);
+		for (int i = 0; i < rank.length; ++i) {
+			Assert.assertSame(population.get(rank[i]), sorted.get(i));
+		}
+		Assert.assertEquals(
+			population.top(100, opt),
+			Arrays.copyOf(rank, 100)
+		);
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
+	@DataProvider(name = "rankParameters")
+	public Object[][] rankParameters() {
+		return new Object[][] {
+			{0, Optimize.MAXIMUM},
+			{1, Optimize.MINIMUM},
+			{100, Optimize.MAXIMUM},
+			{100, Optimize.MINIMUM},
+			{20_000, Optimize.MAXIMUM},
+			{20_000, Optimize.MINIMUM}
+		};
+	}
+
+	@Test
+	public void rankCache() {
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 100; ++i) {
+			population.add(pt(i/10.0));
+		}
+
+		final int[] max = population.rank(Optimize.MAXIMUM);
+		final int[] min = population.rank(Optimize.MINIMUM);
+		Assert.assertSame(population.rank(Optimize.MAXIMUM), max);
+		Assert.assertSame(population.rank(Optimize.MINIMUM), min);
+		Assert.assertEquals(max[0], 99);
+		Assert.assertEquals(min[0], 0);
+
+		population.set(50, pt(9.95));
+		Assert.assertNotSame(population.rank(Optimize.MAXIMUM), max);
+		Assert.assertEquals(population.rank(Optimize.MAXIMUM)[0], 50);
+
+		population.remove(50);
+		Assert.assertEquals(population.rank(Optimize.MAXIMUM).length, 99);
+		Assert.assertEquals(population.rank(Optimize.MAXIMUM)[0], 98);
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 5000; ++i) {
+			population.add(pt(i/1000.0));
+		}
+
+		final Population<DoubleGene, Double> copy1 = population.copy();
+		final Population<DoubleGene, Double> copy2 = copy1.copy();
+		final Phenotype<DoubleGene, Double> pt = pt(9.9);
+		copy1.set(10, pt);
+		copy2.add(pt);
+
+		Assert.assertEquals(copy1.size(), 5000);
+		Assert.assertEquals(copy2.size(), 5001);
+		for (int i = 0; i < 5000; ++i) {
+			Assert.assertSame(copy1.get(i), i == 10 ? pt : population.get(i));
+			Assert.assertSame(copy2.get(i), population.get(i));
+		}
+		Assert.assertSame(copy2.get(5000), pt);
+		Assert.assertEquals(copy1.rank(Optimize.MAXIMUM)[0], 10);
+	}
+
+	@Test(dataProvider = "topParameters")
+	public void top(final Integer size, final Integer k, final Optimize opt) {
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < size; ++i) {
+			population.add(pt(Math.floor(Math.random()*9.0)));
+		}
+
+		final int[] rank = population.copy().rank(opt);
+		final int[] top = population.top(k, opt);
+		Assert.assertEquals(top, Arrays.copyOf(rank, k));
+	}
+
+	@DataProvider(name = "topParameters")
+	public Object[][] topParameters() {
+		return new Object[][] {
+			{0, 0, Optimize.MAXIMUM},
+			{1, 1, Optimize.MAXIMUM},
+			{10, 0, Optimize.MINIMUM},
+			{10, 1, Optimize.MINIMUM},
+			{100, 10, Optimize.MAXIMUM},
+			{100, 10, Optimize.MINIMUM},
+			{100, 100, Optimize.MAXIMUM},
+			{1000, 333, Optimize.MINIMUM}
+		};
+	}
+
 }
@@ -90,4 +90,43 @@ public class ProbabilitySelectorTest {
 		);
 	}
 
+	@Test(dataProvider = "arraySize")
+	public void aliasTableProbabilities(final Integer size) {
+		final double[] probabilities = array(size, new Random(12));
+		normalize(probabilities);
+
+		final AliasTable table = AliasTable.of(probabilities.clone());
+
+		// Recalculate the index probabilities from the alias table.
+		final double[] sampled = new double[size];
+		for (int i = 0; i < size; ++i) {
+			final double p = table._probabilities[i];
+			Assert.assertTrue(p >= 0.0 && p <= 1.0, "Invalid probability: " + p);
+
+			sampled[i] += p/size;
+			sampled[table._aliases[i]] += (1.0 - p)/size;
+		}
+
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(sampled[i], probabilities[i], 1.0E-10);
+		}
+	}
+
+	@Test
+	public void aliasTableIndexOf() {
+		final AliasTable table = AliasTable.of(new double[]{0.5, 0.0, 0.25, 0.25});
+
+		final int[] counts = new int[4];
+		for (int i = 0; i < 1000; ++i) {
+			++counts[table.indexOf(i/1000.0)];
+		}
+		++counts[table.indexOf(Math.nextDown(1.0))];
+
+		Assert.assertEquals(counts[1], 0);
+		Assert.assertEquals(counts[0] + counts[2] + counts[3], 1001);
+		Assert.assertEquals(counts[0], 500, 1);
+		Assert.assertEquals(counts[2], 250, 1);
+		Assert.assertEquals(counts[3], 250, 1);
+	}
+
 }
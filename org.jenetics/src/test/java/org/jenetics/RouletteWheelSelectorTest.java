@@ -116,6 +116,26 @@ public class RouletteWheelSelectorTest
 		});
 	}
 
+	@Test(dataProvider = "expectedDistribution", groups = {"statistics"})
+	public void selectDistributionAlias(final Named<double[]> expected, final Optimize opt) {
+		retry(3, () -> {
+			final int loops = 50;
+			final int npopulation = POPULATION_COUNT;
+
+			final ThreadLocal<LCG64ShiftRandom> random = new LCG64ShiftRandom.ThreadLocal();
+			using(random, r -> {
+				final Histogram<Double> distribution = SelectorTester.distribution(
+					new RouletteWheelSelector<>(ProbabilitySelector.Sampling.ALIAS),
+					opt,
+					npopulation,
+					loops
+				);
+
+				assertDistribution(distribution, expected.value, 0.001, 5);
+			});
+		});
+	}
+
 	@DataProvider(name = "expectedDistribution")
 	public Object[][] expectedDistribution() {
 		final String resource =
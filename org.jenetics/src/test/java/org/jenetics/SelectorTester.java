@@ -21,6 +21,7 @@ package org.jenetics;
 
 import static java.lang.String.format;
 import static org.jenetics.util.RandomRegistry.using;
+import static org.jenetics.util.RandomRegistry.with;
 
 import java.io.PrintStream;
 import java.text.NumberFormat;
@@ -96,6 +97,69 @@ public abstract class SelectorTester<S extends Selector<DoubleGene, Double>>
 		selector().select(population, 1, null);
 	}
 
+	@Test(dataProvider = "selectIndexesParameters")
+	public void selectIndexes(final Integer size, final Optimize opt) {
+		final Function<Genotype<DoubleGene>, Double> ff =
+			g -> g.getGene().getAllele();
+
+		final Population<DoubleGene, Double> population = IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.of(Genotype.of(DoubleChromosome.of(0.0, 100.0)), 1, ff))
+			.collect(Population.toPopulation());
+		final Population<DoubleGene, Double> copy = population.copy();
+
+		final Selector<DoubleGene, Double> selector = selector();
+		final Population<DoubleGene, Double> selection = with(
+			new LCG64ShiftRandom(123),
+			r -> selector.select(population, 2*size, opt)
+		);
+		final int[] indexes = with(
+			new LCG64ShiftRandom(123),
+			r -> selector.selectIndexes(population, 2*size, opt)
+		);
+
+		Assert.assertEquals(population, copy);
+		Assert.assertEquals(indexes.length, selection.size());
+		for (int i = 0; i < indexes.length; ++i) {
+			Assert.assertSame(population.get(indexes[i]), selection.get(i));
+		}
+	}
+
+	@Test(dataProvider = "selectIndexesParameters")
+	public void defaultSelectIndexes(final Integer size, final Optimize opt) {
+		final Function<Genotype<DoubleGene>, Double> ff =
+			g -> g.getGene().getAllele();
+
+		final Population<DoubleGene, Double> population = IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.of(Genotype.of(DoubleChromosome.of(0.0, 100.0)), 1, ff))
+			.collect(Population.toPopulation());
+
+		final Selector<DoubleGene, Double> selector = selector();
+		final Selector<DoubleGene, Double> wrapper = selector::select;
+
+		final int[] expected = with(
+			new LCG64ShiftRandom(123),
+			r -> selector.selectIndexes(population, 2*size, opt)
+		);
+		final int[] actual = with(
+			new LCG64ShiftRandom(123),
+			r -> wrapper.selectIndexes(population, 2*size, opt)
+		);
+
+		Assert.assertEquals(actual, expected);
+	}
+
+	@DataProvider(name = "selectIndexesParameters")
+	public Object[][] selectIndexesParameters() {
+		return new Object[][] {
+			{1, Optimize.MAXIMUM},
+			{1, Optimize.MINIMUM},
+			{100, Optimize.MAXIMUM},
+			{100, Optimize.MINIMUM},
+			{2000, Optimize.MAXIMUM},
+			{2000, Optimize.MINIMUM}
+		};
+	}
+
 	@Test(dataProvider = "selectionPerformanceParameters")
 	public void selectionPerformance(
 		final Integer size,
@@ -22,10 +22,14 @@ package org.jenetics;
 import static java.lang.String.format;
 import static org.jenetics.stat.StatisticsAssert.assertDistribution;
 import static org.jenetics.util.RandomRegistry.using;
+import static org.jenetics.util.RandomRegistry.with;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -71,6 +75,53 @@ public class TournamentSelectorTest
 		});
 	}
 
+	@Test(dataProvider = "expectedDistribution", groups = {"statistics"})
+	public void selectDistributionParallel(
+		final Integer tournamentSize,
+		final Named<double[]> expected,
+		final Optimize opt
+	) {
+		retry(3, () -> {
+			final int loops = 1;
+			final int npopulation = 10*POPULATION_COUNT;
+
+			using(new LCG64ShiftRandom.ThreadLocal(), r -> {
+				final Histogram<Double> distribution = SelectorTester.distribution(
+					new TournamentSelector<>(tournamentSize, ForkJoinPool.commonPool()),
+					opt,
+					npopulation,
+					loops
+				);
+
+				assertDistribution(distribution, expected.value, 0.001, 20);
+			});
+		});
+	}
+
+	@Test
+	public void selectParallelReproducible() {
+		final Function<Genotype<DoubleGene>, Double> ff =
+			gt -> gt.getGene().getAllele();
+
+		final Population<DoubleGene, Double> population = IntStream.range(0, 1000)
+			.mapToObj(i -> Phenotype.of(Genotype.of(DoubleChromosome.of(0, 10)), 1, ff))
+			.collect(Population.toPopulation());
+
+		final Population<DoubleGene, Double> serial = with(
+			new LCG64ShiftRandom(123), r ->
+				new TournamentSelector<DoubleGene, Double>(3, Runnable::run)
+					.select(population, 10_000, Optimize.MAXIMUM)
+		);
+		final Population<DoubleGene, Double> parallel = with(
+			new LCG64ShiftRandom(123), r ->
+				new TournamentSelector<DoubleGene, Double>(3, ForkJoinPool.commonPool())
+					.select(population, 10_000, Optimize.MAXIMUM)
+		);
+
+		Assert.assertEquals(parallel.size(), 10_000);
+		Assert.assertEquals(parallel, serial);
+	}
+
 	@DataProvider(name = "expectedDistribution")
 	public Object[][] expectedDistribution() {
 		final String resource =
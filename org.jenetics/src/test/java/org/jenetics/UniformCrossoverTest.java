@@ -20,11 +20,13 @@
 package org.jenetics;
 
 import static org.jenetics.util.RandomRegistry.using;
+import static org.jenetics.util.RandomRegistry.with;
 
 import java.util.Random;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import org.jenetics.stat.DoubleMomentStatistics;
@@ -64,6 +66,45 @@ public class UniformCrossoverTest extends AltererTester {
 		});
 	}
 
+	@Test(dataProvider = "swapProbabilities")
+	public void bitCrossover(final Double swapProbability) {
+		final ISeq<BitGene> g1 = BitChromosome.of(1003, 0.5).toSeq();
+		final ISeq<BitGene> g2 = BitChromosome.of(1003, 0.5).toSeq();
+
+		final UniformCrossover<BitGene, Double>
+			crossover = new UniformCrossover<>(0.5, swapProbability);
+
+		final MSeq<BitGene> b1 = g1.copy();
+		final MSeq<BitGene> b2 = g2.copy();
+		final int bitChanged = with(new Random(10), r ->
+			crossover.crossover(b1, b2)
+		);
+
+		final MSeq<BitGene> s1 = MSeq.<BitGene>ofLength(g1.length()).setAll(g1);
+		final MSeq<BitGene> s2 = MSeq.<BitGene>ofLength(g2.length()).setAll(g2);
+		final int changed = with(new Random(10), r ->
+			crossover.crossover(s1, s2)
+		);
+
+		Assert.assertEquals(bitChanged, changed);
+		Assert.assertEquals(b1, s1);
+		Assert.assertEquals(b2, s2);
+		if (swapProbability == 1.0) {
+			Assert.assertEquals(bitChanged, g1.length());
+			Assert.assertEquals(b1, g2);
+			Assert.assertEquals(b2, g1);
+		}
+	}
+
+	@DataProvider(name = "swapProbabilities")
+	public Object[][] swapProbabilities() {
+		return new Object[][] {
+			{0.0},
+			{0.3},
+			{1.0}
+		};
+	}
+
 	@Test
 	public void crossoverChanges() {
 		final ISeq<CharacterGene> g1 = CharacterChromosome.of("1234567890").toSeq();
@@ -26,10 +26,20 @@ import static java.lang.Math.sin;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.LongStream;
 
@@ -44,11 +54,15 @@ import org.jenetics.IntegerChromosome;
 import org.jenetics.IntegerGene;
 import org.jenetics.Mutator;
 import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
 import org.jenetics.RouletteWheelSelector;
+import org.jenetics.Selector;
 import org.jenetics.util.DoubleRange;
 import org.jenetics.util.IO;
 import org.jenetics.util.ISeq;
 import org.jenetics.util.IntRange;
+import org.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
@@ -175,6 +189,32 @@ public class EngineTest {
 			.toArray(Object[][]::new);
 	}
 
+	@Test
+	public void selectorWithNewPhenotypes() {
+		// The selector returns phenotypes which aren't part of the population,
+		// which can't be selected by its indexes.
+		final Selector<DoubleGene, Double> selector = (population, count, opt) ->
+			population.stream()
+				.limit(count)
+				.map(pt -> pt.newInstance(pt.getGenotype().newInstance()))
+				.collect(Population.toPopulation());
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(100)
+			.offspringFraction(0.3)
+			.selector(selector)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getPopulation().size(), 100);
+		Assert.assertTrue(result.getPopulation().stream()
+			.allMatch(Phenotype::isEvaluated));
+	}
+
 	@Test
 	public void phenotypeValidator() {
 		final int populationSize = 100;
@@ -209,6 +249,547 @@ public class EngineTest {
 		Assert.assertEquals(result.getInvalidCount(), populationSize);
 	}
 
+	@Test
+	public void fitnessCache() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Function<Genotype<IntegerGene>, Integer> ff = gt -> {
+			calls.incrementAndGet();
+			return gt.getGene().getAllele();
+		};
+
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(ff, IntegerChromosome.of(0, 3))
+			.fitnessCacheSize(10)
+			.populationSize(100)
+			// The cache doesn't prevent concurrent evaluations of the same
+			// genotype. Evaluating in the calling thread makes the number of
+			// fitness function calls deterministic.
+			.executor(Runnable::run)
+			.build();
+
+		Assert.assertEquals(engine.getFitnessCacheSize(), 10);
+		Assert.assertEquals(engine.builder().getFitnessCacheSize(), 10);
+
+		final ISeq<EvolutionResult<IntegerGene, Integer>> results = engine.stream()
+			.limit(20)
+			.collect(ISeq.toISeq());
+
+		final int hits = results.stream()
+			.mapToInt(EvolutionResult::getFitnessCacheHits)
+			.sum();
+		final int misses = results.stream()
+			.mapToInt(EvolutionResult::getFitnessCacheMisses)
+			.sum();
+
+		// Only four different genotypes exist.
+		Assert.assertTrue(calls.get() <= 4, "Fitness function calls: " + calls);
+		Assert.assertEquals(misses, calls.get());
+		Assert.assertTrue(hits > 0);
+	}
+
+	@Test
+	public void noFitnessCache() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 3))
+			.build();
+
+		Assert.assertEquals(engine.getFitnessCacheSize(), 0);
+
+		final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getFitnessCacheHits(), 0);
+		Assert.assertEquals(result.getFitnessCacheMisses(), 0);
+	}
+
+	@Test
+	public void batchFitnessFunction() {
+		final AtomicInteger batchCalls = new AtomicInteger();
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Function<Seq<Genotype<DoubleGene>>, Seq<Double>> batch = gts -> {
+			batchCalls.incrementAndGet();
+			evaluations.addAndGet(gts.size());
+			return gts.map(gt -> gt.getGene().getAllele());
+		};
+
+		final Function<Genotype<DoubleGene>, Double> ff = gt -> {
+			throw new AssertionError("Single fitness function called.");
+		};
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(ff, DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(batch)
+			.populationSize(100)
+			.build();
+
+		Assert.assertTrue(engine.getBatchFitnessFunction().isPresent());
+		Assert.assertTrue(engine.builder().getBatchFitnessFunction().isPresent());
+
+		final int generations = 10;
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(generations)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertTrue(result.getBestFitness() > 0.5);
+		Assert.assertTrue(batchCalls.get() <= 2*generations);
+		Assert.assertTrue(evaluations.get() <= 100*generations);
+		result.getPopulation().forEach(pt -> Assert.assertTrue(pt.isEvaluated()));
+	}
+
+	@Test
+	public void batchFitnessFunctionKeepsStartPopulation() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(gts -> gts.map(gt -> gt.getGene().getAllele()))
+			.populationSize(20)
+			.build();
+
+		final Population<DoubleGene, Double> population =
+			engine.evolutionStart().getPopulation();
+		final Population<DoubleGene, Double> copy = population.copy();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.evolve(population, 1);
+
+		result.getPopulation().forEach(pt -> Assert.assertTrue(pt.isEvaluated()));
+		Assert.assertEquals(population.size(), copy.size());
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertSame(population.get(i), copy.get(i));
+		}
+	}
+
+	@Test
+	public void batchFitnessFunctionWithCache() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Function<Seq<Genotype<IntegerGene>>, Seq<Integer>> batch = gts -> {
+			evaluations.addAndGet(gts.size());
+			return gts.map(gt -> gt.getGene().getAllele());
+		};
+
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 3))
+			.batchFitnessFunction(batch)
+			.fitnessCacheSize(10)
+			.populationSize(100)
+			.build();
+
+		final ISeq<EvolutionResult<IntegerGene, Integer>> results = engine.stream()
+			.limit(10)
+			.collect(ISeq.toISeq());
+
+		Assert.assertTrue(
+			results.stream().mapToInt(EvolutionResult::getFitnessCacheHits).sum() > 0
+		);
+		Assert.assertEquals(
+			results.stream().mapToInt(EvolutionResult::getFitnessCacheMisses).sum(),
+			evaluations.get()
+		);
+	}
+
+	@Test
+	public void resetBatchFitnessFunction() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(gts -> gts.map(gt -> 0.0))
+			.fitnessFunction(gt -> gt.getGene().getAllele())
+			.build();
+
+		Assert.assertFalse(engine.getBatchFitnessFunction().isPresent());
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void batchFitnessFunctionWrongResultSize() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(gts -> ISeq.of(1.0))
+			.build();
+
+		engine.stream().limit(1).forEach(r -> {});
+	}
+
+	@Test
+	public void asyncFitnessFunction() throws InterruptedException {
+		final ScheduledExecutorService scheduler =
+			Executors.newSingleThreadScheduledExecutor();
+
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		// No evaluation is completed before the evaluation of the whole
+		// initial population has been started.
+		final CountDownLatch started = new CountDownLatch(100);
+		final Function<Genotype<DoubleGene>, CompletableFuture<Double>> ff = gt -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			started.countDown();
+
+			final CompletableFuture<Double> result = new CompletableFuture<>();
+			scheduler.schedule(() -> {
+					started.await(1, TimeUnit.SECONDS);
+					running.decrementAndGet();
+					return result.complete(gt.getGene().getAllele());
+				},
+				5, TimeUnit.MILLISECONDS
+			);
+			return result;
+		};
+
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+				.asyncFitnessFunction(ff)
+				.populationSize(100)
+				.build();
+
+			Assert.assertTrue(engine.getAsyncFitnessFunction().isPresent());
+			Assert.assertFalse(engine.getBatchFitnessFunction().isPresent());
+			Assert.assertTrue(engine.builder().getAsyncFitnessFunction().isPresent());
+
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(5)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			result.getPopulation().forEach(pt -> Assert.assertTrue(pt.isEvaluated()));
+			Assert.assertTrue(result.getBestFitness() > 0.5);
+
+			// All individuals of the initial population are evaluated at once,
+			// with only one (scheduler) thread.
+			Assert.assertEquals(maxRunning.get(), 100);
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	public void resetAsyncFitnessFunction() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt -> CompletableFuture.completedFuture(0.0))
+			.batchFitnessFunction(gts -> gts.map(gt -> 0.0))
+			.build();
+
+		Assert.assertFalse(engine.getAsyncFitnessFunction().isPresent());
+		Assert.assertTrue(engine.getBatchFitnessFunction().isPresent());
+	}
+
+	@Test(expectedExceptions = CompletionException.class)
+	public void asyncFitnessFunctionError() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt -> {
+				final CompletableFuture<Double> result = new CompletableFuture<>();
+				result.completeExceptionally(new IllegalStateException());
+				return result;
+			})
+			.build();
+
+		engine.stream().limit(1).forEach(r -> {});
+	}
+
+	@Test(timeOut = 10_000L)
+	public void evaluationQuorum() throws InterruptedException {
+		final AtomicBoolean blocking = new AtomicBoolean(false);
+		final AtomicInteger calls = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Function<Genotype<DoubleGene>, Double> ff = gt -> {
+			if (blocking.get() && calls.getAndIncrement()%2 == 0) {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return gt.getGene().getAllele();
+		};
+
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(ff, DoubleChromosome.of(0, 1))
+				.executor(executor)
+				.evaluationQuorum(0.4)
+				.build();
+
+			final EvolutionResult<DoubleGene, Double> first = engine.stream()
+				.limit(1)
+				.findFirst()
+				.get();
+
+			blocking.set(true);
+			final EvolutionResult<DoubleGene, Double> result = engine
+				.evolve(first.next());
+
+			Assert.assertTrue(calls.get() > 0);
+			Assert.assertEquals(result.getPopulation().size(), 50);
+			Assert.assertTrue(result.getPopulation().stream()
+				.allMatch(Phenotype::isEvaluated));
+		} finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeOut = 10_000L)
+	public void asyncEvaluationQuorum() {
+		final AtomicBoolean blocking = new AtomicBoolean(false);
+		final AtomicInteger calls = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt ->
+				blocking.get() && calls.getAndIncrement()%4 == 3
+					? new CompletableFuture<>()
+					: CompletableFuture.completedFuture(gt.getGene().getAllele()))
+			.evaluationQuorum(0.5)
+			.populationSize(20)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.findFirst()
+			.get();
+
+		blocking.set(true);
+		final EvolutionResult<DoubleGene, Double> result = engine
+			.evolve(first.next());
+
+		Assert.assertEquals(result.getPopulation().size(), 20);
+		Assert.assertTrue(result.getPopulation().stream()
+			.allMatch(Phenotype::isEvaluated));
+	}
+
+	@Test(timeOut = 10_000L)
+	public void evaluationQuorumFiltersFallback() {
+		final AtomicBoolean blocking = new AtomicBoolean(false);
+		final AtomicInteger calls = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt ->
+				// Only the first offspring evaluation never finishes.
+				blocking.get() && calls.getAndIncrement() == 0
+					? new CompletableFuture<>()
+					: CompletableFuture.completedFuture(gt.getGene().getAllele()))
+			// Individuals of the first generation are invalid, when blocking.
+			.phenotypeValidator(pt -> !blocking.get() || pt.getGeneration() > 1)
+			.evaluationQuorum(0.5)
+			.populationSize(20)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.findFirst()
+			.get();
+
+		blocking.set(true);
+		final EvolutionResult<DoubleGene, Double> result = engine
+			.evolve(first.next());
+
+		// The unaltered parent of the blocked offspring is invalid too.
+		Assert.assertEquals(result.getPopulation().size(), 20);
+		Assert.assertTrue(result.getPopulation().stream()
+			.allMatch(pt -> pt.isEvaluated() && pt.getGeneration() > 1));
+	}
+
+	@Test(timeOut = 10_000L)
+	public void evaluationQuorumReinsertsLateOffspring() {
+		final AtomicBoolean blocking = new AtomicBoolean(false);
+		final AtomicInteger calls = new AtomicInteger();
+		final List<CompletableFuture<Double>> late = new CopyOnWriteArrayList<>();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt -> {
+				if (blocking.get() && calls.getAndIncrement()%4 == 3) {
+					final CompletableFuture<Double> future = new CompletableFuture<>();
+					late.add(future);
+					return future;
+				}
+				return CompletableFuture.completedFuture(gt.getGene().getAllele());
+			})
+			.evaluationQuorum(0.5)
+			.populationSize(20)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.findFirst()
+			.get();
+
+		blocking.set(true);
+		final EvolutionResult<DoubleGene, Double> second = engine
+			.evolve(first.next());
+		blocking.set(false);
+
+		Assert.assertFalse(late.isEmpty());
+		late.forEach(f -> f.complete(100.0));
+
+		final EvolutionResult<DoubleGene, Double> third = engine
+			.evolve(second.next());
+
+		Assert.assertEquals(third.getPopulation().size(), 20);
+		Assert.assertEquals(
+			third.getPopulation().stream()
+				.filter(pt -> pt.getFitness() == 100.0)
+				.count(),
+			late.size()
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evaluationQuorumWithBatchFitnessFunction() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(
+				(Seq<Genotype<DoubleGene>> gts) -> gts.map(gt -> 1.0))
+			.evaluationQuorum(0.5)
+			.build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroEvaluationQuorum() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationQuorum(0.0);
+	}
+
+	@Test(timeOut = 10_000L)
+	public void perTaskEvaluation() {
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		final Function<Genotype<DoubleGene>, Double> ff = gt -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				running.decrementAndGet();
+			}
+			return gt.getGene().getAllele();
+		};
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(ff, DoubleChromosome.of(0, 1))
+			.perTaskEvaluation(true)
+			.populationSize(100)
+			.build();
+
+		Assert.assertTrue(engine.isPerTaskEvaluation());
+		Assert.assertTrue(engine.builder().isPerTaskEvaluation());
+
+		engine.stream().limit(2).forEach(r -> {});
+		Assert.assertTrue(
+			maxRunning.get() > Runtime.getRuntime().availableProcessors() + 1,
+			"Max running evaluations: " + maxRunning.get()
+		);
+	}
+
+	@Test(timeOut = 20_000L)
+	public void evaluationTimeoutPenalty() {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(hanging(latch), DoubleChromosome.of(0, 1))
+			.perTaskEvaluation(true)
+			.evaluationTimeout(Duration.ofMillis(50), -1.0)
+			.build();
+
+		try {
+			final AtomicInteger timeouts = new AtomicInteger();
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(2)
+				.peek(r -> timeouts.addAndGet(r.getTimeoutCount()))
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertTrue(timeouts.get() > 0);
+			Assert.assertEquals(result.getPopulation().size(), 50);
+			for (Phenotype<DoubleGene, Double> pt : result.getPopulation()) {
+				Assert.assertTrue(pt.isEvaluated());
+				if (pt.getGenotype().getGene().getAllele() < 0.2) {
+					Assert.assertEquals(pt.getFitness(), -1.0);
+				}
+			}
+		} finally {
+			latch.countDown();
+		}
+	}
+
+	@Test(timeOut = 20_000L)
+	public void evaluationTimeoutReplacement() {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(hanging(latch), DoubleChromosome.of(0, 1))
+			.perTaskEvaluation(true)
+			.evaluationTimeout(Duration.ofMillis(50))
+			.build();
+
+		try {
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(1)
+				.findFirst()
+				.get();
+
+			Assert.assertTrue(result.getTimeoutCount() > 0);
+			Assert.assertEquals(result.getPopulation().size(), 50);
+			for (Phenotype<DoubleGene, Double> pt : result.getPopulation()) {
+				Assert.assertTrue(pt.isEvaluated());
+				Assert.assertTrue(pt.getGenotype().getGene().getAllele() >= 0.2);
+			}
+		} finally {
+			latch.countDown();
+		}
+	}
+
+	@Test(timeOut = 20_000L)
+	public void evaluationTimeoutWithSingleThreadExecutor() {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(hanging(latch), DoubleChromosome.of(0, 1))
+			.executor(executor)
+			.evaluationTimeout(Duration.ofMillis(50), -1.0)
+			.build();
+
+		try {
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(3)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.getPopulation().size(), 50);
+			for (Phenotype<DoubleGene, Double> pt : result.getPopulation()) {
+				Assert.assertTrue(pt.isEvaluated());
+			}
+		} finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	// Fitness function which hangs for alleles smaller than 0.2.
+	private static Function<Genotype<DoubleGene>, Double>
+	hanging(final CountDownLatch latch) {
+		return gt -> {
+			final double value = gt.getGene().getAllele();
+			if (value < 0.2) {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return value;
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroEvaluationTimeout() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ZERO);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evaluationTimeoutWithBatchFitnessFunction() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(
+				(Seq<Genotype<DoubleGene>> gts) -> gts.map(gt -> 1.0))
+			.evaluationTimeout(Duration.ofSeconds(1))
+			.build();
+	}
+
 	// https://github.com/jenetics/jenetics/issues/47
 	@Test(timeOut = 15_000L)
 	public void deadLock() {
@@ -254,6 +835,35 @@ public class EngineTest {
 		}
 	}
 
+	@Test(dataProvider = "executors", timeOut = 5_000L)
+	public void alterPartitionExecutorDeadLock(final Executor executor) {
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1))
+				.executor(executor)
+				.alterPartitionSize(4)
+				.populationSize(100)
+				.build();
+
+			Assert.assertEquals(engine.getAlterPartitionSize(), 4);
+			Assert.assertEquals(engine.builder().getAlterPartitionSize(), 4);
+
+			engine.stream()
+				.limit(20)
+				.collect(EvolutionResult.toBestEvolutionResult());
+		} finally {
+			if (executor instanceof ExecutorService) {
+				((ExecutorService)executor).shutdown();
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalAlterPartitionSize() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.alterPartitionSize(1);
+	}
+
 	@DataProvider(name = "executors")
 	public Object[][] executors() {
 		return new Object[][] {
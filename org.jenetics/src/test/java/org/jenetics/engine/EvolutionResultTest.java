@@ -76,6 +76,9 @@ public class EvolutionResultTest
 				),
 				random.nextInt(100),
 				random.nextInt(100),
+				random.nextInt(100),
+				random.nextInt(100),
+				random.nextInt(100),
 				random.nextInt(100)
 			);
 		};
@@ -208,6 +211,19 @@ public class EvolutionResultTest
 		Assert.assertTrue(bigMinResult.compareTo(bigMinResult) == 0);
 	}
 
+	@Test
+	public void populationCopy() {
+		final EvolutionResult<IntegerGene, Integer> result =
+			newResult(Optimize.MAXIMUM, 10);
+		final int size = result.population().size();
+		final Population<IntegerGene, Integer> population = result.getPopulation();
+		population.clear();
+
+		Assert.assertEquals(result.getPopulation().size(), size);
+		Assert.assertEquals(result.population().size(), size);
+		Assert.assertNotSame(result.getPopulation(), result.population());
+	}
+
 	@Test
 	public void bestCollector() {
 		final int bestMaxValue = IntStream.range(0, 100)
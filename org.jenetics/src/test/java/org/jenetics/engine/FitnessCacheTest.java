@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.Genotype;
+import org.jenetics.IntegerChromosome;
+import org.jenetics.IntegerGene;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class FitnessCacheTest {
+
+	private static Genotype<IntegerGene> genotype(final int value) {
+		return Genotype.of(IntegerChromosome.of(IntegerGene.of(value, 0, 1000)));
+	}
+
+	@Test
+	public void hitsAndMisses() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Function<Genotype<IntegerGene>, Integer> ff = gt -> {
+			calls.incrementAndGet();
+			return gt.getGene().getAllele();
+		};
+
+		final FitnessCache<IntegerGene, Integer> cache = new FitnessCache<>(ff, 10);
+		for (int i = 0; i < 10; ++i) {
+			Assert.assertEquals(cache.apply(genotype(i)).intValue(), i);
+		}
+		for (int i = 0; i < 10; ++i) {
+			Assert.assertEquals(cache.apply(genotype(i)).intValue(), i);
+		}
+
+		Assert.assertEquals(calls.get(), 10);
+		Assert.assertEquals(cache.misses(), 10L);
+		Assert.assertEquals(cache.hits(), 10L);
+	}
+
+	@Test
+	public void leastRecentlyUsedEviction() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Function<Genotype<IntegerGene>, Integer> ff = gt -> {
+			calls.incrementAndGet();
+			return gt.getGene().getAllele();
+		};
+
+		final FitnessCache<IntegerGene, Integer> cache = new FitnessCache<>(ff, 2);
+		cache.apply(genotype(1));
+		cache.apply(genotype(2));
+		cache.apply(genotype(1));
+		cache.apply(genotype(3));
+
+		// Genotype 2 is the least recently used one and has been evicted.
+		cache.apply(genotype(1));
+		Assert.assertEquals(calls.get(), 3);
+		cache.apply(genotype(2));
+		Assert.assertEquals(calls.get(), 4);
+	}
+
+	@Test
+	public void segmentedEviction() {
+		final FitnessCache<IntegerGene, Integer> cache =
+			new FitnessCache<>(gt -> gt.getGene().getAllele(), 64, 4);
+		for (int i = 0; i < 1000; ++i) {
+			cache.apply(genotype(i));
+		}
+
+		Assert.assertEquals(cache.segments(), 4);
+		Assert.assertEquals(cache.count(), 64);
+	}
+
+	@Test
+	public void concurrentAccess() throws Exception {
+		final AtomicInteger calls = new AtomicInteger();
+		final Function<Genotype<IntegerGene>, Integer> ff = gt -> {
+			calls.incrementAndGet();
+			return gt.getGene().getAllele();
+		};
+
+		final int threads = 8;
+		final int lookups = 10_000;
+		final FitnessCache<IntegerGene, Integer> cache =
+			new FitnessCache<>(ff, 100, 4);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final List<Future<Boolean>> results = new ArrayList<>();
+			for (int t = 0; t < threads; ++t) {
+				final int seed = t;
+				results.add(executor.submit(() -> {
+					boolean correct = true;
+					for (int i = 0; i < lookups; ++i) {
+						final int value = (i*31 + seed)%200;
+						correct &= cache.apply(genotype(value)) == value;
+					}
+					return correct;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				Assert.assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Assert.assertEquals(cache.hits() + cache.misses(), (long)threads*lookups);
+		Assert.assertEquals(cache.misses(), (long)calls.get());
+		Assert.assertTrue(cache.count() <= 100, "Cache count: " + cache.count());
+	}
+
+	@Test
+	public void defaultSegments() {
+		Assert.assertEquals(FitnessCache.segments(1), 1);
+		Assert.assertEquals(FitnessCache.segments(31), 1);
+
+		final int segments = FitnessCache.segments(1_000_000);
+		Assert.assertEquals(Integer.bitCount(segments), 1);
+		Assert.assertTrue(
+			segments >= Runtime.getRuntime().availableProcessors(),
+			"Segments: " + segments
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSegments() {
+		new FitnessCache<IntegerGene, Integer>(gt -> 0, 100, 3);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroSize() {
+		new FitnessCache<IntegerGene, Integer>(gt -> 0, 0);
+	}
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Optimize;
+import org.jenetics.Population;
+import org.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	private static Engine<DoubleGene, Double> engine(final Optimize optimize) {
+		return Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.optimize(optimize)
+			.populationSize(20)
+			.build();
+	}
+
+	@Test(dataProvider = "topologies")
+	public void evolve(final IslandEngine.Topology topology) {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.builder(engine(Optimize.MAXIMUM))
+			.islands(5)
+			.migrationInterval(3)
+			.migrationCount(2)
+			.topology(topology)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getPopulation().size(), 100);
+		Assert.assertEquals(engine.getPopulationSize(), 100);
+		Assert.assertEquals(result.getTotalGenerations(), 10);
+		Assert.assertTrue(result.getBestFitness() > 0.9);
+	}
+
+	@DataProvider(name = "topologies")
+	public Object[][] topologies() {
+		return new Object[][] {
+			{IslandEngine.Topology.RING},
+			{IslandEngine.Topology.FULLY_CONNECTED},
+			{IslandEngine.Topology.RANDOM}
+		};
+	}
+
+	@Test
+	public void generation() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.builder(engine(Optimize.MINIMUM))
+			.islands(3)
+			.migrationInterval(4)
+			.build();
+
+		final long[] generations = engine.stream()
+			.limit(3)
+			.mapToLong(EvolutionResult::getGeneration)
+			.toArray();
+
+		Assert.assertEquals(generations, new long[]{4, 8, 12});
+	}
+
+	@Test
+	public void migration() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.builder(engine(Optimize.MAXIMUM))
+			.islands(4)
+			.migrationInterval(1)
+			.migrationCount(5)
+			.topology(IslandEngine.Topology.FULLY_CONNECTED)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(1)
+			.findFirst()
+			.get();
+
+		// The best individual must exist in every island after the migration.
+		final Population<DoubleGene, Double> population = result.getPopulation();
+		for (int i = 0; i < 4; ++i) {
+			Assert.assertTrue(
+				population.subList(i*20, (i + 1)*20)
+					.contains(result.getBestPhenotype()),
+				"Best individual not found in island " + i
+			);
+		}
+	}
+
+	@Test
+	public void initialPopulation() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.builder(engine(Optimize.MAXIMUM))
+			.islands(3)
+			.migrationInterval(2)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.findFirst()
+			.get();
+
+		final EvolutionResult<DoubleGene, Double> result = engine
+			.stream(first.getPopulation())
+			.limit(2)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getPopulation().size(), 60);
+		Assert.assertTrue(result.getBestFitness() >= first.getBestFitness());
+	}
+
+	@Test
+	public void executor() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final IslandEngine<DoubleGene, Double> engine = IslandEngine
+				.builder(engine(Optimize.MAXIMUM))
+				.islands(8)
+				.executor(executor)
+				.build();
+
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(limit.bySteadyFitness(3))
+				.limit(20)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.getPopulation().size(), 160);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void fitnessCacheCounts() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					calls.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.fitnessCacheSize(1000)
+			.populationSize(20)
+			.build();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final ISeq<EvolutionResult<DoubleGene, Double>> results = IslandEngine
+				.builder(engine)
+				.islands(4)
+				.migrationInterval(3)
+				.executor(executor)
+				.build()
+				.stream()
+				.limit(5)
+				.collect(ISeq.toISeq());
+
+			// Every cache miss calls the fitness function exactly once.
+			final int misses = results.stream()
+				.mapToInt(EvolutionResult::getFitnessCacheMisses)
+				.sum();
+			Assert.assertEquals(misses, calls.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void tooManyImmigrants() {
+		IslandEngine.builder(engine(Optimize.MAXIMUM))
+			.islands(11)
+			.migrationCount(2)
+			.topology(IslandEngine.Topology.FULLY_CONNECTED)
+			.build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroIslands() {
+		IslandEngine.builder(engine(Optimize.MAXIMUM)).islands(0);
+	}
+
+}
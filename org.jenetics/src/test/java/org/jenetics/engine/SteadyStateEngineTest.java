@@ -0,0 +1,191 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class SteadyStateEngineTest {
+
+	private static Engine<DoubleGene, Double> engine(final Optimize optimize) {
+		return Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.optimize(optimize)
+			.populationSize(20)
+			.build();
+	}
+
+	@Test
+	public void evolve() {
+		final SteadyStateEngine<DoubleGene, Double> engine =
+			SteadyStateEngine.of(engine(Optimize.MAXIMUM), 4);
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(100)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getPopulation().size(), 20);
+		Assert.assertEquals(result.getTotalGenerations(), 100);
+		Assert.assertTrue(result.getBestFitness() > 0.9);
+	}
+
+	@Test
+	public void replaceWorst() {
+		final SteadyStateEngine<DoubleGene, Double> engine =
+			SteadyStateEngine.of(engine(Optimize.MINIMUM), 5);
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.findFirst()
+			.get();
+		final EvolutionResult<DoubleGene, Double> second = engine
+			.apply(EvolutionStart.of(first.getPopulation(), 2));
+
+		// The best 15 individuals of the first population survive.
+		final Population<DoubleGene, Double> population =
+			new Population<>(first.getPopulation());
+		population.sortWith(Optimize.MINIMUM.descending());
+		for (Phenotype<DoubleGene, Double> pt : population.subList(0, 15)) {
+			Assert.assertTrue(second.getPopulation().contains(pt));
+		}
+		Assert.assertEquals(second.getPopulation().size(), 20);
+	}
+
+	@Test
+	public void evaluations() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					evaluations.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		SteadyStateEngine.of(engine, 3).stream()
+			.limit(10)
+			.forEach(r -> {});
+
+		// Initial population plus at most three altered offspring per step.
+		// Three more offspring evaluations are started after the last step.
+		Assert.assertTrue(evaluations.get() > 20);
+		Assert.assertTrue(evaluations.get() <= 20 + 11*3);
+	}
+
+	@Test(timeOut = 10_000)
+	public void noBarrier() {
+		final AtomicInteger calls = new AtomicInteger();
+		final CompletableFuture<Double> never = new CompletableFuture<>();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt ->
+				// The first offspring evaluation never finishes.
+				calls.incrementAndGet() == 21
+					? never
+					: CompletableFuture.completedFuture(gt.getGene().getAllele()))
+			.populationSize(20)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			SteadyStateEngine.of(engine, 4).stream()
+				.limit(10)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getTotalGenerations(), 10);
+		Assert.assertFalse(never.isDone());
+	}
+
+	@Test(dataProvider = "timeoutFitness")
+	public void evaluationTimeout(final Double timeoutFitness) {
+		final AtomicInteger calls = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt ->
+				calls.incrementAndGet() == 21
+					? new CompletableFuture<>()
+					: CompletableFuture.completedFuture(gt.getGene().getAllele()))
+			.evaluationTimeout(Duration.ofMillis(50), timeoutFitness)
+			.populationSize(20)
+			.build();
+
+		// Only one offspring evaluation is running; the first step has to wait
+		// for the timeout of the first offspring evaluation.
+		final int timeouts = SteadyStateEngine.of(engine, 1).stream()
+			.limit(10)
+			.mapToInt(EvolutionResult::getTimeoutCount)
+			.sum();
+
+		Assert.assertEquals(timeouts, 1);
+	}
+
+	@DataProvider(name = "timeoutFitness")
+	public Object[][] timeoutFitness() {
+		return new Object[][] {
+			{-1.0},
+			{null}
+		};
+	}
+
+	@Test
+	public void initialPopulation() {
+		final SteadyStateEngine<DoubleGene, Double> engine =
+			SteadyStateEngine.of(engine(Optimize.MAXIMUM), 2);
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.findFirst()
+			.get();
+
+		final EvolutionResult<DoubleGene, Double> result = engine
+			.stream(first.getPopulation())
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getPopulation().size(), 20);
+		Assert.assertTrue(result.getBestFitness() >= first.getBestFitness());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroReplacementCount() {
+		SteadyStateEngine.of(engine(Optimize.MAXIMUM), 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void tooBigReplacementCount() {
+		SteadyStateEngine.of(engine(Optimize.MAXIMUM), 21);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.IO;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class ChunkedListTest {
+
+	private static List<Integer> values(final int length) {
+		return IntStream.range(0, length).boxed().collect(Collectors.toList());
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final List<Integer> values = values(5000);
+		final ChunkedList<Integer> list = ChunkedList.of(values);
+		final ChunkedList<Integer> copy1 = list.copy();
+		final ChunkedList<Integer> copy2 = copy1.copy();
+
+		Assert.assertEquals(list.set(10, -1).intValue(), 10);
+		copy1.set(10, -2);
+		copy2.set(4999, -3);
+
+		Assert.assertEquals(list.size(), 5000);
+		Assert.assertEquals(copy1.size(), 5000);
+		Assert.assertEquals(copy2.size(), 5000);
+		for (int i = 0; i < 5000; ++i) {
+			Assert.assertEquals(list.get(i).intValue(), i == 10 ? -1 : i);
+			Assert.assertEquals(copy1.get(i).intValue(), i == 10 ? -2 : i);
+			Assert.assertEquals(copy2.get(i).intValue(), i == 4999 ? -3 : i);
+		}
+	}
+
+	@Test
+	public void structuralModification() {
+		final ChunkedList<Integer> list = ChunkedList.of(values(2000));
+		final ChunkedList<Integer> copy = list.copy();
+
+		copy.add(-1);
+		copy.remove(0);
+		Assert.assertEquals(copy.size(), 2000);
+		Assert.assertEquals(copy.get(0).intValue(), 1);
+		Assert.assertEquals(copy.get(1999).intValue(), -1);
+		Assert.assertEquals(list, values(2000));
+
+		final ChunkedList<Integer> copy2 = copy.copy();
+		copy2.set(0, -2);
+		Assert.assertEquals(copy.get(0).intValue(), 1);
+
+		copy.clear();
+		Assert.assertTrue(copy.isEmpty());
+		Assert.assertEquals(copy2.size(), 2000);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		// The last chunk is not full.
+		ChunkedList.of(values(2000)).get(2000);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void setOutOfBounds() {
+		ChunkedList.of(values(2000)).set(-1, 0);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		final ChunkedList<Integer> list = ChunkedList.of(values(2000));
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.object.write(list, out);
+		final Object object = IO.object
+			.read(new ByteArrayInputStream(out.toByteArray()));
+
+		Assert.assertEquals(object.getClass(), ArrayList.class);
+		Assert.assertEquals(object, list);
+	}
+
+}
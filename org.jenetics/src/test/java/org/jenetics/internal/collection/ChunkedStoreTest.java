@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import java.lang.reflect.Field;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.internal.collection.Array.Store;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+import org.jenetics.util.MSeqTestBase;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+@Test
+public class ChunkedStoreTest extends MSeqTestBase {
+
+	@Override
+	protected MSeq<Integer> newSeq(final int length) {
+		return new ArrayMSeq<>(Array.of(ChunkedStore.of(values(0, length))));
+	}
+
+	private static Object[] values(final int start, final int length) {
+		return IntStream.range(start, start + length).boxed().toArray();
+	}
+
+	@Test
+	public void copyPromotion() {
+		final Store<Integer> flat = ObjectStore.of(values(0, 2000));
+		Assert.assertTrue(flat.copy(0, 2000) instanceof ChunkedStore<?>);
+		Assert.assertTrue(flat.copy(0, 1000) instanceof ObjectStore<?>);
+
+		final Store<Integer> chunked = ChunkedStore.of(values(0, 2000));
+		Assert.assertTrue(chunked.copy(0, 1000) instanceof ObjectStore<?>);
+		Assert.assertTrue(chunked.copy(64, 2000) instanceof ChunkedStore<?>);
+		Assert.assertTrue(chunked.copy(65, 2000) instanceof ChunkedStore<?>);
+	}
+
+	@Test
+	public void copy() {
+		final Random random = new Random(123);
+		final int length = 5000;
+		final Store<Integer> store = ChunkedStore.of(values(0, length));
+
+		for (int i = 0; i < 100; ++i) {
+			final int from = random.nextInt(length - ChunkedStore.MIN_LENGTH);
+			final int until = from + ChunkedStore.MIN_LENGTH +
+				random.nextInt(length - from - ChunkedStore.MIN_LENGTH + 1);
+
+			final Store<Integer> copy = store.copy(from, until);
+			Assert.assertEquals(copy.length(), until - from);
+			for (int j = 0; j < copy.length(); ++j) {
+				Assert.assertEquals(copy.get(j).intValue(), j + from);
+			}
+		}
+	}
+
+	@Test
+	public void copyRangeReferences() throws Exception {
+		final Object[] values = values(0, 5000);
+		final Store<Integer> flat = ChunkedStore.of(values, 100, 1300);
+		final Store<Integer> aligned = ChunkedStore.<Integer>of(values).copy(64, 1300);
+
+		// The copies must not reference elements outside the copied range.
+		Assert.assertEquals(elements(flat), 1200);
+		Assert.assertEquals(elements(aligned), 1300 - 64);
+	}
+
+	// Return the number of non-null chunk elements of the given store.
+	private static int elements(final Store<?> store) throws Exception {
+		final Field field = ChunkedStore.class.getDeclaredField("_chunks");
+		field.setAccessible(true);
+
+		int count = 0;
+		for (Object[] chunk : (Object[][])field.get(store)) {
+			for (Object value : chunk) {
+				if (value != null) ++count;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final int length = 5000;
+		final Store<Integer> store = ChunkedStore.of(values(0, length));
+		final Store<Integer> copy1 = store.copy(0, length);
+		final Store<Integer> copy2 = copy1.copy(0, length);
+
+		store.set(10, -1);
+		copy1.set(10, -2);
+		copy1.set(11, -3);
+		copy2.set(length - 1, -4);
+		final Store<Integer> copy3 = copy2.copy(0, length);
+		copy3.set(length - 1, -5);
+
+		for (int i = 0; i < length; ++i) {
+			Assert.assertEquals(store.get(i).intValue(), i == 10 ? -1 : i);
+			Assert.assertEquals(
+				copy1.get(i).intValue(),
+				i == 10 ? -2 : i == 11 ? -3 : i
+			);
+			Assert.assertEquals(copy2.get(i).intValue(), i == length - 1 ? -4 : i);
+			Assert.assertEquals(copy3.get(i).intValue(), i == length - 1 ? -5 : i);
+		}
+	}
+
+	@Test
+	public void sealedSeq() {
+		final MSeq<Integer> seq = MSeq.<Integer>ofLength(5000)
+			.setAll(IntStream.range(0, 5000).boxed().iterator());
+		final ISeq<Integer> iseq = seq.copy().toISeq();
+
+		final MSeq<Integer> copy = iseq.copy();
+		copy.set(100, -1);
+		copy.copy().set(200, -1);
+
+		Assert.assertEquals(iseq.get(100).intValue(), 100);
+		Assert.assertEquals(copy.get(100).intValue(), -1);
+		Assert.assertEquals(copy.get(200).intValue(), 200);
+		Assert.assertEquals(iseq, seq);
+	}
+
+	@Test
+	public void sort() {
+		final Store<Integer> store = ChunkedStore.of(values(0, 5000));
+		final Store<Integer> copy = store.copy(0, 5000);
+
+		copy.sort(100, 4000, (a, b) -> b.compareTo(a));
+		for (int i = 0; i < 5000; ++i) {
+			Assert.assertEquals(store.get(i).intValue(), i);
+			Assert.assertEquals(
+				copy.get(i).intValue(),
+				i >= 100 && i < 4000 ? 4099 - i : i
+			);
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class ConcurrencyTest {
+
+	private final ExecutorService _service = Executors.newFixedThreadPool(3);
+
+	@AfterClass
+	public void shutdown() {
+		_service.shutdown();
+	}
+
+	@Test(dataProvider = "executors")
+	public void execute(final Executor executor, final Integer size) {
+		final ExecutionCost cost = new ExecutionCost();
+		final AtomicIntegerArray counts = new AtomicIntegerArray(size);
+		final List<Runnable> runnables = IntStream.range(0, size)
+			.mapToObj(i -> (Runnable)() -> counts.incrementAndGet(i))
+			.collect(Collectors.toCollection(LinkedList::new));
+
+		// Second execution uses the recorded execution cost.
+		for (int n = 0; n < 2; ++n) {
+			try (Concurrency c = Concurrency.with(executor, cost)) {
+				c.execute(runnables);
+			}
+		}
+
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(counts.get(i), 2, "Runnable " + i);
+		}
+		if (size > 0 && executor != Concurrency.SERIAL_EXECUTOR) {
+			Assert.assertFalse(Double.isNaN(cost.taskNanos()));
+		}
+	}
+
+	@Test(dataProvider = "executors")
+	public void perTask(final Executor executor, final Integer size) {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(size);
+		final List<Runnable> runnables = IntStream.range(0, size)
+			.mapToObj(i -> (Runnable)() -> counts.incrementAndGet(i))
+			.collect(Collectors.toList());
+
+		try (Concurrency c = Concurrency.perTask(executor)) {
+			c.execute(runnables);
+		}
+
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(counts.get(i), 1, "Runnable " + i);
+		}
+	}
+
+	@Test
+	public void perTaskExecutor() {
+		Assert.assertSame(
+			Concurrency.perTaskExecutor(),
+			Concurrency.perTaskExecutor()
+		);
+	}
+
+	@DataProvider(name = "executors")
+	public Object[][] executors() {
+		final Executor executor = Runnable::run;
+		return new Object[][] {
+			{ForkJoinPool.commonPool(), 0},
+			{ForkJoinPool.commonPool(), 1},
+			{ForkJoinPool.commonPool(), 1000},
+			{_service, 0},
+			{_service, 1},
+			{_service, 1000},
+			{executor, 0},
+			{executor, 1},
+			{executor, 1000},
+			{Concurrency.SERIAL_EXECUTOR, 1000},
+			{Concurrency.perTaskExecutor(), 1000}
+		};
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class ExecutionCostTest {
+
+	@Test
+	public void initialChunkSize() {
+		final ExecutionCost cost = new ExecutionCost();
+		Assert.assertTrue(Double.isNaN(cost.taskNanos()));
+		Assert.assertEquals(cost.chunkSize(100, 5), 5);
+		Assert.assertEquals(cost.chunkSize(3, 5), 1);
+	}
+
+	@Test
+	public void cheapTasks() {
+		final ExecutionCost cost = new ExecutionCost();
+		cost.record(1000, 1000);
+
+		// Cheap tasks are statically partitioned.
+		Assert.assertEquals(cost.taskNanos(), 1.0);
+		Assert.assertEquals(cost.chunkSize(1000, 4), 250);
+	}
+
+	@Test
+	public void expensiveTasks() {
+		final ExecutionCost cost = new ExecutionCost();
+		cost.record(10, 10*ExecutionCost.TARGET_CHUNK_NANOS);
+		Assert.assertEquals(cost.chunkSize(1000, 4), 1);
+	}
+
+	@Test
+	public void movingAverage() {
+		final ExecutionCost cost = new ExecutionCost();
+		cost.record(1, 1000);
+		cost.record(1, 3000);
+		Assert.assertEquals(cost.taskNanos(), 2000.0);
+		Assert.assertEquals(
+			cost.chunkSize(1000, 4),
+			ExecutionCost.TARGET_CHUNK_NANOS/2000
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroSize() {
+		new ExecutionCost().chunkSize(0, 4);
+	}
+
+}
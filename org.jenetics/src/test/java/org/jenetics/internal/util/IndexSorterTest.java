@@ -55,19 +55,60 @@ public class IndexSorterTest {
     public void sortSpecial(final double[] values) {
         final double[] indexHeapSortedValues = indexSort(new HeapSorter(), values);
         final double[] indexInsertionSortedValues2 = indexSort(new InsertionSorter(), values);
+		final double[] indexRadixSortedValues = indexSort(new RadixSorter(true), values);
 		final double[] arraySorted = arraySort(values);
 
         Assert.assertEquals(indexHeapSortedValues, arraySorted);
 		Assert.assertEquals(indexInsertionSortedValues2, arraySorted);
+		Assert.assertEquals(indexRadixSortedValues, arraySorted);
     }
 
+	@Test(dataProvider = "stableSortSizes")
+	public void stableSort(final Integer size, final Boolean descending) {
+		final Random random = new Random(size);
+		final double[] values = new double[size];
+		final double[] special = {Double.NaN, 0.0, -0.0, 1.0, -1.0};
+		for (int i = 0; i < size; ++i) {
+			values[i] = random.nextInt(4) == 0
+				? special[random.nextInt(special.length)]
+				: random.nextInt(size/2 + 1) - size/4;
+		}
+
+		final Integer[] expected = new Integer[size];
+		for (int i = 0; i < size; ++i) {
+			expected[i] = i;
+		}
+		Arrays.sort(expected, (a, b) -> descending
+			? Double.compare(values[b], values[a])
+			: Double.compare(values[a], values[b]));
+
+		final int[] indexes = IndexSorter.sort(values, descending);
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(indexes[i], expected[i].intValue());
+		}
+	}
+
+	@DataProvider(name = "stableSortSizes")
+	public Object[][] stableSortSizes() {
+		return new Object[][] {
+			{0, true}, {1, true}, {2, true}, {10, true}, {79, true},
+			{80, true}, {100, true}, {499, true}, {500, true}, {1000, true},
+			{10_000, true},
+			{0, false}, {1, false}, {2, false}, {10, false}, {79, false},
+			{80, false}, {100, false}, {499, false}, {500, false},
+			{1000, false}, {10_000, false}
+		};
+	}
+
     @DataProvider(name = "specialArray")
     public Object[][] specialArray() {
         return new Object[][] {
             {new double[]{0.0, 0.0, 0.0, 0.0, 1.0}},
             {new double[]{1.0, 0.0, 0.0, 0.0, 0.0}},
             {new double[]{1.0, 0.0, 0.0, 0.0, 1.0}},
-            {new double[]{2.0, 0.0, 1.0, 1.0, 1.0}}
+            {new double[]{2.0, 0.0, 1.0, 1.0, 1.0}},
+            {new double[]{-2.0, 3.0, -1.5, 1.0E-300, -1.0E-300}},
+            {new double[]{Double.MAX_VALUE, Double.NEGATIVE_INFINITY, 0.5, -0.5}}
         };
     }
 
@@ -115,7 +156,21 @@ public class IndexSorterTest {
 			{new HeapSorter(), 5},
 			{new HeapSorter(), 11},
 			{new HeapSorter(), 1000},
-			{new HeapSorter(), 10_000}
+			{new HeapSorter(), 10_000},
+			{new RadixSorter(true), 1},
+			{new RadixSorter(true), 2},
+			{new RadixSorter(true), 3},
+			{new RadixSorter(true), 5},
+			{new RadixSorter(true), 1000},
+			{new RadixSorter(true), 100_000},
+			{new StableInsertionSorter(true), 1},
+			{new StableInsertionSorter(true), 2},
+			{new StableInsertionSorter(true), 33},
+			{new StableHeapSorter(true), 1},
+			{new StableHeapSorter(true), 2},
+			{new StableHeapSorter(true), 3},
+			{new StableHeapSorter(true), 11},
+			{new StableHeapSorter(true), 1000}
 		};
 	}
 
@@ -188,6 +188,56 @@ public class bitTest {
 		}
 	}
 
+	@Test
+	public void swapAligned() {
+		final Random random = new Random(123);
+		final int bitLength = 1_000;
+
+		for (int i = 0; i < 1_000; ++i) {
+			final byte[] seq = newByteArray(bitLength/8, random);
+			final byte[] other = newByteArray(bitLength/8, random);
+			final byte[] expectedSeq = seq.clone();
+			final byte[] expectedOther = other.clone();
+
+			final int start = random.nextInt(bitLength);
+			final int end = start + random.nextInt(bitLength - start + 1);
+
+			bit.swap(seq, start, end, other, start);
+			for (int j = start; j < end; ++j) {
+				final boolean temp = bit.get(expectedSeq, j);
+				bit.set(expectedSeq, j, bit.get(expectedOther, j));
+				bit.set(expectedOther, j, temp);
+			}
+
+			Assert.assertEquals(seq, expectedSeq);
+			Assert.assertEquals(other, expectedOther);
+		}
+	}
+
+	@Test
+	public void swapMask() {
+		final Random random = new Random(123);
+		final int byteLength = 126;
+
+		final byte[] seq = newByteArray(byteLength, random);
+		final byte[] other = newByteArray(byteLength, random);
+		final byte[] mask = newByteArray(byteLength, random);
+		final byte[] expectedSeq = seq.clone();
+		final byte[] expectedOther = other.clone();
+
+		bit.swap(seq, other, mask);
+		for (int j = 0; j < mask.length*8; ++j) {
+			if (bit.get(mask, j)) {
+				final boolean temp = bit.get(expectedSeq, j);
+				bit.set(expectedSeq, j, bit.get(expectedOther, j));
+				bit.set(expectedOther, j, temp);
+			}
+		}
+
+		Assert.assertEquals(seq, expectedSeq);
+		Assert.assertEquals(other, expectedOther);
+	}
+
 	private static byte[] newByteArray(final int length, final Random random) {
 		final byte[] array = new byte[length];
 		for (int i = 0; i < length; ++i) {
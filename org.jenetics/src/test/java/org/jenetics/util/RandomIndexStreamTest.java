@@ -20,6 +20,7 @@
 package org.jenetics.util;
 
 import static org.jenetics.internal.math.random.indexes;
+import static org.jenetics.internal.math.random.skipIndexes;
 
 import java.util.PrimitiveIterator.OfInt;
 import java.util.Random;
@@ -80,6 +81,30 @@ public class RandomIndexStreamTest {
 		}
 	}
 
+	@Test(dataProvider = "probabilities")
+	public void skipIndexesDistribution(final Integer n, final Double p) {
+		final Random random = new LCG64ShiftRandom(n);
+		final int start = n/10;
+
+		final LongMomentStatistics statistics = new LongMomentStatistics();
+		for (int i = 0; i < 1000; ++i) {
+			final IntRef last = new IntRef(start - 1);
+			final IntRef count = new IntRef(0);
+			skipIndexes(random, start, n, p).forEach(index -> {
+				Assert.assertTrue(index > last.value);
+				Assert.assertTrue(index < n);
+				last.value = index;
+				++count.value;
+			});
+			statistics.accept(count.value);
+		}
+
+		// The mean of 1000 binomial samples is within six standard errors.
+		final double mean = (n - start)*p;
+		final double error = Math.sqrt((n - start)*p*(1 - p)/1000.0);
+		Assert.assertEquals(statistics.getMean(), mean, 6*error);
+	}
+
 	@Test(dataProvider = "probabilities")
 	public void distribution(final Integer n, final Double p) {
 		final double mean = n*p;